@@ -82,6 +82,9 @@ public class McpSecurityConfig {
                         // Endpoints públicos para actuator
                         .pathMatchers("/actuator/health", "/actuator/info").permitAll()
                         .pathMatchers("/h2-console/**").permitAll()
+                        // Los spans exponen parámetros y clientes de otras sesiones
+                        .pathMatchers("/actuator/spans", "/actuator/spans/**")
+                        .hasRole("MCP.ADMIN")
                         // Resto requiere autenticación
                         .anyExchange().authenticated())
                 .oauth2ResourceServer(oauth2 -> oauth2
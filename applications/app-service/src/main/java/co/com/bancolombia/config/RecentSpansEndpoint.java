@@ -0,0 +1,70 @@
+package co.com.bancolombia.config;
+
+import io.opentelemetry.sdk.trace.data.SpanData;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * {@code /actuator/spans}: las trazas del {@link RecentSpansExporter}, la más reciente primero
+ * <p>
+ * Cada span indica cuándo empezó respecto al inicio de su traza y cuánto duró: así se ve qué
+ * parte de una llamada MCP se fue en seguridad, caso de uso, adaptador, HTTP o render. Requiere
+ * el rol {@code MCP.ADMIN} (ver {@link McpSecurityConfig}).
+ */
+@Endpoint(id = "spans")
+@RequiredArgsConstructor
+public class RecentSpansEndpoint {
+
+    private final RecentSpansExporter exporter;
+
+    @ReadOperation
+    public List<Trace> traces() {
+        Map<String, List<SpanData>> byTrace = new LinkedHashMap<>();
+        for (SpanData span : exporter.spans().reversed()) {
+            byTrace.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+        return byTrace.entrySet().stream()
+                .map(entry -> trace(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private static Trace trace(String traceId, List<SpanData> spans) {
+        long start = spans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElse(0);
+        long end = spans.stream().mapToLong(SpanData::getEndEpochNanos).max().orElse(0);
+        List<Span> views = spans.stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .map(span -> new Span(span.getName(), span.getSpanId(),
+                        span.getParentSpanContext().isValid() ? span.getParentSpanId() : null,
+                        micros(span.getStartEpochNanos() - start),
+                        micros(span.getEndEpochNanos() - span.getStartEpochNanos()),
+                        span.getStatus().getStatusCode().name(),
+                        attributes(span)))
+                .toList();
+        return new Trace(traceId, micros(end - start), views);
+    }
+
+    private static Map<String, String> attributes(SpanData span) {
+        Map<String, String> attributes = new LinkedHashMap<>();
+        span.getAttributes()
+                .forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        return attributes;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    public record Trace(String traceId, long durationMicros, List<Span> spans) {
+    }
+
+    public record Span(String name, String spanId, String parentSpanId, long startOffsetMicros,
+            long durationMicros, String status, Map<String, String> attributes) {
+    }
+}
@@ -0,0 +1,59 @@
+package co.com.bancolombia.config;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * {@link SpanExporter} que guarda en memoria los últimos spans terminados
+ * <p>
+ * Spring Boot lo añade al procesador por lotes junto al exportador OTLP (si está configurado).
+ * Pensado para pruebas y ejecuciones locales: los spans se consultan en
+ * {@link RecentSpansEndpoint} sin levantar un colector.
+ */
+public class RecentSpansExporter implements SpanExporter {
+
+    private final int capacity;
+    private final Deque<SpanData> spans = new ArrayDeque<>();
+
+    public RecentSpansExporter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "mcp.tracing.in-memory.capacity debe ser al menos 1 (" + capacity + ")");
+        }
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() >= capacity) {
+                spans.pollFirst();
+            }
+            spans.addLast(span);
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Spans conservados, del más antiguo al más reciente
+     */
+    public synchronized List<SpanData> spans() {
+        return List.copyOf(spans);
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -7,7 +7,8 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * Configuración para habilitar tareas programadas (Scheduling)
  * <p>
  * Esta anotación habilita el procesamiento de @Scheduled en: - ApiKeyRotationScheduler -
- * InMemoryCachedApiKeyRepository (refresh de caché)
+ * InMemoryCachedApiKeyRepository (refresh de caché) - CatalogSync (réplica del catálogo de
+ * Simpsons)
  */
 @Configuration
 @EnableScheduling
@@ -0,0 +1,43 @@
+package co.com.bancolombia.config;
+
+import co.com.bancolombia.mcp.audit.ApiKeyAuditAspect;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Trazas de extremo a extremo de las llamadas MCP
+ * <p>
+ * Con el puente de Micrometer Tracing a OpenTelemetry, cada observación es un span: la petición
+ * HTTP y la autenticación (Spring WebFlux y Spring Security), {@code mcp.call}
+ * ({@link ApiKeyAuditAspect}), el caso de uso, {@code simpsons.gateway}, el intercambio del
+ * WebClient ({@code http.client.requests}) y el render JSON. El contexto viaja por Reactor con
+ * {@code spring.reactor.context-propagation=auto}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mcp.tracing.in-memory", name = "enabled", havingValue = "true")
+    public RecentSpansExporter recentSpansExporter(TracingProperties properties) {
+        return new RecentSpansExporter(properties.getInMemory().getCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "mcp.tracing.in-memory", name = "enabled", havingValue = "true")
+    public RecentSpansEndpoint recentSpansEndpoint(RecentSpansExporter recentSpansExporter) {
+        return new RecentSpansEndpoint(recentSpansExporter);
+    }
+
+    /**
+     * El timer de la observación {@code mcp.call} duplicaría {@code mcp.calls}, que ya mide lo
+     * mismo con tag de cliente y buckets SLO: la observación queda solo como span
+     */
+    @Bean
+    public MeterFilter mcpCallObservationMeterFilter() {
+        String timer = ApiKeyAuditAspect.OBSERVATION;
+        String active = timer + ".active";
+        return MeterFilter.deny(id -> id.getName().equals(timer) || id.getName().equals(active));
+    }
+}
@@ -0,0 +1,30 @@
+package co.com.bancolombia.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Exportador de spans en memoria para pruebas y ejecuciones locales ({@code /actuator/spans})
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.tracing")
+public class TracingProperties {
+
+    private InMemory inMemory = new InMemory();
+
+    @Setter
+    @Getter
+    public static class InMemory {
+
+        private boolean enabled = false;
+        /**
+         * Spans terminados que se conservan; al superarlo se descartan los más antiguos.
+         * Debe ser al menos 1
+         */
+        private int capacity = 2000;
+    }
+}
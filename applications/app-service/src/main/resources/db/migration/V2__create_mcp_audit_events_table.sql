@@ -0,0 +1,17 @@
+-- applications/app-service/src/main/resources/db/migration/V2__create_mcp_audit_events_table.sql
+CREATE TABLE IF NOT EXISTS mcp_audit_events
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    mcp_type    VARCHAR(16)              NOT NULL,
+    client_id   VARCHAR(255)             NOT NULL,
+    target      VARCHAR(255)             NOT NULL,
+    arguments   VARCHAR(1000)            NULL,
+    success     BOOLEAN                  NOT NULL,
+    duration_ms BIGINT                   NOT NULL,
+    error       VARCHAR(500)             NULL
+);
+
+-- Consultas habituales: por ventana de tiempo y por cliente
+CREATE INDEX IF NOT EXISTS idx_mcp_audit_events_occurred_at ON mcp_audit_events (occurred_at);
+CREATE INDEX IF NOT EXISTS idx_mcp_audit_events_client_id ON mcp_audit_events (client_id, occurred_at);
@@ -0,0 +1,77 @@
+package co.com.bancolombia.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RecentSpansExporter Unit Tests")
+class RecentSpansExporterTest {
+
+    private final RecentSpansExporter exporter = new RecentSpansExporter(3);
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+            .build();
+    private final Tracer tracer = tracerProvider.get("test");
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    private void trace(String root, String... children) {
+        Span parent = tracer.spanBuilder(root).startSpan();
+        try (Scope ignored = parent.makeCurrent()) {
+            for (String child : children) {
+                tracer.spanBuilder(child).startSpan().end();
+            }
+        } finally {
+            parent.end();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe conservar solo los últimos spans hasta la capacidad")
+    void shouldKeepLatestSpans() {
+        trace("mcp.call", "usecase", "simpsons.gateway");
+        trace("otra");
+
+        assertEquals(3, exporter.spans().size());
+        assertEquals("simpsons.gateway", exporter.spans().getFirst().getName());
+        assertEquals("otra", exporter.spans().getLast().getName());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una capacidad menor que 1")
+    void shouldRejectNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new RecentSpansExporter(0));
+        assertThrows(IllegalArgumentException.class, () -> new RecentSpansExporter(-1));
+    }
+
+    @Test
+    @DisplayName("Debe agrupar los spans por traza, la más reciente primero")
+    void shouldGroupSpansByTrace() {
+        trace("mcp.call", "usecase");
+        trace("otra");
+
+        var traces = new RecentSpansEndpoint(exporter).traces();
+
+        assertEquals(2, traces.size());
+        assertEquals("otra", traces.getFirst().spans().getFirst().name());
+        var call = traces.getLast();
+        SpanData root = exporter.spans().get(1);
+        assertEquals(root.getTraceId(), call.traceId());
+        assertEquals("mcp.call", call.spans().getFirst().name());
+        assertNull(call.spans().getFirst().parentSpanId());
+        assertEquals(root.getSpanId(), call.spans().getLast().parentSpanId());
+    }
+}
@@ -0,0 +1,38 @@
+package co.com.bancolombia.model.audit;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Registro de auditoría de una llamada MCP
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class McpAuditEvent {
+
+    private Instant occurredAt;
+    /**
+     * {@code TOOL}, {@code RESOURCE} o {@code PROMPT}
+     */
+    private String type;
+    private String clientId;
+    /**
+     * Clase y método invocados, por ejemplo {@code SimpsonsTools.getCharacter}
+     */
+    private String target;
+    /**
+     * Argumentos ya resumidos y truncados
+     */
+    private String arguments;
+    private boolean success;
+    private long durationMs;
+    /**
+     * Mensaje del error si la llamada falló
+     */
+    private String error;
+}
@@ -0,0 +1,15 @@
+package co.com.bancolombia.model.audit.gateways;
+
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * Almacenamiento de los registros de auditoría MCP
+ * <p>
+ * Guarda el lote completo o falla: no persiste parcialmente.
+ */
+public interface McpAuditGateway {
+
+    Mono<Void> saveAll(List<McpAuditEvent> events);
+}
@@ -0,0 +1,23 @@
+package co.com.bancolombia.model.jfr;
+
+/**
+ * Nombres de los eventos JFR propios de la aplicación
+ * <p>
+ * Cada evento vive en el módulo que lo emite; el nombre se publica aquí para que quien graba (el
+ * servidor MCP) pueda habilitarlo y resumirlo sin depender de ese módulo.
+ */
+public final class JfrEventNames {
+
+    /**
+     * Llamada MCP (tool, resource o prompt), emitida por el servidor MCP
+     */
+    public static final String MCP_CALL = "co.com.bancolombia.McpCall";
+
+    /**
+     * Petición al API de Simpsons, emitida por el adaptador REST
+     */
+    public static final String UPSTREAM_EXCHANGE = "co.com.bancolombia.UpstreamExchange";
+
+    private JfrEventNames() {
+    }
+}
@@ -0,0 +1,21 @@
+package co.com.bancolombia.model.simpsons;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio detectado en el catálogo del upstream: una entidad nueva ({@code created}) o una ya
+ * conocida cuyo contenido cambió
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimpsonsChange {
+
+    private SimpsonsEntityType type;
+    private Integer id;
+    private boolean created;
+}
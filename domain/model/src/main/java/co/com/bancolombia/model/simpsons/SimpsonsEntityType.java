@@ -0,0 +1,10 @@
+package co.com.bancolombia.model.simpsons;
+
+/**
+ * Tipos de entidad del catálogo de Simpsons
+ */
+public enum SimpsonsEntityType {
+    CHARACTER,
+    EPISODE,
+    LOCATION
+}
@@ -0,0 +1,24 @@
+package co.com.bancolombia.model.simpsons;
+
+import java.nio.ByteBuffer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Imagen binaria del catálogo (retrato de un personaje o imagen de un episodio)
+ * <p>
+ * {@code content} es un buffer de solo lectura que puede estar respaldado directamente por el
+ * archivo en caché; quien lo consuma debe usar {@link ByteBuffer#duplicate()} si necesita mover
+ * la posición.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimpsonsImage {
+
+    private String mimeType;
+    private ByteBuffer content;
+}
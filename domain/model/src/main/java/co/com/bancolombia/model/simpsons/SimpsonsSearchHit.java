@@ -0,0 +1,22 @@
+package co.com.bancolombia.model.simpsons;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una búsqueda de texto en el catálogo; {@code score} es la relevancia BM25 y solo
+ * sirve para comparar resultados de la misma consulta
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimpsonsSearchHit {
+
+    private SimpsonsEntityType type;
+    private Integer id;
+    private String name;
+    private Double score;
+}
@@ -0,0 +1,14 @@
+package co.com.bancolombia.model.simpsons.gateways;
+
+import co.com.bancolombia.model.simpsons.SimpsonsChange;
+import reactor.core.publisher.Flux;
+
+/**
+ * Flujo caliente de cambios del catálogo de Simpsons
+ * <p>
+ * Solo emite lo que se detecte después de suscribirse; no repite cambios anteriores.
+ */
+public interface SimpsonsChangeGateway {
+
+    Flux<SimpsonsChange> changes();
+}
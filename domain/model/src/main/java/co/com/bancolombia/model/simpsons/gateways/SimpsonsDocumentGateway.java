@@ -0,0 +1,19 @@
+package co.com.bancolombia.model.simpsons.gateways;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Acceso en modo pass-through al catálogo de Simpsons
+ * <p>
+ * Devuelve directamente el documento JSON de cada entidad, ya filtrado a los campos que expone el
+ * modelo de dominio y con sus mismos nombres, sin pasar por objetos intermedios. Pensado para
+ * quien solo necesita reenviar el JSON (por ejemplo, los resources MCP).
+ */
+public interface SimpsonsDocumentGateway {
+
+    Mono<String> getCharacterDocument(Integer id);
+
+    Mono<String> getEpisodeDocument(Integer id);
+
+    Mono<String> getLocationDocument(Integer id);
+}
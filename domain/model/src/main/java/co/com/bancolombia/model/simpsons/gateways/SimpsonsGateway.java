@@ -3,6 +3,8 @@ package co.com.bancolombia.model.simpsons.gateways;
 import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
 import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
 import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import java.util.Collection;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface SimpsonsGateway {
@@ -12,4 +14,25 @@ public interface SimpsonsGateway {
     Mono<SimpsonsEpisode> getEpisodeById(Integer id);
 
     Mono<SimpsonsLocation> getLocationById(Integer id);
+
+    /**
+     * Consultas por lote: los resultados respetan el orden de {@code ids} y se omiten los IDs
+     * que no existen en el catálogo
+     */
+    Flux<SimpsonsCharacter> getCharactersByIds(Collection<Integer> ids);
+
+    Flux<SimpsonsEpisode> getEpisodesByIds(Collection<Integer> ids);
+
+    Flux<SimpsonsLocation> getLocationsByIds(Collection<Integer> ids);
+
+    /**
+     * Listados completos del catálogo en orden de ID, empezando en la posición {@code offset}
+     * (0 = primer elemento). Se producen bajo demanda: limitar o cancelar la suscripción evita
+     * recorrer el resto del catálogo.
+     */
+    Flux<SimpsonsCharacter> listCharacters(long offset);
+
+    Flux<SimpsonsEpisode> listEpisodes(long offset);
+
+    Flux<SimpsonsLocation> listLocations(long offset);
 }
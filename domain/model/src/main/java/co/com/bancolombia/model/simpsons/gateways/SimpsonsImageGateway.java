@@ -0,0 +1,16 @@
+package co.com.bancolombia.model.simpsons.gateways;
+
+import co.com.bancolombia.model.simpsons.SimpsonsImage;
+import reactor.core.publisher.Mono;
+
+/**
+ * Imágenes del catálogo de Simpsons servidas localmente
+ * <p>
+ * Vacío si la entidad no tiene imagen; error si la entidad no existe.
+ */
+public interface SimpsonsImageGateway {
+
+    Mono<SimpsonsImage> getCharacterPortrait(Integer id);
+
+    Mono<SimpsonsImage> getEpisodeImage(Integer id);
+}
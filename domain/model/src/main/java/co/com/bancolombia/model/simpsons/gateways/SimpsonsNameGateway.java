@@ -0,0 +1,17 @@
+package co.com.bancolombia.model.simpsons.gateways;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import java.util.List;
+import reactor.core.publisher.Mono;
+
+/**
+ * Autocompletado de nombres del catálogo de Simpsons
+ * <p>
+ * Sin distinguir tildes ni mayúsculas, devuelve los nombres en los que alguna palabra empieza por
+ * {@code prefix}, en orden alfabético, sin repetidos y como máximo {@code limit}. Vacío mientras
+ * el catálogo no se haya cargado.
+ */
+public interface SimpsonsNameGateway {
+
+    Mono<List<String>> completeNames(SimpsonsEntityType type, String prefix, int limit);
+}
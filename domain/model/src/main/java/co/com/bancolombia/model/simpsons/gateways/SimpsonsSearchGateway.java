@@ -0,0 +1,20 @@
+package co.com.bancolombia.model.simpsons.gateways;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsSearchHit;
+import java.util.List;
+import java.util.Set;
+import reactor.core.publisher.Mono;
+
+/**
+ * Búsqueda de texto libre en el catálogo de Simpsons
+ * <p>
+ * Sin distinguir tildes ni mayúsculas, devuelve las entidades de {@code types} que contienen
+ * alguna palabra de {@code query}, de mayor a menor relevancia: hasta {@code limit} resultados a
+ * partir de la posición {@code offset}. Vacío mientras el catálogo no se haya cargado.
+ */
+public interface SimpsonsSearchGateway {
+
+    Mono<List<SimpsonsSearchHit>> search(String query, Set<SimpsonsEntityType> types,
+            int offset, int limit);
+}
@@ -0,0 +1,79 @@
+package co.com.bancolombia.r2dbc.audit;
+
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import co.com.bancolombia.model.audit.gateways.McpAuditGateway;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Inserta lotes de auditoría en {@code mcp_audit_events}
+ * <p>
+ * Un lote es un único {@link Statement} con un juego de parámetros por registro
+ * ({@link Statement#add()}), que el driver envía encadenado en un solo viaje, dentro de una
+ * transacción: se guarda completo o no se guarda.
+ */
+@Repository
+public class McpAuditEventsAdapter implements McpAuditGateway {
+
+    static final String INSERT = "INSERT INTO mcp_audit_events (occurred_at, mcp_type, client_id,"
+            + " target, arguments, success, duration_ms, error)"
+            + " VALUES ($1, $2, $3, $4, $5, $6, $7, $8)";
+
+    private final ConnectionFactory connectionFactory;
+
+    public McpAuditEventsAdapter(ConnectionFactory connectionFactory) {
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Mono<Void> saveAll(List<McpAuditEvent> events) {
+        if (events.isEmpty()) {
+            return Mono.empty();
+        }
+        return Mono.usingWhen(connectionFactory.create(),
+                connection -> Mono.from(connection.beginTransaction())
+                        .thenMany(insert(connection, events))
+                        .then(Mono.defer(() -> Mono.from(connection.commitTransaction()))),
+                Connection::close,
+                (connection, error) -> Mono.from(connection.rollbackTransaction())
+                        .onErrorResume(rollbackError -> Mono.empty())
+                        .then(Mono.from(connection.close())),
+                Connection::close);
+    }
+
+    private Flux<Long> insert(Connection connection, List<McpAuditEvent> events) {
+        Statement statement = connection.createStatement(INSERT);
+        for (int i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                statement.add();
+            }
+            bind(statement, events.get(i));
+        }
+        return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated);
+    }
+
+    private static void bind(Statement statement, McpAuditEvent event) {
+        statement.bind(0, event.getOccurredAt())
+                .bind(1, event.getType())
+                .bind(2, event.getClientId())
+                .bind(3, event.getTarget());
+        bindNullable(statement, 4, event.getArguments());
+        statement.bind(5, event.isSuccess())
+                .bind(6, event.getDurationMs());
+        bindNullable(statement, 7, event.getError());
+    }
+
+    private static void bindNullable(Statement statement, int index, String value) {
+        if (value == null) {
+            statement.bindNull(index, String.class);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package co.com.bancolombia.r2dbc.audit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("McpAuditEventsAdapter Unit Tests")
+class McpAuditEventsAdapterTest {
+
+    private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+    private final Connection connection = mock(Connection.class);
+    private final Statement statement = mock(Statement.class);
+    private final Result result = mock(Result.class);
+    private final McpAuditEventsAdapter adapter = new McpAuditEventsAdapter(connectionFactory);
+
+    @BeforeEach
+    void setUp() {
+        doReturn(Mono.just(connection)).when(connectionFactory).create();
+        doReturn(Mono.empty()).when(connection).beginTransaction();
+        doReturn(Mono.empty()).when(connection).commitTransaction();
+        doReturn(Mono.empty()).when(connection).rollbackTransaction();
+        doReturn(Mono.empty()).when(connection).close();
+        when(connection.createStatement(McpAuditEventsAdapter.INSERT)).thenReturn(statement);
+        when(statement.bind(anyInt(), any())).thenReturn(statement);
+        when(statement.bindNull(anyInt(), any())).thenReturn(statement);
+        when(statement.add()).thenReturn(statement);
+        doReturn(Mono.just(2L)).when(result).getRowsUpdated();
+    }
+
+    private static McpAuditEvent event(String error) {
+        return McpAuditEvent.builder()
+                .occurredAt(Instant.parse("2025-01-01T00:00:00Z"))
+                .type("TOOL")
+                .clientId("dev-client")
+                .target("SimpsonsTools.getCharacter")
+                .arguments("[1]")
+                .success(error == null)
+                .durationMs(12)
+                .error(error)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debe insertar el lote en una sola sentencia dentro de una transacción")
+    void shouldInsertBatchInTransaction() {
+        doReturn(Flux.just(result)).when(statement).execute();
+
+        StepVerifier.create(adapter.saveAll(List.of(event(null), event("404"))))
+                .verifyComplete();
+
+        verify(statement, times(1)).add();
+        verify(statement).bindNull(7, String.class);
+        verify(statement).bind(7, "404");
+        verify(connection).commitTransaction();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Debe revertir la transacción y propagar el error si la inserción falla")
+    void shouldRollbackOnFailure() {
+        doReturn(Flux.error(new IllegalStateException("db caída"))).when(statement).execute();
+
+        StepVerifier.create(adapter.saveAll(List.of(event(null))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        verify(connection, never()).commitTransaction();
+        verify(connection).rollbackTransaction();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("No debe abrir conexión para un lote vacío")
+    void shouldSkipEmptyBatch() {
+        StepVerifier.create(adapter.saveAll(List.of())).verifyComplete();
+
+        verifyNoInteractions(connectionFactory);
+    }
+}
@@ -0,0 +1,75 @@
+package co.com.bancolombia.consumer.adapters;
+
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * Asignación por lectura de {@code simpsons://character/{id}}: camino tipado (decoder de WebFlux
+ * directo a {@link SimpsonsCharacter} y pretty printer) frente al filtro pass-through sobre los
+ * mismos bytes.
+ * <p>
+ * Ejecutar con {@code ./gradlew :rest-consumer:jmh}; la métrica a comparar es
+ * {@code gc.alloc.rate.norm} del profiler {@code gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PassThroughBenchmark {
+
+    private static final ResolvableType CHARACTER_TYPE =
+            ResolvableType.forClass(SimpsonsCharacter.class);
+
+    private byte[] body;
+    private Jackson2JsonDecoder decoder;
+    private ObjectWriter prettyWriter;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/character.json")) {
+            body = in.readAllBytes();
+        }
+        // Mismo ObjectMapper que configura Spring Boot, con los mix-ins del codec de WebClient
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        decoder = new UpstreamJsonMapper(objectMapper).jsonDecoder();
+        prettyWriter = objectMapper.writerWithDefaultPrettyPrinter();
+    }
+
+    @Benchmark
+    public String typedRoundTrip() throws IOException {
+        SimpsonsCharacter character = (SimpsonsCharacter) decoder
+                .decodeToMono(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)),
+                        CHARACTER_TYPE, null, null)
+                .block();
+        return prettyWriter.writeValueAsString(character);
+    }
+
+    @Benchmark
+    public String passThrough() {
+        return SimpsonsDocumentAdapter.CHARACTER_FIELDS
+                .filter(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)))
+                .block();
+    }
+}
@@ -0,0 +1,99 @@
+package co.com.bancolombia.consumer.catalog;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Consultas de autocompletado sobre un {@link NamePrefixIndex} de {@code size} nombres
+ * sintéticos (dos o tres palabras, algunas con tildes), mucho mayor que el catálogo real: un
+ * prefijo de una letra (muchas coincidencias, se corta en el límite), uno de tres letras, uno
+ * sin coincidencias y una actualización incremental de diez nombres.
+ * <p>
+ * Ejecutar con {@code ./gradlew :rest-consumer:jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NamePrefixIndexBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "ba", "be", "bur", "car", "ho", "mer", "lí", "sa", "mo", "né", "flan", "ders", "ap",
+        "pu", "krus", "ty", "mil", "hou", "se", "wig", "gum", "skin", "ner", "sel", "ma", "pat"
+    };
+    private static final int LIMIT = 101;
+
+    @Param({"100000"})
+    private int size;
+
+    private NamePrefixIndex index;
+    private Map<Integer, String> renamed;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<Integer, String> names = new HashMap<>();
+        for (int id = 1; id <= size; id++) {
+            names.put(id, name(random));
+        }
+        index = NamePrefixIndex.EMPTY.with(names);
+
+        renamed = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            renamed.put(1 + random.nextInt(size), name(random));
+        }
+    }
+
+    private static String name(Random random) {
+        StringBuilder name = new StringBuilder();
+        int words = 2 + random.nextInt(2);
+        for (int w = 0; w < words; w++) {
+            if (w > 0) {
+                name.append(' ');
+            }
+            int syllables = 2 + random.nextInt(2);
+            int start = name.length();
+            for (int s = 0; s < syllables; s++) {
+                name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+            }
+            name.setCharAt(start, Character.toUpperCase(name.charAt(start)));
+        }
+        return name.toString();
+    }
+
+    @Benchmark
+    public List<String> oneLetterPrefix() {
+        return index.complete("s", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> threeLetterPrefix() {
+        return index.complete("Hóm", LIMIT);
+    }
+
+    @Benchmark
+    public List<String> noMatches() {
+        return index.complete("zzz", LIMIT);
+    }
+
+    @Benchmark
+    public NamePrefixIndex incrementalUpdate() {
+        return index.with(renamed);
+    }
+}
@@ -0,0 +1,178 @@
+package co.com.bancolombia.consumer.json;
+
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+
+/**
+ * Asignación por consulta al decodificar un personaje: DTO de respuesta más copia campo a campo
+ * al modelo (camino anterior, reproducido aquí con {@link LegacyCharacterResponse}) frente a la
+ * decodificación directa al modelo con {@link SimpsonsJsonModule}. Ambos pasan por el
+ * {@link Jackson2JsonDecoder} de WebFlux, como el {@code WebClient}.
+ * <p>
+ * Ejecutar con {@code ./gradlew :rest-consumer:jmh}; la métrica a comparar es
+ * {@code gc.alloc.rate.norm} del profiler {@code gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DecodingBenchmark {
+
+    private static final ResolvableType LEGACY_TYPE =
+            ResolvableType.forClass(LegacyCharacterResponse.class);
+    private static final ResolvableType CHARACTER_TYPE =
+            ResolvableType.forClass(SimpsonsCharacter.class);
+    private static final ResolvableType USER_TYPE = ResolvableType.forClass(UserInfo.class);
+
+    private byte[] body;
+    private Jackson2JsonDecoder legacyDecoder;
+    private Jackson2JsonDecoder directDecoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/character.json")) {
+            body = in.readAllBytes();
+        }
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        legacyDecoder = new Jackson2JsonDecoder(objectMapper);
+        directDecoder = new UpstreamJsonMapper(objectMapper).jsonDecoder();
+    }
+
+    @Benchmark
+    public SimpsonsCharacter characterViaDto() {
+        return toCharacter((LegacyCharacterResponse) decode(legacyDecoder, LEGACY_TYPE));
+    }
+
+    @Benchmark
+    public SimpsonsCharacter characterDirect() {
+        return (SimpsonsCharacter) decode(directDecoder, CHARACTER_TYPE);
+    }
+
+    @Benchmark
+    public UserInfo userInfoViaDto() {
+        return toUserInfo((LegacyCharacterResponse) decode(legacyDecoder, LEGACY_TYPE));
+    }
+
+    @Benchmark
+    public UserInfo userInfoDirect() {
+        return (UserInfo) decode(directDecoder, USER_TYPE);
+    }
+
+    private Object decode(Jackson2JsonDecoder decoder, ResolvableType type) {
+        return decoder.decodeToMono(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(body)),
+                type, null, null).block();
+    }
+
+    private static SimpsonsCharacter toCharacter(LegacyCharacterResponse resp) {
+        return SimpsonsCharacter.builder()
+                .id(resp.id)
+                .age(resp.age)
+                .birthdate(resp.birthdate)
+                .description(resp.description)
+                .gender(resp.gender)
+                .name(resp.name)
+                .occupation(resp.occupation)
+                .phrases(resp.phrases)
+                .portraitPath(resp.portraitPath)
+                .status(resp.status)
+                .build();
+    }
+
+    private static UserInfo toUserInfo(LegacyCharacterResponse resp) {
+        return UserInfo.builder()
+                .id(resp.id)
+                .age(resp.age)
+                .birthdate(resp.birthdate)
+                .description(resp.description)
+                .gender(resp.gender)
+                .name(resp.name)
+                .occupation(resp.occupation)
+                .phrases(resp.phrases)
+                .portraitPath(resp.portraitPath)
+                .status(resp.status)
+                .firstAppearanceEp(resp.firstAppearanceEp == null ? null : UserInfo.Episode.builder()
+                        .id(resp.firstAppearanceEp.id)
+                        .airdate(resp.firstAppearanceEp.airdate)
+                        .description(resp.firstAppearanceEp.description)
+                        .episodeNumber(resp.firstAppearanceEp.episodeNumber)
+                        .imagePath(resp.firstAppearanceEp.imagePath)
+                        .name(resp.firstAppearanceEp.name)
+                        .season(resp.firstAppearanceEp.season)
+                        .synopsis(resp.firstAppearanceEp.synopsis)
+                        .build())
+                .firstAppearanceSh(resp.firstAppearanceSh == null ? null : UserInfo.ShortInfo.builder()
+                        .id(resp.firstAppearanceSh.id)
+                        .airdate(resp.firstAppearanceSh.airdate)
+                        .description(resp.firstAppearanceSh.description)
+                        .episodeNumber(resp.firstAppearanceSh.episodeNumber)
+                        .imagePath(resp.firstAppearanceSh.imagePath)
+                        .name(resp.firstAppearanceSh.name)
+                        .season(resp.firstAppearanceSh.season)
+                        .synopsis(resp.firstAppearanceSh.synopsis)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Forma del antiguo {@code SimpsonsCharacterResponse}
+     */
+    public static class LegacyCharacterResponse {
+
+        public Integer id;
+        public Integer age;
+        public String birthdate;
+        public String description;
+        @JsonProperty("first_appearance_ep_id")
+        public Integer firstAppearanceEpId;
+        @JsonProperty("first_appearance_sh_id")
+        public Integer firstAppearanceShId;
+        public String gender;
+        public String name;
+        public String occupation;
+        public List<String> phrases;
+        @JsonProperty("portrait_path")
+        public String portraitPath;
+        public String status;
+        @JsonProperty("first_appearance_ep")
+        public LegacyEpisodeResponse firstAppearanceEp;
+        @JsonProperty("first_appearance_sh")
+        public LegacyEpisodeResponse firstAppearanceSh;
+    }
+
+    public static class LegacyEpisodeResponse {
+
+        public Integer id;
+        public String airdate;
+        public String description;
+        @JsonProperty("episode_number")
+        public Integer episodeNumber;
+        @JsonProperty("image_path")
+        public String imagePath;
+        public String name;
+        public Integer season;
+        public String synopsis;
+    }
+}
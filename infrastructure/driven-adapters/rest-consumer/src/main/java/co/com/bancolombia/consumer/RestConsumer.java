@@ -1,34 +1,232 @@
 package co.com.bancolombia.consumer;
 
+import co.com.bancolombia.consumer.coalescing.RequestCoalescer;
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.hedging.HedgedRequestExecutor;
+import co.com.bancolombia.consumer.jfr.UpstreamExchangeEvent;
+import co.com.bancolombia.consumer.limiter.AdaptiveConcurrencyLimiter;
+import co.com.bancolombia.consumer.paging.JsonPageDecoder;
+import co.com.bancolombia.consumer.passthrough.JsonFieldFilter;
+import co.com.bancolombia.consumer.resilience.UpstreamResilience;
+import co.com.bancolombia.consumer.revalidation.ConditionalRequestCache;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
 @Service
 @RequiredArgsConstructor
 public class RestConsumer /* implements Gateway from domain */ {
 
+    private static final ParameterizedTypeReference<SimpsonsPageResponse<SimpsonsCharacter>>
+            CHARACTER_PAGE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<SimpsonsPageResponse<SimpsonsEpisode>>
+            EPISODE_PAGE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<SimpsonsPageResponse<SimpsonsLocation>>
+            LOCATION_PAGE = new ParameterizedTypeReference<>() {};
+
     private final WebClient client;
+    private final RequestCoalescer coalescer;
+    private final UpstreamResilience resilience;
+    private final HedgedRequestExecutor hedging;
+    private final JsonPageDecoder pageDecoder;
+    private final ConditionalRequestCache revalidation;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RestConsumerProperties properties;
+
+    /**
+     * Los cuerpos se decodifican directamente a los modelos de dominio con los mix-ins de
+     * {@link co.com.bancolombia.consumer.json.SimpsonsJsonModule}
+     * <p>
+     * {@code /characters/{id}} se descarga y revalida una sola vez, como {@link UserInfo} (incluye
+     * las primeras apariciones); {@link #getCharacterById(int)} es una vista de ese documento
+     */
+    public Mono<UserInfo> getUserInfoById(int id) {
+        return fetch("characters", "simpsonsCharacters", "/characters/{id}", id,
+                response -> response.bodyToMono(UserInfo.class));
+    }
+
+    public Mono<SimpsonsCharacter> getCharacterById(int id) {
+        return getUserInfoById(id).map(RestConsumer::toCharacter);
+    }
+
+    public Mono<SimpsonsEpisode> getEpisodeById(int id) {
+        return fetch("episodes", "simpsonsEpisodes", "/episodes/{id}", id,
+                response -> response.bodyToMono(SimpsonsEpisode.class));
+    }
+
+    public Mono<SimpsonsLocation> getLocationById(int id) {
+        return fetch("locations", "simpsonsLocations", "/locations/{id}", id,
+                response -> response.bodyToMono(SimpsonsLocation.class));
+    }
+
+    /**
+     * Variantes pass-through: el cuerpo se filtra en streaming con {@code filter} y se devuelve
+     * como JSON, sin deserializar a los modelos
+     */
+    public Mono<String> getCharacterDocument(int id, JsonFieldFilter filter) {
+        return fetch("characters-raw", "simpsonsCharacters", "/characters/{id}", id,
+                response -> filter.filter(response.bodyToFlux(DataBuffer.class)));
+    }
+
+    public Mono<String> getEpisodeDocument(int id, JsonFieldFilter filter) {
+        return fetch("episodes-raw", "simpsonsEpisodes", "/episodes/{id}", id,
+                response -> filter.filter(response.bodyToFlux(DataBuffer.class)));
+    }
+
+    public Mono<String> getLocationDocument(int id, JsonFieldFilter filter) {
+        return fetch("locations-raw", "simpsonsLocations", "/locations/{id}", id,
+                response -> filter.filter(response.bodyToFlux(DataBuffer.class)));
+    }
+
+    /**
+     * Páginas de los listados del upstream (la primera es la 1)
+     */
+    public Mono<SimpsonsPageResponse<SimpsonsCharacter>> getCharacterPage(int page) {
+        return fetch("characters-page", "simpsonsCharacters", "/characters?page={page}", page,
+                response -> response.bodyToMono(CHARACTER_PAGE));
+    }
+
+    public Mono<SimpsonsPageResponse<SimpsonsEpisode>> getEpisodePage(int page) {
+        return fetch("episodes-page", "simpsonsEpisodes", "/episodes?page={page}", page,
+                response -> response.bodyToMono(EPISODE_PAGE));
+    }
+
+    public Mono<SimpsonsPageResponse<SimpsonsLocation>> getLocationPage(int page) {
+        return fetch("locations-page", "simpsonsLocations", "/locations?page={page}", page,
+                response -> response.bodyToMono(LOCATION_PAGE));
+    }
+
+    /**
+     * Listados completos en streaming a partir de la posición {@code offset} (0 = primer
+     * elemento). Las páginas se piden bajo demanda: mientras se consume una ya se está
+     * descargando la siguiente, y cancelar la suscripción deja de pedir páginas.
+     */
+    public Flux<SimpsonsCharacter> listCharacters(long offset) {
+        return list("characters-page", "simpsonsCharacters", "/characters?page={page}", offset,
+                SimpsonsCharacter.class);
+    }
+
+    public Flux<SimpsonsEpisode> listEpisodes(long offset) {
+        return list("episodes-page", "simpsonsEpisodes", "/episodes?page={page}", offset,
+                SimpsonsEpisode.class);
+    }
+
+    public Flux<SimpsonsLocation> listLocations(long offset) {
+        return list("locations-page", "simpsonsLocations", "/locations?page={page}", offset,
+                SimpsonsLocation.class);
+    }
+
+    public Flux<UserInfo> getUserInfosByIds(Collection<Integer> ids) {
+        return fanOut(ids, this::getUserInfoById);
+    }
+
+    public Flux<SimpsonsCharacter> getCharactersByIds(Collection<Integer> ids) {
+        return getUserInfosByIds(ids).map(RestConsumer::toCharacter);
+    }
+
+    public Flux<SimpsonsEpisode> getEpisodesByIds(Collection<Integer> ids) {
+        return fanOut(ids, this::getEpisodeById);
+    }
+
+    public Flux<SimpsonsLocation> getLocationsByIds(Collection<Integer> ids) {
+        return fanOut(ids, this::getLocationById);
+    }
+
+    /**
+     * Pipeline común de una consulta por ID o por página: single-flight por recurso e ID, la
+     * instancia de Resilience4j del tipo de entidad, un turno del límite de concurrencia (cada
+     * reintento pide el suyo; la petición original y su hedge comparten uno) que envuelve al
+     * time limiter del intento, para que un timeout reduzca el límite, opcionalmente
+     * hedging del GET (idempotente) y revalidación condicional con los validadores de la
+     * respuesta anterior. Cada petición enviada (la original, su hedge y cada reintento) es un
+     * {@link UpstreamExchangeEvent} mientras una grabación JFR lo tenga habilitado.
+     */
+    private <T> Mono<T> fetch(String resource, String instance, String uri, int id,
+            Function<ClientResponse, Mono<T>> body) {
+        return coalescer.coalesce(resource, id, () -> resilience.decorate(instance, resource, id,
+                limiter.limit(resilience.timeLimit(instance, hedging.execute(resource,
+                        () -> UpstreamExchangeEvent.record(resource, id,
+                                revalidation.exchange(resource, id,
+                                        () -> client.get().uri(uri, id), body)))))));
+    }
+
+    /**
+     * La primera página publica el total de páginas en cuanto lo lee, de modo que la segunda se
+     * solicita mientras aún se emiten los elementos de la primera; a partir de ahí cada página
+     * se pide al terminar de descargar la anterior. {@code mergeSequential} conserva el orden.
+     * Un {@code offset} negativo o más allá de la última página representable es un
+     * {@link IllegalArgumentException}. Cada página es un {@link UpstreamExchangeEvent} propio.
+     */
+    private <T> Flux<T> list(String resource, String instance, String uri, long offset,
+            Class<T> type) {
+        int pageSize = properties.getPageSize();
+        if (offset < 0 || offset / pageSize >= Integer.MAX_VALUE) {
+            return Flux.error(new IllegalArgumentException("offset fuera de rango: " + offset));
+        }
+        int firstPage = (int) (offset / pageSize) + 1;
+        long skip = offset % pageSize;
+        return Flux.defer(() -> {
+            Sinks.One<Integer> totalPages = Sinks.one();
+            Flux<T> first = page(resource, instance, uri, firstPage, type, totalPages);
+            Flux<T> rest = totalPages.asMono()
+                    .flatMapMany(total -> Flux.range(firstPage + 1, Math.max(0, total - firstPage)))
+                    .concatMap(page -> page(resource, instance, uri, page, type, Sinks.one()));
+            return Flux.mergeSequential(first, rest).skip(skip);
+        });
+    }
 
-    public Mono<SimpsonsCharacterResponse> getCharacterById(int id) {
-        return client.get()
-                .uri("/characters/{id}", id)
-                .retrieve()
-                .bodyToMono(SimpsonsCharacterResponse.class);
+    private <T> Flux<T> page(String resource, String instance, String uri, int page,
+            Class<T> type, Sinks.One<Integer> totalPages) {
+        return resilience.decorateStream(instance, limiter.limit(resilience.timeLimit(instance,
+                UpstreamExchangeEvent.record(resource, page, client.get()
+                        .uri(uri, page)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class))
+                        .transform(body -> pageDecoder.decode(body, type, totalPages)))));
     }
 
-    public Mono<SimpsonsEpisodeResponse> getEpisodeById(int id) {
-        return client.get()
-                .uri("/episodes/{id}", id)
-                .retrieve()
-                .bodyToMono(SimpsonsEpisodeResponse.class);
+    /**
+     * Vista de personaje del documento completo, sin las primeras apariciones
+     */
+    public static SimpsonsCharacter toCharacter(UserInfo user) {
+        return SimpsonsCharacter.builder()
+                .id(user.getId())
+                .age(user.getAge())
+                .birthdate(user.getBirthdate())
+                .description(user.getDescription())
+                .gender(user.getGender())
+                .name(user.getName())
+                .occupation(user.getOccupation())
+                .portraitPath(user.getPortraitPath())
+                .status(user.getStatus())
+                .phrases(user.getPhrases())
+                .build();
     }
 
-    public Mono<SimpsonsLocationResponse> getLocationById(int id) {
-        return client.get()
-                .uri("/locations/{id}", id)
-                .retrieve()
-                .bodyToMono(SimpsonsLocationResponse.class);
+    /**
+     * Lanza como máximo {@code batchConcurrency} peticiones a la vez y emite en el orden de los
+     * IDs recibidos (sin duplicados). Los 404 se omiten; cualquier otro error aborta el lote.
+     */
+    private <T> Flux<T> fanOut(Collection<Integer> ids, IntFunction<Mono<T>> lookup) {
+        return Flux.fromIterable(new LinkedHashSet<>(ids))
+                .flatMapSequential(id -> lookup.apply(id)
+                                .onErrorResume(WebClientResponseException.NotFound.class,
+                                        notFound -> Mono.empty()),
+                        properties.getBatchConcurrency());
     }
 }
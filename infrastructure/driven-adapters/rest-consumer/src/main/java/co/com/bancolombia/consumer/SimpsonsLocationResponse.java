@@ -1,19 +0,0 @@
-package co.com.bancolombia.consumer;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-public class SimpsonsLocationResponse {
-
-    private Integer id;
-    private String name;
-    private String description;
-}
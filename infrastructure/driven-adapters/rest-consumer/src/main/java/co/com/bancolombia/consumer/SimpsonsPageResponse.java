@@ -0,0 +1,25 @@
+package co.com.bancolombia.consumer;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Página de un listado de la API ({@code /characters?page=N}, {@code /episodes?page=N}...)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SimpsonsPageResponse<T> {
+
+    private Integer count;
+    private String next;
+    private String prev;
+    private Integer pages;
+    private List<T> results;
+}
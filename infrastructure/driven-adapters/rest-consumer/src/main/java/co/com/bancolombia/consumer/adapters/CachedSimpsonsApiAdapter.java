@@ -0,0 +1,123 @@
+package co.com.bancolombia.consumer.adapters;
+
+import co.com.bancolombia.consumer.RestConsumer;
+import co.com.bancolombia.consumer.cache.NegativeCaches;
+import co.com.bancolombia.consumer.cache.ReactiveEntityCache;
+import co.com.bancolombia.consumer.catalog.CatalogReplica;
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import co.com.bancolombia.model.userinfo.gateways.UserInfoGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gateway de Simpsons con caché read-through delante de {@link SimpsonsApiAdapter}
+ * <p>
+ * El catálogo de la API casi no cambia, por lo que cada tipo de entidad se cachea por ID con su
+ * propio TTL y refresco anticipado. Al ser {@code @Primary}, es la implementación que reciben los
+ * tools, resources y casos de uso.
+ * <p>
+ * Personajes, episodios y ubicaciones se leen primero de la {@link CatalogReplica}; la caché y el
+ * upstream solo se consultan para IDs que la réplica aún no conoce. Los listados salen de la
+ * réplica una vez cargada y, mientras tanto, se recorren las páginas del upstream.
+ * <p>
+ * Los IDs que no están en la réplica pasan por {@link NegativeCaches} antes de llegar a la caché,
+ * de modo que un 404 repetido o un ID fuera de rango no consume cuota del upstream.
+ * <p>
+ * Personaje y ficha de usuario son dos vistas del mismo documento: la caché de personajes guarda
+ * el {@link UserInfo} completo y el personaje se deriva de él.
+ */
+@Primary
+@Repository
+public class CachedSimpsonsApiAdapter implements UserInfoGateway, SimpsonsGateway {
+
+    private final ReactiveEntityCache<UserInfo> characters;
+    private final ReactiveEntityCache<SimpsonsEpisode> episodes;
+    private final ReactiveEntityCache<SimpsonsLocation> locations;
+    private final CatalogReplica replica;
+    private final SimpsonsApiAdapter delegate;
+    private final NegativeCaches negatives;
+
+    public CachedSimpsonsApiAdapter(SimpsonsApiAdapter delegate, CatalogReplica replica,
+            NegativeCaches negatives, SimpsonsCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.delegate = delegate;
+        this.negatives = negatives;
+        this.characters = new ReactiveEntityCache<>("simpsons-characters",
+                properties.getCharacters(), delegate::getUserInfoById,
+                delegate::getUserInfosByIds, UserInfo::getId, meterRegistry);
+        this.episodes = new ReactiveEntityCache<>("simpsons-episodes",
+                properties.getEpisodes(), delegate::getEpisodeById,
+                delegate::getEpisodesByIds, SimpsonsEpisode::getId, meterRegistry);
+        this.locations = new ReactiveEntityCache<>("simpsons-locations",
+                properties.getLocations(), delegate::getLocationById,
+                delegate::getLocationsByIds, SimpsonsLocation::getId, meterRegistry);
+    }
+
+    @Override
+    public Mono<UserInfo> getUserInfoById(Integer id) {
+        return negatives.getCharacters().lookup(id, characters::get);
+    }
+
+    @Override
+    public Mono<SimpsonsCharacter> getCharacterById(Integer id) {
+        return replica.getCharacters().lookup(id,
+                unknown -> negatives.getCharacters().lookup(unknown,
+                        missing -> characters.get(missing).map(RestConsumer::toCharacter)));
+    }
+
+    @Override
+    public Mono<SimpsonsEpisode> getEpisodeById(Integer id) {
+        return replica.getEpisodes().lookup(id,
+                unknown -> negatives.getEpisodes().lookup(unknown, episodes::get));
+    }
+
+    @Override
+    public Mono<SimpsonsLocation> getLocationById(Integer id) {
+        return replica.getLocations().lookup(id,
+                unknown -> negatives.getLocations().lookup(unknown, locations::get));
+    }
+
+    @Override
+    public Flux<SimpsonsCharacter> getCharactersByIds(Collection<Integer> ids) {
+        return replica.getCharacters().lookupAll(ids, unknown -> negatives.getCharacters()
+                .lookupAll(unknown, missing -> characters.getAll(missing)
+                        .map(RestConsumer::toCharacter), SimpsonsCharacter::getId));
+    }
+
+    @Override
+    public Flux<SimpsonsEpisode> getEpisodesByIds(Collection<Integer> ids) {
+        return replica.getEpisodes().lookupAll(ids, unknown -> negatives.getEpisodes()
+                .lookupAll(unknown, episodes::getAll, SimpsonsEpisode::getId));
+    }
+
+    @Override
+    public Flux<SimpsonsLocation> getLocationsByIds(Collection<Integer> ids) {
+        return replica.getLocations().lookupAll(ids, unknown -> negatives.getLocations()
+                .lookupAll(unknown, locations::getAll, SimpsonsLocation::getId));
+    }
+
+    @Override
+    public Flux<SimpsonsCharacter> listCharacters(long offset) {
+        return replica.getCharacters().list(offset, delegate::listCharacters);
+    }
+
+    @Override
+    public Flux<SimpsonsEpisode> listEpisodes(long offset) {
+        return replica.getEpisodes().list(offset, delegate::listEpisodes);
+    }
+
+    @Override
+    public Flux<SimpsonsLocation> listLocations(long offset) {
+        return replica.getLocations().list(offset, delegate::listLocations);
+    }
+}
@@ -1,131 +1,99 @@
 package co.com.bancolombia.consumer.adapters;
 
 import co.com.bancolombia.consumer.RestConsumer;
-import co.com.bancolombia.consumer.SimpsonsCharacterResponse;
-import co.com.bancolombia.consumer.SimpsonsEpisodeResponse;
-import co.com.bancolombia.consumer.SimpsonsLocationResponse;
 import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
 import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
 import co.com.bancolombia.model.simpsons.SimpsonsLocation;
 import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
 import co.com.bancolombia.model.userinfo.UserInfo;
 import co.com.bancolombia.model.userinfo.gateways.UserInfoGateway;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.Collection;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+/**
+ * Adaptador directo a la API de Simpsons: el {@link RestConsumer} ya decodifica cada respuesta al
+ * modelo de dominio, sin DTO intermedio
+ * <p>
+ * Cada operación es una observación {@value #OBSERVATION} con tag {@code operation}: su span
+ * agrupa la resiliencia, el limitador y el intercambio HTTP del WebClient, que cuelga de él.
+ */
 @Repository
 @RequiredArgsConstructor
 public class SimpsonsApiAdapter implements UserInfoGateway, SimpsonsGateway {
 
+    public static final String OBSERVATION = "simpsons.gateway";
+
     private final RestConsumer client;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     public Mono<UserInfo> getUserInfoById(Integer id) {
-        return client.getCharacterById(id)
-                .map(this::mapToUserInfo);
+        return observe(client.getUserInfoById(id), "getUserInfoById");
     }
 
     @Override
     public Mono<SimpsonsCharacter> getCharacterById(Integer id) {
-        return client.getCharacterById(id)
-                .map(this::mapToCharacter);
+        return observe(client.getCharacterById(id), "getCharacterById");
     }
 
     @Override
     public Mono<SimpsonsEpisode> getEpisodeById(Integer id) {
-        return client.getEpisodeById(id)
-                .map(this::mapToEpisode);
+        return observe(client.getEpisodeById(id), "getEpisodeById");
     }
 
     @Override
     public Mono<SimpsonsLocation> getLocationById(Integer id) {
-        return client.getLocationById(id)
-                .map(this::mapToLocation);
+        return observe(client.getLocationById(id), "getLocationById");
     }
 
-    private UserInfo mapToUserInfo(SimpsonsCharacterResponse resp) {
-        return UserInfo.builder()
-                .id(resp.getId())
-                .age(resp.getAge())
-                .birthdate(resp.getBirthdate())
-                .description(resp.getDescription())
-                .gender(resp.getGender())
-                .name(resp.getName())
-                .occupation(resp.getOccupation())
-                .phrases(resp.getPhrases())
-                .portraitPath(resp.getPortraitPath())
-                .status(resp.getStatus())
-                .firstAppearanceEp(mapEpisodeToUserInfo(resp.getFirstAppearanceEp()))
-                .firstAppearanceSh(mapShortToUserInfo(resp.getFirstAppearanceSh()))
-                .build();
+    @Override
+    public Flux<SimpsonsCharacter> getCharactersByIds(Collection<Integer> ids) {
+        return observe(client.getCharactersByIds(ids), "getCharactersByIds");
     }
 
-    private SimpsonsCharacter mapToCharacter(SimpsonsCharacterResponse resp) {
-        return SimpsonsCharacter.builder()
-                .id(resp.getId())
-                .age(resp.getAge())
-                .birthdate(resp.getBirthdate())
-                .description(resp.getDescription())
-                .gender(resp.getGender())
-                .name(resp.getName())
-                .occupation(resp.getOccupation())
-                .phrases(resp.getPhrases())
-                .portraitPath(resp.getPortraitPath())
-                .status(resp.getStatus())
-                .build();
+    public Flux<UserInfo> getUserInfosByIds(Collection<Integer> ids) {
+        return observe(client.getUserInfosByIds(ids), "getUserInfosByIds");
     }
 
-    private SimpsonsEpisode mapToEpisode(SimpsonsEpisodeResponse resp) {
-        return SimpsonsEpisode.builder()
-                .id(resp.getId())
-                .airdate(resp.getAirdate())
-                .description(resp.getDescription())
-                .episodeNumber(resp.getEpisodeNumber())
-                .imagePath(resp.getImagePath())
-                .name(resp.getName())
-                .season(resp.getSeason())
-                .synopsis(resp.getSynopsis())
-                .build();
+    @Override
+    public Flux<SimpsonsEpisode> getEpisodesByIds(Collection<Integer> ids) {
+        return observe(client.getEpisodesByIds(ids), "getEpisodesByIds");
     }
 
-    private SimpsonsLocation mapToLocation(SimpsonsLocationResponse resp) {
-        return SimpsonsLocation.builder()
-                .id(resp.getId())
-                .name(resp.getName())
-                .description(resp.getDescription())
-                .build();
+    @Override
+    public Flux<SimpsonsLocation> getLocationsByIds(Collection<Integer> ids) {
+        return observe(client.getLocationsByIds(ids), "getLocationsByIds");
+    }
+
+    @Override
+    public Flux<SimpsonsCharacter> listCharacters(long offset) {
+        return observe(client.listCharacters(offset), "listCharacters");
+    }
+
+    @Override
+    public Flux<SimpsonsEpisode> listEpisodes(long offset) {
+        return observe(client.listEpisodes(offset), "listEpisodes");
+    }
+
+    @Override
+    public Flux<SimpsonsLocation> listLocations(long offset) {
+        return observe(client.listLocations(offset), "listLocations");
     }
 
-    private UserInfo.Episode mapEpisodeToUserInfo(SimpsonsCharacterResponse.EpisodeResponse r) {
-        if (r == null) {
-            return null;
-        }
-        return UserInfo.Episode.builder()
-                .id(r.getId())
-                .airdate(r.getAirdate())
-                .description(r.getDescription())
-                .episodeNumber(r.getEpisodeNumber())
-                .imagePath(r.getImagePath())
-                .name(r.getName())
-                .season(r.getSeason())
-                .synopsis(r.getSynopsis())
-                .build();
+    private <T> Mono<T> observe(Mono<T> call, String operation) {
+        return call.name(OBSERVATION)
+                .tag("operation", operation)
+                .tap(Micrometer.observation(observationRegistry));
     }
 
-    private UserInfo.ShortInfo mapShortToUserInfo(SimpsonsCharacterResponse.ShortResponse r) {
-        if (r == null) {
-            return null;
-        }
-        return UserInfo.ShortInfo.builder()
-                .id(r.getId())
-                .airdate(r.getAirdate())
-                .description(r.getDescription())
-                .episodeNumber(r.getEpisodeNumber())
-                .imagePath(r.getImagePath())
-                .name(r.getName())
-                .season(r.getSeason())
-                .synopsis(r.getSynopsis())
-                .build();
+    private <T> Flux<T> observe(Flux<T> call, String operation) {
+        return call.name(OBSERVATION)
+                .tag("operation", operation)
+                .tap(Micrometer.observation(observationRegistry));
     }
 }
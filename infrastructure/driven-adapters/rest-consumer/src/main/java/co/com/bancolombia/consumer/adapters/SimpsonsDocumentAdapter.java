@@ -0,0 +1,69 @@
+package co.com.bancolombia.consumer.adapters;
+
+import co.com.bancolombia.consumer.RestConsumer;
+import co.com.bancolombia.consumer.cache.NegativeCaches;
+import co.com.bancolombia.consumer.cache.ReactiveEntityCache;
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import co.com.bancolombia.consumer.passthrough.JsonFieldFilter;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsDocumentGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Gateway pass-through de Simpsons: el cuerpo del upstream se filtra en streaming a los campos
+ * del modelo de dominio y se cachea ya serializado, sin DTO ni mapper de por medio
+ * <p>
+ * Las listas blancas replican los campos de {@code SimpsonsCharacter}, {@code SimpsonsEpisode} y
+ * {@code SimpsonsLocation}; si el modelo cambia, deben cambiar aquí también.
+ */
+@Repository
+public class SimpsonsDocumentAdapter implements SimpsonsDocumentGateway {
+
+    static final JsonFieldFilter CHARACTER_FIELDS = JsonFieldFilter
+            .keeping("id", "age", "birthdate", "description", "gender", "name", "occupation",
+                    "status", "phrases")
+            .renaming("portrait_path", "portraitPath");
+
+    static final JsonFieldFilter EPISODE_FIELDS = JsonFieldFilter
+            .keeping("id", "airdate", "description", "name", "season", "synopsis")
+            .renaming("episode_number", "episodeNumber")
+            .renaming("image_path", "imagePath");
+
+    static final JsonFieldFilter LOCATION_FIELDS = JsonFieldFilter
+            .keeping("id", "name", "description");
+
+    private final ReactiveEntityCache<String> characters;
+    private final ReactiveEntityCache<String> episodes;
+    private final ReactiveEntityCache<String> locations;
+    private final NegativeCaches negatives;
+
+    public SimpsonsDocumentAdapter(RestConsumer client, NegativeCaches negatives,
+            SimpsonsCacheProperties properties, MeterRegistry meterRegistry) {
+        this.negatives = negatives;
+        this.characters = new ReactiveEntityCache<>("simpsons-characters-raw",
+                properties.getCharacters(), id -> client.getCharacterDocument(id, CHARACTER_FIELDS),
+                meterRegistry);
+        this.episodes = new ReactiveEntityCache<>("simpsons-episodes-raw",
+                properties.getEpisodes(), id -> client.getEpisodeDocument(id, EPISODE_FIELDS),
+                meterRegistry);
+        this.locations = new ReactiveEntityCache<>("simpsons-locations-raw",
+                properties.getLocations(), id -> client.getLocationDocument(id, LOCATION_FIELDS),
+                meterRegistry);
+    }
+
+    @Override
+    public Mono<String> getCharacterDocument(Integer id) {
+        return negatives.getCharacters().lookup(id, characters::get);
+    }
+
+    @Override
+    public Mono<String> getEpisodeDocument(Integer id) {
+        return negatives.getEpisodes().lookup(id, episodes::get);
+    }
+
+    @Override
+    public Mono<String> getLocationDocument(Integer id) {
+        return negatives.getLocations().lookup(id, locations::get);
+    }
+}
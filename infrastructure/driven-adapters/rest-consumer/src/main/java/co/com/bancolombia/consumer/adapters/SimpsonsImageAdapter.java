@@ -0,0 +1,85 @@
+package co.com.bancolombia.consumer.adapters;
+
+import co.com.bancolombia.consumer.config.properties.SimpsonsImageProperties;
+import co.com.bancolombia.consumer.images.DiskImageCache;
+import co.com.bancolombia.model.simpsons.SimpsonsImage;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsImageGateway;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Proxy de imágenes del catálogo: resuelve la ruta de la imagen con el {@link SimpsonsGateway}
+ * (réplica y caché) y sirve los bytes desde la {@link DiskImageCache}, descargándolos del CDN solo
+ * la primera vez
+ * <p>
+ * El cliente del CDN reutiliza el conector, y por tanto el pool de conexiones, del
+ * {@code WebClient} de la API.
+ */
+@Repository
+public class SimpsonsImageAdapter implements SimpsonsImageGateway {
+
+    private static final Pattern EXTENSION = Pattern.compile("\\.[a-z0-9]{1,5}");
+
+    private final SimpsonsGateway simpsons;
+    private final DiskImageCache cache;
+    private final WebClient images;
+
+    public SimpsonsImageAdapter(SimpsonsGateway simpsons, DiskImageCache cache, WebClient client,
+            SimpsonsImageProperties properties) {
+        this.simpsons = simpsons;
+        this.cache = cache;
+        this.images = client.mutate()
+                .baseUrl(properties.getBaseUrl())
+                .defaultHeaders(headers -> {
+                    headers.remove(HttpHeaders.CONTENT_TYPE);
+                    headers.setAccept(List.of(MediaType.parseMediaType("image/*")));
+                })
+                .build();
+    }
+
+    @Override
+    public Mono<SimpsonsImage> getCharacterPortrait(Integer id) {
+        return simpsons.getCharacterById(id)
+                .flatMap(character -> image("portrait-" + id, character.getPortraitPath()));
+    }
+
+    @Override
+    public Mono<SimpsonsImage> getEpisodeImage(Integer id) {
+        return simpsons.getEpisodeById(id)
+                .flatMap(episode -> image("episode-" + id, episode.getImagePath()));
+    }
+
+    private Mono<SimpsonsImage> image(String name, String path) {
+        if (path == null || path.isBlank()) {
+            return Mono.empty();
+        }
+        String key = name + extension(path);
+        return cache.get(key, () -> images.get().uri(path).retrieve().bodyToFlux(DataBuffer.class))
+                .map(content -> SimpsonsImage.builder()
+                        .mimeType(MediaTypeFactory.getMediaType(path)
+                                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                                .toString())
+                        .content(content)
+                        .build());
+    }
+
+    /**
+     * La clave es un nombre de archivo: solo se conserva una extensión alfanumérica corta
+     */
+    private static String extension(String path) {
+        int dot = path.lastIndexOf('.');
+        String extension = dot > path.lastIndexOf('/')
+                ? path.substring(dot).toLowerCase(Locale.ROOT)
+                : "";
+        return EXTENSION.matcher(extension).matches() ? extension : "";
+    }
+}
@@ -0,0 +1,113 @@
+package co.com.bancolombia.consumer.cache;
+
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caché negativa de IDs inexistentes de un tipo de entidad
+ * <p>
+ * Cuando el upstream responde 404 el ID se recuerda durante un TTL corto y las siguientes
+ * consultas fallan de inmediato con el mismo {@link WebClientResponseException.NotFound}, sin
+ * llamar al upstream. Además, los IDs no positivos o mayores que el máximo conocido del catálogo
+ * ({@code upperBound}, -1 si aún no se conoce) se rechazan sin consultar.
+ * <p>
+ * Métricas: {@code cache.*{cache=<name>}} de Caffeine y {@code simpsons.gateway.not_found}
+ * (tags {@code resource} y {@code source}: {@code cache}, {@code range} o {@code upstream}).
+ */
+public class NegativeCache {
+
+    private final String resource;
+    private final Cache<Integer, Boolean> missing;
+    private final IntSupplier upperBound;
+    private final Counter fromCache;
+    private final Counter fromRange;
+    private final Counter fromUpstream;
+
+    public NegativeCache(String resource, SimpsonsCacheProperties.Negative config,
+            IntSupplier upperBound, MeterRegistry meterRegistry) {
+        this.resource = resource;
+        this.upperBound = upperBound;
+        this.missing = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, missing, "simpsons-" + resource + "-missing");
+        this.fromCache = counter(meterRegistry, "cache");
+        this.fromRange = counter(meterRegistry, "range");
+        this.fromUpstream = counter(meterRegistry, "upstream");
+    }
+
+    public <T> Mono<T> lookup(Integer id, Function<Integer, Mono<T>> lookup) {
+        if (isKnownMissing(id)) {
+            return Mono.error(() -> notFound(id));
+        }
+        return lookup.apply(id)
+                .doOnError(WebClientResponseException.NotFound.class, notFound -> remember(id));
+    }
+
+    /**
+     * Consulta por lote: descarta de antemano los IDs que se sabe que no existen y recuerda los
+     * que {@code lookup} no devolvió (el lote omite los 404)
+     */
+    public <T> Flux<T> lookupAll(Collection<Integer> ids,
+            Function<Collection<Integer>, Flux<T>> lookup, Function<T, Integer> idOf) {
+        List<Integer> candidates = ids.stream()
+                .filter(id -> !isKnownMissing(id))
+                .toList();
+        if (candidates.isEmpty()) {
+            return Flux.empty();
+        }
+        Set<Integer> found = ConcurrentHashMap.newKeySet();
+        return lookup.apply(candidates)
+                .doOnNext(entity -> found.add(idOf.apply(entity)))
+                .doOnComplete(() -> candidates.stream()
+                        .filter(id -> !found.contains(id))
+                        .forEach(this::remember));
+    }
+
+    private boolean isKnownMissing(Integer id) {
+        int max = upperBound.getAsInt();
+        if (id == null || id <= 0 || (max >= 0 && id > max)) {
+            fromRange.increment();
+            return true;
+        }
+        if (missing.getIfPresent(id) != null) {
+            fromCache.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private void remember(Integer id) {
+        fromUpstream.increment();
+        missing.put(id, Boolean.TRUE);
+    }
+
+    private WebClientResponseException notFound(Integer id) {
+        return WebClientResponseException.create(HttpStatus.NOT_FOUND.value(),
+                "No existe " + resource + "/" + id, null, null, null);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("simpsons.gateway.not_found")
+                .description("Consultas de IDs inexistentes según dónde se resolvieron")
+                .tag("resource", resource)
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,33 @@
+package co.com.bancolombia.consumer.cache;
+
+import co.com.bancolombia.consumer.catalog.CatalogReplica;
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cachés negativas por tipo de entidad, compartidas por los gateways de Simpsons
+ * <p>
+ * El máximo ID de la réplica del catálogo sirve de cota: mientras no se haya cargado no se
+ * aplica ningún límite por rango.
+ */
+@Getter
+@Component
+public class NegativeCaches {
+
+    private final NegativeCache characters;
+    private final NegativeCache episodes;
+    private final NegativeCache locations;
+
+    public NegativeCaches(CatalogReplica replica, SimpsonsCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        SimpsonsCacheProperties.Negative config = properties.getNegative();
+        this.characters = new NegativeCache("characters", config,
+                replica.getCharacters()::maxId, meterRegistry);
+        this.episodes = new NegativeCache("episodes", config,
+                replica.getEpisodes()::maxId, meterRegistry);
+        this.locations = new NegativeCache("locations", config,
+                replica.getLocations()::maxId, meterRegistry);
+    }
+}
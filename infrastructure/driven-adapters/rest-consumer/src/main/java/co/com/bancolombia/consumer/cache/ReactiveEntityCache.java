@@ -0,0 +1,93 @@
+package co.com.bancolombia.consumer.cache;
+
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caché read-through de entidades por ID sobre Caffeine
+ * <p>
+ * Las lecturas concurrentes de un mismo ID comparten la carga en curso, los errores y los
+ * resultados vacíos (404) no se almacenan y las estadísticas de aciertos, fallos y desalojos se
+ * publican en Micrometer como {@code cache.*{cache=<name>}}.
+ * <p>
+ * Si se indica un cargador por lote, {@link #getAll(Collection)} resuelve todos los IDs ausentes
+ * con una única llamada a dicho cargador en lugar de una carga por ID.
+ */
+public class ReactiveEntityCache<V> {
+
+    private final AsyncLoadingCache<Integer, V> cache;
+
+    public ReactiveEntityCache(String name, SimpsonsCacheProperties.Entry config,
+            Function<Integer, Mono<V>> loader, MeterRegistry meterRegistry) {
+        this(name, config, loader, null, null, meterRegistry);
+    }
+
+    public ReactiveEntityCache(String name, SimpsonsCacheProperties.Entry config,
+            Function<Integer, Mono<V>> loader, Function<Set<Integer>, Flux<V>> bulkLoader,
+            Function<V, Integer> idOf, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .expireAfterWrite(config.getTtl())
+                .refreshAfterWrite(config.getRefreshAfter())
+                .recordStats()
+                .buildAsync(new Loader<>(loader, bulkLoader, idOf));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public Mono<V> get(Integer id) {
+        // suppressCancel: cancelar un suscriptor no debe abortar la carga compartida
+        return Mono.fromFuture(() -> cache.get(id), true);
+    }
+
+    /**
+     * Devuelve las entidades encontradas en el orden de {@code ids}, sin duplicados
+     */
+    public Flux<V> getAll(Collection<Integer> ids) {
+        Set<Integer> keys = new LinkedHashSet<>(ids);
+        return Mono.fromFuture(() -> cache.getAll(keys), true)
+                .flatMapIterable(found -> keys.stream()
+                        .map(found::get)
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    public void invalidate(Integer id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    private record Loader<V>(Function<Integer, Mono<V>> loader,
+                             Function<Set<Integer>, Flux<V>> bulkLoader,
+                             Function<V, Integer> idOf) implements AsyncCacheLoader<Integer, V> {
+
+        @Override
+        public CompletableFuture<? extends V> asyncLoad(Integer id, Executor executor) {
+            return loader.apply(id).toFuture();
+        }
+
+        @Override
+        public CompletableFuture<? extends Map<? extends Integer, ? extends V>> asyncLoadAll(
+                Set<? extends Integer> ids, Executor executor) throws Exception {
+            if (bulkLoader == null) {
+                // Caffeine recurre a asyncLoad por cada ID
+                return AsyncCacheLoader.super.asyncLoadAll(ids, executor);
+            }
+            return bulkLoader.apply(Set.copyOf(ids))
+                    .collectMap(idOf)
+                    .toFuture();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.bancolombia.consumer.catalog;
+
+import co.com.bancolombia.model.simpsons.SimpsonsChange;
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsChangeGateway;
+import java.time.Duration;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Publica los cambios que {@link CatalogSync} detecta al refrescar la réplica
+ * <p>
+ * Sin suscriptores los cambios se descartan; un suscriptor lento pierde los que no alcance a
+ * consumir en lugar de frenar la sincronización.
+ */
+@Component
+public class CatalogChanges implements SimpsonsChangeGateway {
+
+    private final Sinks.Many<SimpsonsChange> sink = Sinks.many().multicast().directBestEffort();
+
+    @Override
+    public Flux<SimpsonsChange> changes() {
+        return sink.asFlux();
+    }
+
+    void publish(SimpsonsEntityType type, Integer id, boolean created) {
+        // Los tres tipos se sincronizan en paralelo: reintenta si otro hilo está emitiendo
+        sink.emitNext(new SimpsonsChange(type, id, created),
+                Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+}
@@ -0,0 +1,40 @@
+package co.com.bancolombia.consumer.catalog;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsNameGateway;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Autocompletado de nombres servido desde memoria
+ * <p>
+ * {@link CatalogSync} entrega los nombres nuevos o modificados en cada sincronización; cada tipo
+ * de entidad tiene su propio {@link NamePrefixIndex}, que se reemplaza de forma atómica.
+ */
+@Component
+public class CatalogNames implements SimpsonsNameGateway {
+
+    private final Map<SimpsonsEntityType, AtomicReference<NamePrefixIndex>> indexes =
+            new EnumMap<>(SimpsonsEntityType.class);
+
+    public CatalogNames() {
+        for (SimpsonsEntityType type : SimpsonsEntityType.values()) {
+            indexes.put(type, new AtomicReference<>(NamePrefixIndex.EMPTY));
+        }
+    }
+
+    @Override
+    public Mono<List<String>> completeNames(SimpsonsEntityType type, String prefix, int limit) {
+        return Mono.fromSupplier(() -> indexes.get(type).get().complete(prefix, limit));
+    }
+
+    void update(SimpsonsEntityType type, Map<Integer, String> changed) {
+        if (!changed.isEmpty()) {
+            indexes.get(type).updateAndGet(index -> index.with(changed));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package co.com.bancolombia.consumer.catalog;
+
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+/**
+ * Réplica en memoria del catálogo completo de personajes, episodios y ubicaciones
+ * <p>
+ * La llena {@link CatalogSync}; el gateway la consulta antes que a la caché y al upstream.
+ * Publica el tamaño de cada tabla en {@code simpsons.catalog.size} (tag {@code resource}).
+ */
+@Getter
+@Component
+public class CatalogReplica {
+
+    private final ReplicaTable<SimpsonsCharacter> characters =
+            new ReplicaTable<>(SimpsonsCharacter::getId);
+    private final ReplicaTable<SimpsonsEpisode> episodes =
+            new ReplicaTable<>(SimpsonsEpisode::getId);
+    private final ReplicaTable<SimpsonsLocation> locations =
+            new ReplicaTable<>(SimpsonsLocation::getId);
+
+    public CatalogReplica(MeterRegistry meterRegistry) {
+        gauge(meterRegistry, "characters", characters);
+        gauge(meterRegistry, "episodes", episodes);
+        gauge(meterRegistry, "locations", locations);
+    }
+
+    private static void gauge(MeterRegistry meterRegistry, String resource,
+            ReplicaTable<?> table) {
+        Gauge.builder("simpsons.catalog.size", table, ReplicaTable::size)
+                .description("Entidades en la réplica local del catálogo")
+                .tag("resource", resource)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,34 @@
+package co.com.bancolombia.consumer.catalog;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsSearchHit;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsSearchGateway;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Búsqueda de texto servida desde memoria
+ * <p>
+ * {@link CatalogSync} entrega los textos de las entidades nuevas o modificadas en cada
+ * sincronización y se indexan en un único {@link InvertedIndex} para los tres tipos.
+ */
+@Component
+public class CatalogSearch implements SimpsonsSearchGateway {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Override
+    public Mono<List<SimpsonsSearchHit>> search(String query, Set<SimpsonsEntityType> types,
+            int offset, int limit) {
+        return Mono.fromSupplier(() -> index.search(query, types, offset, limit));
+    }
+
+    void update(SimpsonsEntityType type, Map<Integer, InvertedIndex.Document> changed) {
+        if (!changed.isEmpty()) {
+            index.update(type, changed);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package co.com.bancolombia.consumer.catalog;
+
+import co.com.bancolombia.consumer.RestConsumer;
+import co.com.bancolombia.consumer.SimpsonsPageResponse;
+import co.com.bancolombia.consumer.adapters.SimpsonsApiAdapter;
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.config.properties.SimpsonsCatalogProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Carga y sincroniza la {@link CatalogReplica}
+ * <p>
+ * La primera ejecución recorre todas las páginas de cada listado para descubrir los IDs y
+ * descarga el detalle de cada entidad (los listados no traen todos los campos). Las siguientes
+ * son incrementales: si el total del upstream no cambió solo se consulta la primera página;
+ * si creció, se recorren desde la última página conocida y se descargan únicamente los IDs
+ * nuevos. Además, en cada ejecución se refresca una ventana rotatoria de entidades conocidas
+ * para recoger ediciones.
+ * <p>
+ * El total no distingue una eliminación más una alta en el mismo intervalo: con el total igual,
+ * una entidad nueva fuera de la primera página no se ve en las ejecuciones incrementales. Por eso
+ * cada {@code fullSweepEvery} ejecuciones se recorren todos los listados aunque el total no haya
+ * cambiado; hasta entonces esa entidad se sirve desde el upstream, no desde la réplica.
+ * <p>
+ * Las entidades eliminadas en el upstream se retiran de la réplica: las de la ventana de refresco
+ * que ya no existen (404) y las que no aparecen en un recorrido completo de los listados, que se
+ * hace también cuando el total del upstream disminuye. El detalle se descarga como máximo a
+ * {@code requestsPerSecond} IDs por segundo.
+ * <p>
+ * Tras la primera carga, cada entidad nueva, cuyo contenido cambió o que se eliminó se publica en
+ * {@link CatalogChanges}. Todas, incluidas las de la primera carga, se indexan para el
+ * autocompletado de nombres ({@link CatalogNames}) y la búsqueda de texto ({@link CatalogSearch}).
+ * <p>
+ * Un fallo del upstream no vacía la réplica: se registra y se reintenta en la siguiente
+ * ejecución, mientras se siguen sirviendo los datos ya replicados.
+ */
+@Slf4j
+@Component
+public class CatalogSync {
+
+    private static final Duration PACING_INTERVAL = Duration.ofSeconds(1);
+
+    private final SimpsonsCatalogProperties properties;
+    private final CatalogChanges changes;
+    private final CatalogNames names;
+    private final CatalogSearch search;
+    private final int concurrency;
+    private final List<Source<?, ?>> sources;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CatalogSync(RestConsumer client, SimpsonsApiAdapter details, CatalogReplica replica,
+            CatalogChanges changes, CatalogNames names, CatalogSearch search,
+            SimpsonsCatalogProperties properties, RestConsumerProperties restProperties) {
+        this.properties = properties;
+        this.changes = changes;
+        this.names = names;
+        this.search = search;
+        this.concurrency = restProperties.getBatchConcurrency();
+        this.sources = List.of(
+                new Source<>("characters", SimpsonsEntityType.CHARACTER, replica.getCharacters(), client::getCharacterPage,
+                        SimpsonsCharacter::getId, SimpsonsCharacter::getName, CatalogSync::textsOf,
+                        details::getCharactersByIds),
+                new Source<>("episodes", SimpsonsEntityType.EPISODE, replica.getEpisodes(), client::getEpisodePage,
+                        SimpsonsEpisode::getId, SimpsonsEpisode::getName,
+                        episode -> Arrays.asList(episode.getDescription(), episode.getSynopsis()),
+                        details::getEpisodesByIds),
+                new Source<>("locations", SimpsonsEntityType.LOCATION, replica.getLocations(), client::getLocationPage,
+                        SimpsonsLocation::getId, SimpsonsLocation::getName,
+                        location -> Arrays.asList(location.getDescription()),
+                        details::getLocationsByIds));
+    }
+
+    @Scheduled(initialDelayString = "${adapter.restconsumer.catalog.initial-delay:PT30S}",
+            fixedDelayString = "${adapter.restconsumer.catalog.sync-interval:PT15M}")
+    public void scheduledSync() {
+        if (!properties.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        sync()
+                .doFinally(signal -> running.set(false))
+                .subscribe(
+                        unused -> { },
+                        error -> log.warn("Sincronización del catálogo interrumpida: {}",
+                                error.getMessage()));
+    }
+
+    /**
+     * Sincroniza los tres tipos de entidad; cada uno falla de forma independiente
+     */
+    public Mono<Void> sync() {
+        return Flux.fromIterable(sources)
+                .flatMap(source -> syncSource(source)
+                        .onErrorResume(error -> {
+                            log.warn("No fue posible sincronizar la réplica de {}: {}",
+                                    source.name(), error.getMessage());
+                            return Mono.empty();
+                        }))
+                .then();
+    }
+
+    private <R, T> Mono<Void> syncSource(Source<R, T> source) {
+        ReplicaTable<T> table = source.table();
+        return source.page().apply(1).flatMap(first -> {
+            int count = valueOr(first.getCount(), 0);
+            int pages = valueOr(first.getPages(), 1);
+            // Si el total bajó, solo un recorrido completo revela qué IDs ya no existen; el
+            // periódico recoge las altas y bajas que se compensaron sin cambiar el total
+            boolean fullSweep = table.isLoaded()
+                    && (count < table.upstreamCount() || fullSweepDue(table));
+
+            Flux<Integer> discovered = Flux.fromIterable(idsOf(first, source));
+            if (!table.isLoaded() || fullSweep || count != table.upstreamCount()) {
+                int fromPage = fullSweep ? 2 : Math.max(2, table.pages());
+                Flux<Integer> remaining = Flux.range(fromPage, Math.max(0, pages - fromPage + 1))
+                        .flatMapSequential(page -> source.page().apply(page), concurrency)
+                        .flatMapIterable(page -> idsOf(page, source));
+                discovered = discovered.concatWith(remaining);
+            }
+
+            return discovered
+                    .collect(LinkedHashSet<Integer>::new, Set::add)
+                    .flatMap(seen -> {
+                        Set<Integer> added = new LinkedHashSet<>(seen);
+                        added.removeIf(table::contains);
+                        List<Integer> refreshed = table.nextRefreshWindow(
+                                table.isLoaded() ? properties.getRefreshBatchSize() : 0);
+                        Set<Integer> ids = new LinkedHashSet<>(added);
+                        ids.addAll(refreshed);
+                        boolean initialLoad = !table.isLoaded();
+                        Map<Integer, T> changed = new LinkedHashMap<>();
+                        Set<Integer> fetched = new HashSet<>();
+                        return details(source, ids)
+                                .doOnNext(entity -> {
+                                    Integer id = table.idOf(entity);
+                                    fetched.add(id);
+                                    if (!table.put(entity)) {
+                                        return;
+                                    }
+                                    changed.put(id, entity);
+                                    if (!initialLoad) {
+                                        changes.publish(source.type(), id, added.contains(id));
+                                    }
+                                })
+                                // Incluso si falla: lo ya guardado no vuelve a detectarse como cambio
+                                .doFinally(signal -> index(source, changed))
+                                .then(Mono.fromRunnable(() -> {
+                                    // El lote terminó sin error: los IDs que faltan dieron 404
+                                    Set<Integer> deleted = new LinkedHashSet<>(refreshed);
+                                    deleted.removeAll(fetched);
+                                    if (fullSweep) {
+                                        deleted.addAll(table.idsNotIn(seen));
+                                    }
+                                    prune(source, deleted);
+                                    table.markSynced(count, pages, fullSweep || initialLoad);
+                                    log.info("Réplica de {} sincronizada: {} entidades ({} nuevas,"
+                                                    + " {} refrescadas, {} eliminadas)",
+                                            source.name(), table.size(), added.size(),
+                                            refreshed.size(), deleted.size());
+                                }));
+                    });
+        });
+    }
+
+    private boolean fullSweepDue(ReplicaTable<?> table) {
+        int every = properties.getFullSweepEvery();
+        return every > 0 && table.syncsSinceFullSweep() + 1 >= every;
+    }
+
+    /**
+     * Descarga el detalle en lotes de {@code requestsPerSecond} IDs separados por un segundo
+     */
+    private <T> Flux<T> details(Source<?, T> source, Set<Integer> ids) {
+        int rate = properties.getRequestsPerSecond();
+        if (rate <= 0 || ids.size() <= rate) {
+            return source.details().apply(ids);
+        }
+        return Flux.fromIterable(ids)
+                .buffer(rate)
+                .concatMap(batch -> source.details().apply(batch)
+                        .concatWith(Mono.delay(PACING_INTERVAL).then(Mono.empty())));
+    }
+
+    private <T> void prune(Source<?, T> source, Set<Integer> deleted) {
+        Map<Integer, String> removedNames = new HashMap<>();
+        Map<Integer, InvertedIndex.Document> removedDocuments = new HashMap<>();
+        for (Integer id : deleted) {
+            if (source.table().remove(id)) {
+                removedNames.put(id, null);
+                removedDocuments.put(id, null);
+                changes.publish(source.type(), id, false);
+            }
+        }
+        names.update(source.type(), removedNames);
+        search.update(source.type(), removedDocuments);
+    }
+
+    private <T> void index(Source<?, T> source, Map<Integer, T> changed) {
+        Map<Integer, String> changedNames = new HashMap<>();
+        Map<Integer, InvertedIndex.Document> documents = new HashMap<>();
+        changed.forEach((id, entity) -> {
+            String name = source.nameOf().apply(entity);
+            changedNames.put(id, name);
+            documents.put(id, new InvertedIndex.Document(name, source.textsOf().apply(entity)));
+        });
+        names.update(source.type(), changedNames);
+        search.update(source.type(), documents);
+    }
+
+    private static List<String> textsOf(SimpsonsCharacter character) {
+        List<String> texts = new ArrayList<>(
+                Arrays.asList(character.getOccupation(), character.getDescription()));
+        if (character.getPhrases() != null) {
+            texts.addAll(character.getPhrases());
+        }
+        return texts;
+    }
+
+    private static <R> List<Integer> idsOf(SimpsonsPageResponse<R> page, Source<R, ?> source) {
+        return page.getResults() == null
+                ? List.of()
+                : page.getResults().stream().map(source.idOf()).toList();
+    }
+
+    private static int valueOr(Integer value, int fallback) {
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * Un listado del upstream: cómo paginarlo, cómo extraer el ID de cada elemento y cómo
+     * descargar el detalle de un lote de IDs
+     */
+    private record Source<R, T>(
+            String name,
+            SimpsonsEntityType type,
+            ReplicaTable<T> table,
+            IntFunction<Mono<SimpsonsPageResponse<R>>> page,
+            Function<R, Integer> idOf,
+            Function<T, String> nameOf,
+            Function<T, List<String>> textsOf,
+            Function<Collection<Integer>, Flux<T>> details) {
+    }
+}
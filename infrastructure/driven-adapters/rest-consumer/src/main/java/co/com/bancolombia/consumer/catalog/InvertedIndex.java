@@ -0,0 +1,285 @@
+package co.com.bancolombia.consumer.catalog;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsSearchHit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice invertido con ranking BM25 sobre los textos del catálogo
+ * <p>
+ * Cada entidad ocupa un documento interno numerado; la lista de postings de cada término guarda
+ * en arreglos de {@code int} los documentos (ordenados) y la frecuencia del término en cada uno.
+ * Las palabras del nombre cuentan {@value #NAME_WEIGHT} veces, así una coincidencia en el nombre
+ * pesa más que una en la descripción. Los textos se normalizan igual que en
+ * {@link NamePrefixIndex}.
+ * <p>
+ * Las actualizaciones son incrementales: reemplazar una entidad solo toca las listas de sus
+ * términos anteriores y nuevos, y el número del documento retirado se reutiliza. Las consultas
+ * comparten el candado de lectura; cada lote de cambios toma el de escritura.
+ */
+final class InvertedIndex {
+
+    static final int NAME_WEIGHT = 3;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> documents = new HashMap<>();
+    private final Deque<Integer> freeDocuments = new ArrayDeque<>();
+
+    private SimpsonsEntityType[] types = new SimpsonsEntityType[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    // Términos distintos de cada documento, para retirarlo de sus listas al reemplazarlo
+    private String[][] terms = new String[INITIAL_CAPACITY][];
+    private int nextDocument;
+    private int documentCount;
+    private long totalLength;
+
+    /**
+     * Textos de una entidad: el nombre y el resto de campos buscables (los nulos se ignoran)
+     */
+    record Document(String name, List<String> texts) {
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reemplaza los documentos de {@code changed}; un documento {@code null} retira la entidad
+     */
+    void update(SimpsonsEntityType type, Map<Integer, Document> changed) {
+        lock.writeLock().lock();
+        try {
+            changed.forEach((id, document) -> {
+                remove(type, id);
+                if (document != null) {
+                    add(type, id, document);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<SimpsonsSearchHit> search(String query, Set<SimpsonsEntityType> wanted, int offset,
+            int limit) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokens(query));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            if (documentCount == 0) {
+                return List.of();
+            }
+            float[] scores = new float[nextDocument];
+            int[] matched = new int[nextDocument];
+            int matchedCount = 0;
+            float averageLength = (float) totalLength / documentCount;
+            for (String term : queryTerms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    int document = list.documents[i];
+                    if (!wanted.contains(types[document])) {
+                        continue;
+                    }
+                    // idf siempre es positivo: un score en cero significa "aún sin coincidencias"
+                    if (scores[document] == 0) {
+                        matched[matchedCount++] = document;
+                    }
+                    int frequency = list.frequencies[i];
+                    float norm = K1 * (1 - B + B * lengths[document] / averageLength);
+                    scores[document] += idf * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+            return top(scores, matched, matchedCount, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Selecciona con un heap de tamaño {@code offset + limit} sin ordenar todas las coincidencias
+     */
+    private List<SimpsonsSearchHit> top(float[] scores, int[] matched, int matchedCount,
+            int offset, int limit) {
+        if (offset >= matchedCount) {
+            return List.of();
+        }
+        int k = (int) Math.min(matchedCount, (long) offset + limit);
+        Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(doc -> scores[doc])
+                .reversed()
+                .thenComparing(doc -> names[doc], Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparingInt(doc -> ids[doc]);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, ranking.reversed());
+        for (int i = 0; i < matchedCount; i++) {
+            heap.offer(matched[i]);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        Integer[] ranked = new Integer[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll();
+        }
+        List<SimpsonsSearchHit> hits = new ArrayList<>(ranked.length - offset);
+        for (int i = offset; i < ranked.length; i++) {
+            int document = ranked[i];
+            hits.add(new SimpsonsSearchHit(types[document], ids[document], names[document],
+                    Math.round(scores[document] * 1_000) / 1_000.0));
+        }
+        return hits;
+    }
+
+    private void add(SimpsonsEntityType type, int id, Document document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        count(document.name(), NAME_WEIGHT, frequencies);
+        for (String text : document.texts()) {
+            count(text, 1, frequencies);
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+        int doc = allocate();
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new Postings())
+                    .add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+        types[doc] = type;
+        ids[doc] = id;
+        names[doc] = document.name();
+        lengths[doc] = length;
+        terms[doc] = frequencies.keySet().toArray(String[]::new);
+        documents.put(key(type, id), doc);
+        documentCount++;
+        totalLength += length;
+    }
+
+    private void remove(SimpsonsEntityType type, int id) {
+        Integer doc = documents.remove(key(type, id));
+        if (doc == null) {
+            return;
+        }
+        for (String term : terms[doc]) {
+            Postings list = postings.get(term);
+            list.remove(doc);
+            if (list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        documentCount--;
+        totalLength -= lengths[doc];
+        types[doc] = null;
+        names[doc] = null;
+        terms[doc] = null;
+        freeDocuments.push(doc);
+    }
+
+    private int allocate() {
+        Integer free = freeDocuments.poll();
+        if (free != null) {
+            return free;
+        }
+        if (nextDocument == ids.length) {
+            int capacity = ids.length * 2;
+            types = Arrays.copyOf(types, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            terms = Arrays.copyOf(terms, capacity);
+        }
+        return nextDocument++;
+    }
+
+    private static void count(String text, int weight, Map<String, Integer> frequencies) {
+        if (text != null) {
+            tokens(text).forEach(token -> frequencies.merge(token, weight, Integer::sum));
+        }
+    }
+
+    static List<String> tokens(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String normalized = NamePrefixIndex.normalize(text);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length()
+                    && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static long key(SimpsonsEntityType type, int id) {
+        return ((long) type.ordinal() << Integer.SIZE) | (id & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Documentos que contienen un término, ordenados, con la frecuencia en cada uno
+     */
+    private static final class Postings {
+
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int document, int frequency) {
+            int at = -(Arrays.binarySearch(documents, 0, size, document) + 1);
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            System.arraycopy(documents, at, documents, at + 1, size - at);
+            System.arraycopy(frequencies, at, frequencies, at + 1, size - at);
+            documents[at] = document;
+            frequencies[at] = frequency;
+            size++;
+        }
+
+        private void remove(int document) {
+            int at = Arrays.binarySearch(documents, 0, size, document);
+            if (at < 0) {
+                return;
+            }
+            System.arraycopy(documents, at + 1, documents, at, size - at - 1);
+            System.arraycopy(frequencies, at + 1, frequencies, at, size - at - 1);
+            size--;
+        }
+    }
+}
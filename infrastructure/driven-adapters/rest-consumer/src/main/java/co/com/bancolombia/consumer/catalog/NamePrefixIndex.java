@@ -0,0 +1,144 @@
+package co.com.bancolombia.consumer.catalog;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Índice de prefijos inmutable sobre los nombres de un tipo de entidad
+ * <p>
+ * Cada nombre se normaliza (sin tildes y en minúsculas) y aporta una clave por palabra: el resto
+ * del nombre desde el inicio de esa palabra, de modo que {@code simp} encuentra a "Homer
+ * Simpson". Las claves se guardan ordenadas en arreglos paralelos; una consulta es una búsqueda
+ * binaria del prefijo seguida de un recorrido secuencial hasta reunir {@code limit} nombres.
+ * <p>
+ * {@link #with(Map)} no modifica la instancia: fusiona en un recorrido lineal las claves de los
+ * nombres cambiados con las existentes y devuelve otro índice, así las lecturas concurrentes
+ * nunca ven un estado intermedio.
+ */
+final class NamePrefixIndex {
+
+    static final NamePrefixIndex EMPTY = new NamePrefixIndex(new String[0], new String[0], new int[0]);
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key)
+            .thenComparing(Entry::name);
+
+    private final String[] keys;
+    private final String[] names;
+    private final int[] ids;
+
+    private NamePrefixIndex(String[] keys, String[] names, int[] ids) {
+        this.keys = keys;
+        this.names = names;
+        this.ids = ids;
+    }
+
+    /**
+     * Número de claves (una por palabra de cada nombre)
+     */
+    int size() {
+        return keys.length;
+    }
+
+    List<String> complete(String prefix, int limit) {
+        String key = prefix == null ? "" : normalize(prefix.strip());
+        Set<String> matches = new LinkedHashSet<>();
+        for (int i = lowerBound(key); i < keys.length && matches.size() < limit
+                && keys[i].startsWith(key); i++) {
+            matches.add(names[i]);
+        }
+        return List.copyOf(matches);
+    }
+
+    /**
+     * Índice con los nombres de {@code changed} en lugar de los anteriores de cada ID; un nombre
+     * {@code null} elimina la entidad del índice
+     */
+    NamePrefixIndex with(Map<Integer, String> changed) {
+        if (changed.isEmpty()) {
+            return this;
+        }
+        int[] replaced = changed.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        List<Entry> added = new ArrayList<>();
+        changed.forEach((id, name) -> {
+            if (name != null) {
+                addEntries(added, id, name);
+            }
+        });
+        added.sort(ORDER);
+
+        int capacity = keys.length + added.size();
+        String[] mergedKeys = new String[capacity];
+        String[] mergedNames = new String[capacity];
+        int[] mergedIds = new int[capacity];
+        int size = 0;
+        int current = 0;
+        int next = 0;
+        while (current < keys.length || next < added.size()) {
+            if (current < keys.length && Arrays.binarySearch(replaced, ids[current]) >= 0) {
+                current++;
+                continue;
+            }
+            boolean takeCurrent = next == added.size() || (current < keys.length
+                    && compare(keys[current], names[current], added.get(next)) <= 0);
+            if (takeCurrent) {
+                mergedKeys[size] = keys[current];
+                mergedNames[size] = names[current];
+                mergedIds[size++] = ids[current++];
+            } else {
+                Entry entry = added.get(next++);
+                mergedKeys[size] = entry.key();
+                mergedNames[size] = entry.name();
+                mergedIds[size++] = entry.id();
+            }
+        }
+        return new NamePrefixIndex(Arrays.copyOf(mergedKeys, size),
+                Arrays.copyOf(mergedNames, size), Arrays.copyOf(mergedIds, size));
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private int lowerBound(String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys[middle].compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static int compare(String key, String name, Entry entry) {
+        int byKey = key.compareTo(entry.key());
+        return byKey != 0 ? byKey : name.compareTo(entry.name());
+    }
+
+    private static void addEntries(List<Entry> entries, int id, String name) {
+        String normalized = normalize(name);
+        for (int i = 0; i < normalized.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(normalized.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)));
+            if (wordStart) {
+                entries.add(new Entry(normalized.substring(i), name, id));
+            }
+        }
+    }
+
+    private record Entry(String key, String name, int id) {
+    }
+}
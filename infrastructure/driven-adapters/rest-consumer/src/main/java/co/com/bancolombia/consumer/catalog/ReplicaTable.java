@@ -0,0 +1,153 @@
+package co.com.bancolombia.consumer.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Copia en memoria de un tipo de entidad del catálogo, indexada y ordenada por ID
+ * <p>
+ * Una entrada se reemplaza cuando se refresca y se retira cuando {@link CatalogSync} detecta que
+ * el upstream la eliminó. Las lecturas no bloquean ni asignan más allá del {@link Mono}
+ * resultante.
+ */
+public final class ReplicaTable<T> {
+
+    private final ConcurrentSkipListMap<Integer, T> entries = new ConcurrentSkipListMap<>();
+    private final Function<T, Integer> idOf;
+    private volatile int upstreamCount = -1;
+    private volatile int pages;
+    private volatile int syncsSinceFullSweep;
+    private int refreshCursor;
+
+    public ReplicaTable(Function<T, Integer> idOf) {
+        this.idOf = idOf;
+    }
+
+    /**
+     * Entidad de la réplica o, si el ID no se conoce todavía, la consulta de {@code fallback}
+     */
+    public Mono<T> lookup(Integer id, Function<Integer, Mono<T>> fallback) {
+        T entry = entries.get(id);
+        return entry != null ? Mono.just(entry) : fallback.apply(id);
+    }
+
+    /**
+     * Igual que {@link #lookup} para un lote: en orden, sin duplicados y pidiendo a
+     * {@code fallback} solo los IDs ausentes de la réplica
+     */
+    public Flux<T> lookupAll(Collection<Integer> ids,
+            Function<Collection<Integer>, Flux<T>> fallback) {
+        Set<Integer> unique = new LinkedHashSet<>(ids);
+        List<Integer> missing = unique.stream()
+                .filter(id -> !entries.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return Flux.fromIterable(unique).map(entries::get);
+        }
+        return fallback.apply(missing)
+                .collectMap(idOf)
+                .flatMapIterable(fetched -> unique.stream()
+                        .map(id -> entries.getOrDefault(id, fetched.get(id)))
+                        .filter(Objects::nonNull)
+                        .toList());
+    }
+
+    /**
+     * Listado en orden de ID desde la posición {@code offset}; hasta completar la primera carga
+     * se delega en {@code fallback}
+     */
+    public Flux<T> list(long offset, LongFunction<Flux<T>> fallback) {
+        return isLoaded()
+                ? Flux.fromIterable(entries.values()).skip(offset)
+                : fallback.apply(offset);
+    }
+
+    public boolean contains(Integer id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * Guarda la entidad; {@code true} si es nueva o su contenido cambió respecto a la réplica
+     */
+    public boolean put(T entry) {
+        return !entry.equals(entries.put(idOf.apply(entry), entry));
+    }
+
+    /**
+     * Retira la entidad; {@code true} si estaba en la réplica
+     */
+    boolean remove(Integer id) {
+        return entries.remove(id) != null;
+    }
+
+    /**
+     * IDs replicados que no están en {@code seen}
+     */
+    List<Integer> idsNotIn(Set<Integer> seen) {
+        return entries.keySet().stream().filter(id -> !seen.contains(id)).toList();
+    }
+
+    Integer idOf(T entry) {
+        return idOf.apply(entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Mayor ID replicado, o -1 si la réplica aún no completó su primera carga
+     */
+    public int maxId() {
+        return isLoaded() && !entries.isEmpty() ? entries.lastKey() : -1;
+    }
+
+    public boolean isLoaded() {
+        return upstreamCount >= 0;
+    }
+
+    public int upstreamCount() {
+        return upstreamCount;
+    }
+
+    public int pages() {
+        return pages;
+    }
+
+    /**
+     * Sincronizaciones incrementales desde el último recorrido completo de los listados
+     */
+    int syncsSinceFullSweep() {
+        return syncsSinceFullSweep;
+    }
+
+    void markSynced(int upstreamCount, int pages, boolean fullSweep) {
+        this.upstreamCount = upstreamCount;
+        this.pages = pages;
+        this.syncsSinceFullSweep = fullSweep ? 0 : syncsSinceFullSweep + 1;
+    }
+
+    /**
+     * Siguiente ventana de IDs conocidos a refrescar; avanza en cada llamada y vuelve al inicio
+     * al llegar al final
+     */
+    synchronized List<Integer> nextRefreshWindow(int size) {
+        List<Integer> ids = new ArrayList<>(entries.keySet());
+        if (ids.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        int from = refreshCursor >= ids.size() ? 0 : refreshCursor;
+        int to = Math.min(ids.size(), from + size);
+        refreshCursor = to;
+        return List.copyOf(ids.subList(from, to));
+    }
+}
@@ -0,0 +1,74 @@
+package co.com.bancolombia.consumer.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Single-flight de llamadas al upstream
+ * <p>
+ * Mientras una petición para un mismo recurso e ID está en curso, los suscriptores concurrentes
+ * se enganchan a ella en lugar de abrir otro intercambio HTTP:
+ * <ul>
+ *     <li>Todos reciben el mismo valor o el mismo error; el error no se memoriza, la siguiente
+ *     llamada vuelve al upstream.</li>
+ *     <li>Cancelar un suscriptor no afecta a los demás; la petición solo se cancela cuando
+ *     cancelan todos.</li>
+ *     <li>Cada llamada colapsada incrementa {@code simpsons.upstream.coalesced{resource}}.</li>
+ * </ul>
+ */
+@Component
+public class RequestCoalescer {
+
+    private final ConcurrentMap<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Counter> collapsed = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> coalesce(String resource, Object id, Supplier<Mono<T>> call) {
+        String key = resource + '/' + id;
+        return Mono.defer(() -> {
+            Mono<?> existing = inFlight.get(key);
+            if (existing != null) {
+                collapsedCounter(resource).increment();
+                return (Mono<T>) existing;
+            }
+
+            AtomicReference<Mono<T>> self = new AtomicReference<>();
+            Mono<T> shared = call.get()
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .flux()
+                    .replay(1)
+                    .refCount()
+                    .singleOrEmpty();
+            self.set(shared);
+
+            Mono<?> raced = inFlight.putIfAbsent(key, shared);
+            if (raced != null) {
+                collapsedCounter(resource).increment();
+                return (Mono<T>) raced;
+            }
+            return shared;
+        });
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Counter collapsedCounter(String resource) {
+        return collapsed.computeIfAbsent(resource, r -> Counter.builder("simpsons.upstream.coalesced")
+                .description("Llamadas al upstream resueltas por una petición idéntica en curso")
+                .tag("resource", r)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,58 @@
+package co.com.bancolombia.consumer.config;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * Abre conexiones del pool de la API de Simpsons al arrancar
+ * <p>
+ * Al recibir {@link ApplicationReadyEvent} inicializa los recursos del {@link HttpClient} (event
+ * loops, resolver DNS y SSL) y lanza {@code warmupConnections} peticiones HEAD concurrentes contra
+ * la URL base para que el handshake TCP/TLS ocurra antes del primer tráfico real. Todo corre en
+ * segundo plano: el estado de la respuesta no importa y los fallos solo se registran, así que el
+ * arranque nunca espera ni falla por el calentamiento.
+ */
+@Slf4j
+@Component
+public class ConnectionPoolWarmer {
+
+    private final WebClient client;
+    private final HttpClient simpsonsHttpClient;
+    private final int connections;
+
+    public ConnectionPoolWarmer(WebClient client, HttpClient simpsonsHttpClient,
+            RestConsumerProperties properties) {
+        this.client = client;
+        this.simpsonsHttpClient = simpsonsHttpClient;
+        this.connections = properties.getPool().getWarmupConnections();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        simpsonsHttpClient.warmup()
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenMany(Flux.range(0, connections))
+                .flatMap(i -> client.head()
+                        .retrieve()
+                        .toBodilessEntity()
+                        .then(Mono.just(1))
+                        // Un 4xx/5xx también deja la conexión abierta en el pool
+                        .onErrorResume(WebClientResponseException.class, error -> Mono.just(1)),
+                        Math.max(1, connections))
+                .count()
+                .subscribe(
+                        opened -> log.info("Pool de la API de Simpsons precalentado con {} conexiones",
+                                opened),
+                        error -> log.warn("No fue posible precalentar el pool de la API de Simpsons: {}",
+                                error.getMessage()));
+    }
+}
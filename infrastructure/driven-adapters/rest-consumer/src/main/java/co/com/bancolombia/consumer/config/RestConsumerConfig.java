@@ -4,48 +4,114 @@ import static io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties.LeasingStrategy;
+import co.com.bancolombia.consumer.jfr.UpstreamExchangeEvent;
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.net.URI;
+import java.util.regex.Pattern;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.Http2AllocationStrategy;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Configuration
 public class RestConsumerConfig {
 
+    // Evita una serie de métricas por cada ID consultado (/characters/1, /characters/2...)
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+");
+
     private final RestConsumerProperties properties;
 
     public RestConsumerConfig(RestConsumerProperties properties) {
         this.properties = properties;
     }
 
+    /**
+     * Los cuerpos JSON se decodifican con el {@link UpstreamJsonMapper}, que enlaza el formato del
+     * upstream directamente con los modelos de dominio. El filtro de {@link UpstreamExchangeEvent}
+     * anota estado y bytes en el evento JFR del intercambio en curso, si lo hay.
+     */
     @Bean
-    public WebClient getWebClient(WebClient.Builder builder) {
+    public WebClient getWebClient(WebClient.Builder builder, HttpClient simpsonsHttpClient,
+            UpstreamJsonMapper upstreamJson) {
         return builder
                 .baseUrl(properties.getUrl())
                 .defaultHeaders(this::applyDefaultHeaders)
-                .clientConnector(getClientHttpConnector())
+                .codecs(codecs -> codecs.defaultCodecs().jackson2JsonDecoder(upstreamJson.jsonDecoder()))
+                .clientConnector(new ReactorClientHttpConnector(simpsonsHttpClient))
+                .filter(UpstreamExchangeEvent.filter())
                 .build();
     }
 
-    private void applyDefaultHeaders(HttpHeaders headers) {
-        properties.getHeaders().forEach(headers::add);
-    }
-
-    private ClientHttpConnector getClientHttpConnector() {
-        return new ReactorClientHttpConnector(HttpClient.create()
+    /**
+     * Cliente Reactor Netty sobre el pool dedicado. Con {@code http2} el protocolo sale del
+     * esquema de la URL base: {@code https} negocia HTTP/2 por ALPN sobre TLS y {@code http} usa
+     * HTTP/2 en claro (h2c); ambos con HTTP/1.1 como alternativa. El calentamiento (event loops,
+     * DNS y SSL) lo hace {@link ConnectionPoolWarmer} al terminar el arranque.
+     */
+    @Bean
+    public HttpClient simpsonsHttpClient(ConnectionProvider simpsonsConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(simpsonsConnectionProvider)
                 .compress(true)
                 .keepAlive(true)
+                .metrics(true, uri -> NUMERIC_SEGMENT.matcher(uri).replaceAll("/{id}"))
                 .option(CONNECT_TIMEOUT_MILLIS, properties.getTimeout())
                 .doOnConnected(connection -> {
                     connection.addHandlerLast(
                             new ReadTimeoutHandler(properties.getTimeout(), MILLISECONDS));
                     connection.addHandlerLast(
                             new WriteTimeoutHandler(properties.getTimeout(), MILLISECONDS));
-                }));
+                });
+
+        if (!properties.getPool().isHttp2()) {
+            return httpClient;
+        }
+        if ("https".equalsIgnoreCase(URI.create(properties.getUrl()).getScheme())) {
+            return httpClient.protocol(HttpProtocol.H2, HttpProtocol.HTTP11).secure();
+        }
+        return httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+    }
+
+    /**
+     * Pool dedicado en lugar del proveedor global de Reactor Netty. Con {@code metrics(true)}
+     * publica en Micrometer los gauges del pool (conexiones activas, ociosas, pendientes) y el
+     * histograma de tiempo de adquisición ({@code reactor.netty.connection.provider.*}).
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider simpsonsConnectionProvider() {
+        RestConsumerProperties.Pool pool = properties.getPool();
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(pool.getName())
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictInBackground())
+                .metrics(true);
+
+        if (pool.getLeasingStrategy() == LeasingStrategy.LIFO) {
+            builder.lifo();
+        } else {
+            builder.fifo();
+        }
+
+        if (pool.isHttp2()) {
+            builder.allocationStrategy(Http2AllocationStrategy.builder()
+                    .maxConnections(pool.getMaxConnections())
+                    .maxConcurrentStreams(pool.getMaxConcurrentStreams())
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private void applyDefaultHeaders(HttpHeaders headers) {
+        properties.getHeaders().forEach(headers::add);
     }
 }
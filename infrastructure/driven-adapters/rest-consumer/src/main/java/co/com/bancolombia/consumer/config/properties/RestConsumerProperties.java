@@ -1,5 +1,6 @@
 package co.com.bancolombia.consumer.config.properties;
 
+import java.time.Duration;
 import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
@@ -14,5 +15,101 @@ public class RestConsumerProperties {
 
     private String url;
     private int timeout;
+    private int batchConcurrency = 8;
+    /**
+     * Elementos por página de los listados del upstream; permite saltar directamente a la página
+     * de un {@code offset} sin recorrer las anteriores
+     */
+    private int pageSize = 20;
+    private long fallbackCacheSize = 5_000;
+    /**
+     * Presupuesto total de una consulta por ID, incluidos los reintentos y sus esperas; al
+     * agotarse se sirve el último valor bueno (o se propaga el timeout)
+     */
+    private Duration callTimeout = Duration.ofSeconds(3);
     private Map<String, String> headers;
+    private Hedging hedging = new Hedging();
+    private Pool pool = new Pool();
+    private Revalidation revalidation = new Revalidation();
+    private Limiter limiter = new Limiter();
+
+    /**
+     * Peticiones "hedged": si la primera petición no responde tras el percentil {@code percentile}
+     * de latencia observada (acotado entre {@code minDelay} y {@code maxDelay}) se lanza una
+     * segunda idéntica. {@code budgetPercent} limita los hedges a ese porcentaje de las peticiones,
+     * con una ráfaga máxima de {@code maxBurst}.
+     */
+    @Setter
+    @Getter
+    public static class Hedging {
+
+        private boolean enabled;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(50);
+        private Duration maxDelay = Duration.ofSeconds(1);
+        private double budgetPercent = 5;
+        private int maxBurst = 10;
+    }
+
+    /**
+     * Pool de conexiones dedicado de Reactor Netty para la API de Simpsons
+     * <p>
+     * Con {@code http2} se usa HTTP/2 (ALPN sobre TLS con una URL {@code https}, h2c con una
+     * {@code http}) y cada conexión multiplexa hasta {@code maxConcurrentStreams} peticiones. {@code warmupConnections} conexiones se abren al
+     * arrancar para no pagar el handshake TLS en las primeras peticiones.
+     */
+    @Setter
+    @Getter
+    public static class Pool {
+
+        private String name = "simpsons-api";
+        private int maxConnections = 100;
+        private int pendingAcquireMaxCount = 500;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(2);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+        private LeasingStrategy leasingStrategy = LeasingStrategy.FIFO;
+        private boolean http2;
+        private int maxConcurrentStreams = 100;
+        private int warmupConnections = 4;
+    }
+
+    /**
+     * Revalidación condicional ({@code If-None-Match} / {@code If-Modified-Since}): se guardan
+     * los validadores y el objeto decodificado de hasta {@code maximumSize} respuestas
+     */
+    @Setter
+    @Getter
+    public static class Revalidation {
+
+        private boolean enabled = true;
+        private long maximumSize = 5_000;
+    }
+
+    /**
+     * Límite adaptativo de concurrencia hacia el upstream (AIMD): arranca en
+     * {@code initialLimit}, sube de uno en uno mientras la latencia no supere
+     * {@code latencyTolerance} veces la de referencia y se multiplica por {@code backoffRatio}
+     * ante respuestas lentas, 429/503/504 o timeouts. Lo que excede el límite espera hasta
+     * {@code maxWait} en una cola de {@code maxQueue} peticiones.
+     */
+    @Setter
+    @Getter
+    public static class Limiter {
+
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private double latencyTolerance = 2.0;
+        private int maxQueue = 200;
+        private Duration maxWait = Duration.ofSeconds(1);
+    }
+
+    public enum LeasingStrategy {
+        FIFO,
+        LIFO
+    }
 }
@@ -0,0 +1,47 @@
+package co.com.bancolombia.consumer.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Límites y tiempos de vida de la caché de entidades de la API de Simpsons
+ * <p>
+ * Cada tipo de entidad tiene su propio tamaño máximo, TTL y ventana de refresco anticipado
+ * (refresh-ahead): pasado {@code refreshAfter} la siguiente lectura devuelve el valor actual y
+ * dispara una recarga asíncrona, de modo que las entradas calientes nunca llegan a expirar.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "adapter.restconsumer.cache")
+public class SimpsonsCacheProperties {
+
+    private Entry characters = new Entry();
+    private Entry episodes = new Entry();
+    private Entry locations = new Entry();
+    private Negative negative = new Negative();
+
+    @Setter
+    @Getter
+    public static class Entry {
+
+        private long maximumSize = 1_000;
+        private Duration ttl = Duration.ofHours(1);
+        private Duration refreshAfter = Duration.ofMinutes(30);
+    }
+
+    /**
+     * Caché de IDs inexistentes (404): TTL corto para que una entidad nueva en el upstream no
+     * quede oculta mucho tiempo
+     */
+    @Setter
+    @Getter
+    public static class Negative {
+
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,34 @@
+package co.com.bancolombia.consumer.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Réplica local del catálogo de Simpsons
+ * <p>
+ * Al arrancar se carga el catálogo completo y cada {@code syncInterval} se sincroniza de forma
+ * incremental: se descargan solo las entidades nuevas y se refrescan {@code refreshBatchSize}
+ * entidades ya conocidas por tipo, rotando hasta recorrer toda la réplica. Una de cada
+ * {@code fullSweepEvery} sincronizaciones (0 nunca, salvo cuando el total baja) recorre todos los
+ * listados para recoger altas y bajas que no cambiaron el total.
+ * <p>
+ * El detalle de las entidades se descarga a lo sumo a {@code requestsPerSecond} IDs por segundo
+ * y tipo (0 sin límite), para que la carga inicial no compita con el tráfico real por el
+ * upstream ni por el límite de concurrencia.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "adapter.restconsumer.catalog")
+public class SimpsonsCatalogProperties {
+
+    private boolean enabled = true;
+    private Duration initialDelay = Duration.ofSeconds(30);
+    private Duration syncInterval = Duration.ofMinutes(15);
+    private int refreshBatchSize = 50;
+    private int requestsPerSecond = 10;
+    private int fullSweepEvery = 8;
+}
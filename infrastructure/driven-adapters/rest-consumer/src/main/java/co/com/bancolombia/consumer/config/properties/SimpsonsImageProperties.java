@@ -0,0 +1,26 @@
+package co.com.bancolombia.consumer.config.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Proxy de imágenes del catálogo con caché en disco
+ * <p>
+ * Las rutas ({@code portrait_path}, {@code image_path}) se resuelven contra {@code baseUrl} y se
+ * guardan en {@code directory}, con desalojo LRU cuando el total supera {@code maxSize}. Una
+ * imagen mayor que {@code maxImageSize} se rechaza.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "adapter.restconsumer.images")
+public class SimpsonsImageProperties {
+
+    private String baseUrl = "https://cdn.thesimpsonsapi.com/500";
+    private String directory = System.getProperty("java.io.tmpdir") + "/simpsons-images";
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+    private DataSize maxImageSize = DataSize.ofMegabytes(5);
+}
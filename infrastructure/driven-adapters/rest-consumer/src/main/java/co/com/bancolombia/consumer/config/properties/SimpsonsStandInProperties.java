@@ -0,0 +1,63 @@
+package co.com.bancolombia.consumer.config.properties;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Servidor embebido que imita la API de Simpsons para pruebas de carga sin red
+ * <p>
+ * Con {@code enabled} se levanta en {@code host}:{@code port} y basta con apuntar
+ * {@code adapter.restconsumer.url} a él. El dataset se genera a partir de {@code seed}, de modo
+ * que dos ejecuciones con la misma configuración sirven exactamente los mismos documentos.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "adapter.restconsumer.stand-in")
+public class SimpsonsStandInProperties {
+
+    private boolean enabled;
+    private String host = "localhost";
+    private int port = 18090;
+    private long seed = 42;
+    private int characters = 1_200;
+    private int episodes = 770;
+    private int locations = 480;
+    private Latency latency = new Latency();
+    private Faults faults = new Faults();
+
+    /**
+     * Distribución de la latencia de cada respuesta: {@code CONSTANT} siempre espera
+     * {@code median}, {@code UNIFORM} reparte entre {@code min} y {@code p99} y
+     * {@code LOG_NORMAL} ajusta una log-normal con la mediana y el p99 indicados
+     */
+    @Setter
+    @Getter
+    public static class Latency {
+
+        private Distribution distribution = Distribution.NONE;
+        private Duration min = Duration.ZERO;
+        private Duration median = Duration.ofMillis(20);
+        private Duration p99 = Duration.ofMillis(150);
+    }
+
+    /**
+     * Fallos inyectados: {@code errorRate} (0..1) de las peticiones responde {@code errorStatus} y,
+     * si {@code requestsPerSecond} es mayor que cero, lo que exceda esa tasa recibe un 429
+     */
+    @Setter
+    @Getter
+    public static class Faults {
+
+        private double errorRate;
+        private int errorStatus = 503;
+        private int requestsPerSecond;
+    }
+
+    public enum Distribution {
+        NONE, CONSTANT, UNIFORM, LOG_NORMAL
+    }
+}
@@ -0,0 +1,154 @@
+package co.com.bancolombia.consumer.hedging;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Hedging de peticiones idempotentes al upstream
+ * <p>
+ * Si la petición original no ha respondido tras el percentil configurado de la latencia
+ * observada, se lanza una segunda petición idéntica; gana la primera en emitir una señal y la
+ * otra se cancela. Un presupuesto tipo token bucket limita los hedges a un porcentaje de las
+ * peticiones para no duplicar la carga cuando el upstream entero va lento.
+ * <p>
+ * Métricas: {@code simpsons.upstream.hedge.fired}, {@code simpsons.upstream.hedge.won},
+ * {@code simpsons.upstream.hedge.denied} y {@code simpsons.upstream.hedge.delay}, todas con tag
+ * {@code resource}.
+ */
+@Component
+public class HedgedRequestExecutor {
+
+    private static final long TOKEN = 1_000;
+
+    private final RestConsumerProperties.Hedging config;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, ResourceState> resources = new ConcurrentHashMap<>();
+    private final AtomicLong budget = new AtomicLong();
+    private final long depositPerRequest;
+    private final long maxBudget;
+
+    public HedgedRequestExecutor(RestConsumerProperties properties, MeterRegistry meterRegistry) {
+        this.config = properties.getHedging();
+        this.meterRegistry = meterRegistry;
+        this.depositPerRequest = Math.round(config.getBudgetPercent() / 100 * TOKEN);
+        this.maxBudget = config.getMaxBurst() * TOKEN;
+    }
+
+    public <T> Mono<T> execute(String resource, Supplier<Mono<T>> call) {
+        if (!config.isEnabled()) {
+            return call.get();
+        }
+        return Mono.defer(() -> {
+            ResourceState state = state(resource);
+            deposit();
+
+            Mono<T> primary = timed(call.get(), state, true);
+            Mono<T> hedge = Mono.delay(state.delay())
+                    .flatMap(tick -> {
+                        if (!tryWithdraw()) {
+                            state.denied.increment();
+                            return Mono.never();
+                        }
+                        state.fired.increment();
+                        return timed(call.get(), state, false)
+                                .doOnNext(value -> state.won.increment());
+                    });
+
+            return Mono.firstWithSignal(primary, hedge);
+        });
+    }
+
+    /**
+     * Registra la latencia de cada intento que termina, no solo la del ganador. Si la petición
+     * original se cancela (ganó el hedge o venció el timeout) se registra lo transcurrido hasta
+     * entonces: es una cota inferior de su latencia real, pero sin ella el percentil solo vería
+     * las respuestas rápidas y el hedge se lanzaría cada vez antes. Un hedge cancelado no cuenta,
+     * porque empezó tarde y su tiempo no dice nada de la latencia del upstream.
+     */
+    private <T> Mono<T> timed(Mono<T> call, ResourceState state, boolean recordCancel) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return call.doFinally(signal -> {
+                if (signal == SignalType.ON_COMPLETE
+                        || (recordCancel && signal == SignalType.CANCEL)) {
+                    state.latency.record(System.nanoTime() - start);
+                }
+            });
+        });
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(depositPerRequest, (current, add) -> Math.min(maxBudget, current + add));
+    }
+
+    private boolean tryWithdraw() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN));
+        return true;
+    }
+
+    /**
+     * Latencias registradas para {@code resource}
+     */
+    long samples(String resource) {
+        return state(resource).latency.count();
+    }
+
+    private ResourceState state(String resource) {
+        return resources.computeIfAbsent(resource, ResourceState::new);
+    }
+
+    private final class ResourceState {
+
+        private final LatencyTracker latency = new LatencyTracker(config.getPercentile());
+        private final Counter fired;
+        private final Counter won;
+        private final Counter denied;
+
+        private ResourceState(String resource) {
+            this.fired = counter("simpsons.upstream.hedge.fired", "Hedges lanzados", resource);
+            this.won = counter("simpsons.upstream.hedge.won",
+                    "Hedges que respondieron antes que la petición original", resource);
+            this.denied = counter("simpsons.upstream.hedge.denied",
+                    "Hedges descartados por falta de presupuesto", resource);
+            Gauge.builder("simpsons.upstream.hedge.delay", this, s -> s.delay().toMillis())
+                    .description("Espera actual antes de lanzar un hedge (ms)")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+
+        private Duration delay() {
+            long nanos = latency.percentileNanos();
+            if (nanos < 0) {
+                return config.getMaxDelay();
+            }
+            Duration observed = Duration.ofNanos(nanos);
+            if (observed.compareTo(config.getMinDelay()) < 0) {
+                return config.getMinDelay();
+            }
+            return observed.compareTo(config.getMaxDelay()) > 0 ? config.getMaxDelay() : observed;
+        }
+
+        private Counter counter(String name, String description, String resource) {
+            return Counter.builder(name)
+                    .description(description)
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package co.com.bancolombia.consumer.hedging;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ventana deslizante de las últimas latencias observadas de un recurso
+ * <p>
+ * El percentil se recalcula cada {@value #RECOMPUTE_EVERY} muestras sobre una copia de la
+ * ventana, así la ruta de cada petición solo paga una escritura atómica.
+ */
+class LatencyTracker {
+
+    static final int WINDOW = 256;
+    static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 32;
+
+    private final AtomicLongArray samples = new AtomicLongArray(WINDOW);
+    private final AtomicLong recorded = new AtomicLong();
+    private final double percentile;
+    private volatile long percentileNanos = -1;
+
+    LatencyTracker(double percentile) {
+        this.percentile = percentile;
+    }
+
+    void record(long nanos) {
+        long count = recorded.getAndIncrement();
+        samples.set((int) (count % WINDOW), nanos);
+        if ((count + 1) >= MIN_SAMPLES && (count + 1) % RECOMPUTE_EVERY == 0) {
+            recompute((int) Math.min(count + 1, WINDOW));
+        }
+    }
+
+    /**
+     * Muestras registradas desde el inicio, no solo las de la ventana
+     */
+    long count() {
+        return recorded.get();
+    }
+
+    /**
+     * Percentil configurado en nanosegundos, o -1 mientras no haya muestras suficientes
+     */
+    long percentileNanos() {
+        return percentileNanos;
+    }
+
+    private void recompute(int size) {
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        percentileNanos = copy[Math.clamp(index, 0, size - 1)];
+    }
+}
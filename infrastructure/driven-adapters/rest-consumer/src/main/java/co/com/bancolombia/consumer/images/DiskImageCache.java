@@ -0,0 +1,221 @@
+package co.com.bancolombia.consumer.images;
+
+import co.com.bancolombia.consumer.coalescing.RequestCoalescer;
+import co.com.bancolombia.consumer.config.properties.SimpsonsImageProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Caché en disco de imágenes con desalojo LRU por tamaño total
+ * <p>
+ * <ul>
+ *     <li>La descarga se escribe en streaming a un archivo temporal
+ *     ({@link DataBufferUtils#write}) y se publica con un {@code move} atómico: nunca se lee un
+ *     archivo a medio escribir.</li>
+ *     <li>Las lecturas mapean el archivo en memoria ({@link FileChannel#map}); el contenido no
+ *     pasa por el heap hasta que alguien lo consume.</li>
+ *     <li>Las descargas concurrentes de la misma clave se colapsan en una sola con el
+ *     {@link RequestCoalescer}.</li>
+ *     <li>Al arrancar se indexan los archivos existentes, del más antiguo al más reciente.</li>
+ * </ul>
+ * Métricas: {@code simpsons.images.cache{result=hit|miss}}, {@code simpsons.images.cache.bytes} y
+ * {@code simpsons.images.cache.evictions}.
+ */
+@Slf4j
+@Component
+public class DiskImageCache {
+
+    private static final String TEMP_SUFFIX = ".part";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long maxImageBytes;
+    private final RequestCoalescer coalescer;
+    // Orden de acceso: el primero es el menos usado recientemente. Protegido por "this"
+    private final Map<String, Long> index = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public DiskImageCache(SimpsonsImageProperties properties, RequestCoalescer coalescer,
+            MeterRegistry meterRegistry) {
+        this.directory = Path.of(properties.getDirectory());
+        this.maxBytes = properties.getMaxSize().toBytes();
+        this.maxImageBytes = properties.getMaxImageSize().toBytes();
+        this.coalescer = coalescer;
+        this.hits = result(meterRegistry, "hit");
+        this.misses = result(meterRegistry, "miss");
+        this.evictions = Counter.builder("simpsons.images.cache.evictions")
+                .description("Imágenes desalojadas de la caché en disco")
+                .register(meterRegistry);
+        Gauge.builder("simpsons.images.cache.bytes", this, DiskImageCache::size)
+                .description("Bytes ocupados por la caché de imágenes en disco")
+                .register(meterRegistry);
+        loadIndex();
+    }
+
+    /**
+     * Contenido de {@code key}: desde disco si está, o descargándolo con {@code download}.
+     * {@code key} debe ser un nombre de archivo simple
+     */
+    public Mono<ByteBuffer> get(String key, Supplier<Flux<DataBuffer>> download) {
+        return Mono.defer(() -> {
+            if (touch(key)) {
+                hits.increment();
+                return read(key)
+                        // Desalojado entre la consulta del índice y la lectura
+                        .onErrorResume(NoSuchFileException.class, e -> fetch(key, download));
+            }
+            return fetch(key, download);
+        });
+    }
+
+    public synchronized long size() {
+        return totalBytes;
+    }
+
+    private Mono<ByteBuffer> fetch(String key, Supplier<Flux<DataBuffer>> download) {
+        return coalescer.coalesce("images", key, () -> {
+            misses.increment();
+            Path temp = directory.resolve(key + TEMP_SUFFIX);
+            Flux<DataBuffer> body = DataBufferUtils.takeUntilByteCount(download.get(),
+                            maxImageBytes + 1)
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+            return DataBufferUtils.write(body, temp)
+                    .then(Mono.fromCallable(() -> publish(key, temp)))
+                    .onErrorResume(error -> Mono.fromRunnable(() -> deleteQuietly(temp))
+                            .then(Mono.error(error)))
+                    .subscribeOn(Schedulers.boundedElastic());
+        }).flatMap(size -> read(key));
+    }
+
+    private long publish(String key, Path temp) throws IOException {
+        long size = Files.size(temp);
+        if (size > maxImageBytes) {
+            throw new DataBufferLimitException(
+                    "La imagen " + key + " supera el máximo de " + maxImageBytes + " bytes");
+        }
+        Files.move(temp, directory.resolve(key), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        List<String> evicted = register(key, size);
+        evicted.forEach(name -> deleteQuietly(directory.resolve(name)));
+        return size;
+    }
+
+    private Mono<ByteBuffer> read(String key) {
+        return Mono.fromCallable(() -> {
+            try (FileChannel channel = FileChannel.open(directory.resolve(key),
+                    StandardOpenOption.READ)) {
+                // El mapeo sigue siendo válido después de cerrar el canal
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                return mapped.asReadOnlyBuffer();
+            }
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Consulta el índice y, si la clave está, la marca como usada recientemente
+     */
+    private synchronized boolean touch(String key) {
+        return index.get(key) != null;
+    }
+
+    /**
+     * Registra {@code key} y devuelve las claves desalojadas para volver bajo {@code maxBytes}
+     */
+    private synchronized List<String> register(String key, long size) {
+        Long previous = index.put(key, size);
+        totalBytes += size - (previous != null ? previous : 0);
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> eldest = index.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            totalBytes -= entry.getValue();
+            evicted.add(entry.getKey());
+            eldest.remove();
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    private void loadIndex() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(Files::isRegularFile)
+                        .filter(file -> !file.getFileName().toString().endsWith(TEMP_SUFFIX))
+                        .sorted(Comparator.comparing(DiskImageCache::lastModified))
+                        .forEach(file -> register(file.getFileName().toString(),
+                                        fileSize(file))
+                                .forEach(name -> deleteQuietly(directory.resolve(name))));
+            }
+            log.info("Caché de imágenes en {}: {} bytes indexados", directory, size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible preparar la caché de imágenes en "
+                    + directory, e);
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class).lastModifiedTime()
+                    .toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("No fue posible borrar {} de la caché de imágenes: {}", file, e.getMessage());
+        }
+    }
+
+    private Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("simpsons.images.cache")
+                .description("Lecturas de la caché de imágenes en disco")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,129 @@
+package co.com.bancolombia.consumer.jfr;
+
+import co.com.bancolombia.model.jfr.JfrEventNames;
+import java.util.Optional;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
+
+/**
+ * Evento JFR de un intento de petición al upstream
+ * <p>
+ * {@code RestConsumer} envuelve cada intento (consulta por ID, su hedge, cada reintento y cada
+ * página de un listado) con {@link #record(String, Object, Mono)} o su variante para
+ * {@link Flux}, que abre el evento y lo deja en el contexto de Reactor. El filtro
+ * {@link #filter()} del {@code WebClient} lo encuentra ahí y anota el estado HTTP y los bytes de
+ * cuerpo leídos. Un 304 es un acierto de caché: solo llega a peticiones condicionales, cuyo valor
+ * guardado reutiliza {@code ConditionalRequestCache}.
+ * <p>
+ * Igual que el evento de las llamadas MCP, solo se crea (y solo se cuentan los bytes) mientras
+ * alguna grabación JFR lo tiene habilitado; fuera de ella el filtro solo consulta el contexto.
+ */
+@Name(JfrEventNames.UPSTREAM_EXCHANGE)
+@Label("Intercambio con el upstream")
+@Category({"Bancolombia", "Upstream"})
+@Description("Petición al API de Simpsons, desde el envío hasta la decodificación del cuerpo")
+@StackTrace(false)
+public final class UpstreamExchangeEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(UpstreamExchangeEvent.class);
+
+    @Label("Recurso")
+    private String resource;
+
+    @Label("ID")
+    private String id;
+
+    @Label("Estado HTTP")
+    private int status;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    @Label("Acierto de caché")
+    @Description("El upstream respondió 304 y se reutilizó el valor guardado")
+    private boolean cacheHit;
+
+    @Label("Resultado")
+    private String outcome;
+
+    /**
+     * Registra {@code exchange} como un intercambio mientras una grabación tenga el evento
+     * habilitado
+     */
+    public static <T> Mono<T> record(String resource, Object id, Mono<T> exchange) {
+        return Mono.defer(() -> {
+            UpstreamExchangeEvent event = begin(resource, id);
+            return event == null ? exchange : exchange
+                    .contextWrite(Context.of(UpstreamExchangeEvent.class, event))
+                    .doFinally(event::finish);
+        });
+    }
+
+    public static <T> Flux<T> record(String resource, Object id, Flux<T> exchange) {
+        return Flux.defer(() -> {
+            UpstreamExchangeEvent event = begin(resource, id);
+            return event == null ? exchange : exchange
+                    .contextWrite(Context.of(UpstreamExchangeEvent.class, event))
+                    .doFinally(event::finish);
+        });
+    }
+
+    /**
+     * Filtro del {@code WebClient} que anota en el evento del intercambio en curso, si lo hay,
+     * el estado y los bytes de la respuesta
+     */
+    public static ExchangeFilterFunction filter() {
+        return (request, next) -> Mono.deferContextual(context -> {
+            Optional<UpstreamExchangeEvent> event = context.getOrEmpty(UpstreamExchangeEvent.class);
+            return event.isEmpty() ? next.exchange(request)
+                    : next.exchange(request).map(event.get()::track);
+        });
+    }
+
+    private static UpstreamExchangeEvent begin(String resource, Object id) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        UpstreamExchangeEvent event = new UpstreamExchangeEvent();
+        event.resource = resource;
+        event.id = String.valueOf(id);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Anota el estado de la respuesta y la envuelve para contar los bytes del cuerpo leídos
+     */
+    private ClientResponse track(ClientResponse response) {
+        status = response.statusCode().value();
+        cacheHit = status == 304;
+        return response.mutate()
+                .body(buffers -> buffers.doOnNext(buffer -> bytes += buffer.readableByteCount()))
+                .build();
+    }
+
+    private void finish(SignalType signal) {
+        end();
+        if (shouldCommit()) {
+            outcome = switch (signal) {
+                case ON_COMPLETE -> "success";
+                case ON_ERROR -> "error";
+                default -> "cancelled";
+            };
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package co.com.bancolombia.consumer.json;
+
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Mix-ins que enlazan el JSON de la API de Simpsons (snake_case) con los modelos de dominio
+ * <p>
+ * El dominio no conoce Jackson: los nombres de campo del upstream se declaran aquí, de modo que
+ * el parser construye {@link SimpsonsCharacter}, {@link SimpsonsEpisode},
+ * {@link SimpsonsLocation} y {@link UserInfo} en una sola pasada, sin DTO intermedio ni copia
+ * campo a campo. Los campos que el modelo no usa se ignoran.
+ */
+public class SimpsonsJsonModule extends SimpleModule {
+
+    public SimpsonsJsonModule() {
+        super("simpsons-upstream");
+        setMixInAnnotation(SimpsonsCharacter.class, CharacterMixin.class);
+        setMixInAnnotation(SimpsonsEpisode.class, EpisodeMixin.class);
+        setMixInAnnotation(SimpsonsLocation.class, LocationMixin.class);
+        setMixInAnnotation(UserInfo.class, UserInfoMixin.class);
+        setMixInAnnotation(UserInfo.Episode.class, EpisodeMixin.class);
+        setMixInAnnotation(UserInfo.ShortInfo.class, EpisodeMixin.class);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class CharacterMixin {
+
+        @JsonProperty("portrait_path")
+        private String portraitPath;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class UserInfoMixin {
+
+        @JsonProperty("portrait_path")
+        private String portraitPath;
+        @JsonProperty("first_appearance_ep")
+        private UserInfo.Episode firstAppearanceEp;
+        @JsonProperty("first_appearance_sh")
+        private UserInfo.ShortInfo firstAppearanceSh;
+    }
+
+    /**
+     * Episodios y cortos comparten forma, tanto en el listado como anidados en un personaje
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class EpisodeMixin {
+
+        @JsonProperty("episode_number")
+        private Integer episodeNumber;
+        @JsonProperty("image_path")
+        private String imagePath;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    abstract static class LocationMixin {
+    }
+}
@@ -0,0 +1,32 @@
+package co.com.bancolombia.consumer.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ObjectMapper} propio del REST consumer: copia del de la aplicación con el
+ * {@link SimpsonsJsonModule}
+ * <p>
+ * No se publica como bean {@code ObjectMapper} ni se registra el módulo globalmente: los mix-ins
+ * describen el formato del upstream y no deben cambiar cómo se serializan los modelos de dominio
+ * hacia los clientes MCP.
+ */
+@Getter
+@Component
+public class UpstreamJsonMapper {
+
+    private final ObjectMapper mapper;
+
+    public UpstreamJsonMapper(ObjectMapper applicationMapper) {
+        this.mapper = applicationMapper.copy().registerModule(new SimpsonsJsonModule());
+    }
+
+    /**
+     * Decoder para los codecs del {@code WebClient} de la API de Simpsons
+     */
+    public Jackson2JsonDecoder jsonDecoder() {
+        return new Jackson2JsonDecoder(mapper);
+    }
+}
@@ -0,0 +1,266 @@
+package co.com.bancolombia.consumer.limiter;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Límite adaptativo (AIMD) de peticiones simultáneas al upstream
+ * <p>
+ * Cada respuesta es una muestra: si llega en menos de {@code latencyTolerance} veces la latencia
+ * de referencia (media móvil lenta de las muestras) y el límite se está usando, el límite sube en
+ * uno; si llega más lenta, o el upstream responde 429/503/504 o no responde a tiempo, el límite
+ * se multiplica por {@code backoffRatio}. Siempre queda entre {@code minLimit} y
+ * {@code maxLimit}. El límite envuelve al time limiter de cada intento, así que un timeout llega
+ * como {@link TimeoutException} y cuenta como saturación; una cancelación externa solo libera el
+ * turno.
+ * <p>
+ * Las peticiones que exceden el límite esperan turno en una cola de a lo sumo {@code maxQueue}
+ * elementos durante {@code maxWait}; si la cola está llena o se agota la espera fallan de
+ * inmediato con {@link UpstreamOverloadedException}.
+ * <p>
+ * Métricas: {@code simpsons.upstream.limit}, {@code simpsons.upstream.inflight},
+ * {@code simpsons.upstream.limit.queue} y {@code simpsons.upstream.limit.rejected} (tag
+ * {@code reason}: {@code queue_full} o {@code timeout}).
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BASELINE_ALPHA = 0.05;
+
+    private final RestConsumerProperties.Limiter config;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final Counter rejectedQueueFull;
+    private final Counter rejectedTimeout;
+    private volatile int limit;
+    private double estimatedLimit;
+    private double baselineNanos = -1;
+
+    public AdaptiveConcurrencyLimiter(RestConsumerProperties properties,
+            MeterRegistry meterRegistry) {
+        this.config = properties.getLimiter();
+        if (config.getMinLimit() < 1 || config.getInitialLimit() < config.getMinLimit()
+                || config.getInitialLimit() > config.getMaxLimit()) {
+            throw new IllegalArgumentException("El límite de concurrencia requiere 1 <= min-limit"
+                    + " <= initial-limit <= max-limit (" + config.getMinLimit() + ", "
+                    + config.getInitialLimit() + ", " + config.getMaxLimit() + ")");
+        }
+        this.limit = config.getInitialLimit();
+        this.estimatedLimit = limit;
+        Gauge.builder("simpsons.upstream.limit", this, limiter -> limiter.limit)
+                .description("Límite actual de peticiones simultáneas al upstream")
+                .register(meterRegistry);
+        Gauge.builder("simpsons.upstream.inflight", inflight, AtomicInteger::get)
+                .description("Peticiones en curso contra el upstream")
+                .register(meterRegistry);
+        Gauge.builder("simpsons.upstream.limit.queue", queued, AtomicInteger::get)
+                .description("Peticiones esperando turno por el límite de concurrencia")
+                .register(meterRegistry);
+        this.rejectedQueueFull = rejected(meterRegistry, "queue_full");
+        this.rejectedTimeout = rejected(meterRegistry, "timeout");
+    }
+
+    public <T> Mono<T> limit(Mono<T> call) {
+        if (!config.isEnabled()) {
+            return call;
+        }
+        return acquire().flatMap(permit -> call
+                .doOnSuccess(value -> permit.sample())
+                .doOnError(permit::failed)
+                .doOnCancel(permit::release));
+    }
+
+    /**
+     * Para respuestas en streaming el permiso se mantiene hasta el final del stream; su duración
+     * no es una muestra de latencia, pero los errores de saturación sí reducen el límite
+     */
+    public <T> Flux<T> limit(Flux<T> call) {
+        if (!config.isEnabled()) {
+            return call;
+        }
+        return acquire().flatMapMany(permit -> call
+                .doOnComplete(permit::release)
+                .doOnError(permit::failed)
+                .doOnCancel(permit::release));
+    }
+
+    public int currentLimit() {
+        return limit;
+    }
+
+    private Mono<Permit> acquire() {
+        return Mono.defer(() -> {
+            if (tryAcquire()) {
+                return Mono.just(new Permit());
+            }
+            if (queued.incrementAndGet() > config.getMaxQueue()) {
+                queued.decrementAndGet();
+                rejectedQueueFull.increment();
+                return Mono.error(new UpstreamOverloadedException(
+                        "Cola de peticiones al upstream llena (límite " + limit + ")"));
+            }
+            return Mono.<Permit>create(sink -> {
+                        Waiter waiter = new Waiter(sink);
+                        sink.onCancel(waiter::cancel);
+                        waiters.offer(waiter);
+                        // Un permiso pudo liberarse entre tryAcquire y el encolado
+                        drain();
+                    })
+                    .timeout(config.getMaxWait(), Mono.defer(() -> {
+                        rejectedTimeout.increment();
+                        return Mono.error(new UpstreamOverloadedException(
+                                "Sin turno para el upstream tras " + config.getMaxWait()));
+                    }));
+        });
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inflight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inflight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release() {
+        inflight.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null || !waiter.grant(new Permit())) {
+                inflight.decrementAndGet();
+            }
+        }
+    }
+
+    private synchronized void onSample(long latencyNanos, int inflightAtStart) {
+        if (baselineNanos < 0) {
+            baselineNanos = latencyNanos;
+        }
+        if (latencyNanos > baselineNanos * config.getLatencyTolerance()) {
+            estimatedLimit = estimatedLimit * config.getBackoffRatio();
+        } else if (inflightAtStart * 2 >= estimatedLimit) {
+            estimatedLimit = estimatedLimit + 1;
+        }
+        baselineNanos += BASELINE_ALPHA * (latencyNanos - baselineNanos);
+        publish();
+    }
+
+    private synchronized void onDropped() {
+        estimatedLimit = estimatedLimit * config.getBackoffRatio();
+        publish();
+    }
+
+    private void publish() {
+        estimatedLimit = Math.clamp(estimatedLimit, config.getMinLimit(), config.getMaxLimit());
+        // La cola se atiende al liberar el permiso de la muestra, fuera de este bloqueo
+        limit = (int) estimatedLimit;
+    }
+
+    /**
+     * Señales de saturación del upstream: throttling, indisponibilidad o timeouts
+     */
+    static boolean isDropped(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.GATEWAY_TIMEOUT);
+        }
+        return error instanceof TimeoutException
+                || error.getCause() instanceof ReadTimeoutException;
+    }
+
+    private Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("simpsons.upstream.limit.rejected")
+                .description("Peticiones rechazadas por el límite de concurrencia")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Turno concedido; se libera una sola vez, con o sin muestra
+     */
+    private final class Permit {
+
+        private final long start = System.nanoTime();
+        private final int inflightAtStart = inflight.get();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        void sample() {
+            if (released.compareAndSet(false, true)) {
+                onSample(System.nanoTime() - start, inflightAtStart);
+                AdaptiveConcurrencyLimiter.this.release();
+            }
+        }
+
+        void failed(Throwable error) {
+            if (released.compareAndSet(false, true)) {
+                if (isDropped(error)) {
+                    onDropped();
+                }
+                AdaptiveConcurrencyLimiter.this.release();
+            }
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                AdaptiveConcurrencyLimiter.this.release();
+            }
+        }
+    }
+
+    /**
+     * Petición encolada. Si se cancela (timeout o cancelación del suscriptor) después de recibir
+     * su permiso, lo devuelve
+     */
+    private final class Waiter {
+
+        private final MonoSink<Permit> sink;
+        private final AtomicReference<Object> state = new AtomicReference<>();
+
+        private Waiter(MonoSink<Permit> sink) {
+            this.sink = sink;
+        }
+
+        boolean grant(Permit permit) {
+            if (!state.compareAndSet(null, permit)) {
+                return false;
+            }
+            queued.decrementAndGet();
+            sink.success(permit);
+            return true;
+        }
+
+        void cancel() {
+            Object previous = state.getAndSet(Boolean.FALSE);
+            if (previous == null) {
+                queued.decrementAndGet();
+                waiters.remove(this);
+            } else if (previous instanceof Permit permit) {
+                permit.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package co.com.bancolombia.consumer.limiter;
+
+/**
+ * La petición no llegó al upstream: el límite de concurrencia estaba agotado y la cola de espera
+ * llena, o se superó la espera máxima por un turno
+ */
+public class UpstreamOverloadedException extends RuntimeException {
+
+    public UpstreamOverloadedException(String message) {
+        super(message);
+    }
+}
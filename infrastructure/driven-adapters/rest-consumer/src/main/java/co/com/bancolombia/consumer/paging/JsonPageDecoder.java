@@ -0,0 +1,198 @@
+package co.com.bancolombia.consumer.paging;
+
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Decodificador incremental de una página de listado del upstream
+ * ({@code {"count": .., "pages": .., "results": [...]}})
+ * <p>
+ * A diferencia de {@code bodyToMono}, no espera al cuerpo completo: cada elemento de
+ * {@code results} se decodifica y se emite en cuanto sus tokens terminan de llegar, y los
+ * {@link DataBuffer} se piden según la demanda del suscriptor. El total de páginas se publica en
+ * {@code totalPages} al leer el campo {@code pages}, para que quien recorre el listado pueda
+ * pedir la siguiente página sin esperar al final de esta.
+ */
+@Component
+public class JsonPageDecoder {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final String RESULTS = "results";
+    private static final String PAGES = "pages";
+
+    private final UpstreamJsonMapper upstreamJson;
+
+    public JsonPageDecoder(UpstreamJsonMapper upstreamJson) {
+        this.upstreamJson = upstreamJson;
+    }
+
+    public <T> Flux<T> decode(Flux<DataBuffer> body, Class<T> type,
+            Sinks.One<Integer> totalPages) {
+        ObjectReader reader = upstreamJson.getMapper().readerFor(type)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        return Flux.using(() -> new Session<T>(reader, totalPages),
+                session -> body
+                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                        .concatMapIterable(session::feed)
+                        .concatWith(Flux.defer(() -> Flux.fromIterable(session.finish())))
+                        .doOnError(totalPages::tryEmitError),
+                Session::close);
+    }
+
+    private static DecodingException invalid(IOException cause) {
+        return new DecodingException("Página JSON inválida del upstream", cause);
+    }
+
+    /**
+     * Estado de un único cuerpo: parser no bloqueante, profundidad actual y los tokens del
+     * elemento en curso
+     */
+    private static final class Session<T> {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final ObjectReader reader;
+        private final Sinks.One<Integer> totalPages;
+        private List<T> decoded = new ArrayList<>();
+        private int depth;
+        private String field;
+        private boolean inResults;
+        private boolean completed;
+        private TokenBuffer element;
+        private int elementDepth;
+
+        private Session(ObjectReader reader, Sinks.One<Integer> totalPages) throws IOException {
+            this.parser = FACTORY.createNonBlockingByteBufferParser();
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.reader = reader;
+            this.totalPages = totalPages;
+        }
+
+        private List<T> feed(DataBuffer buffer) {
+            try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+                while (chunks.hasNext()) {
+                    feeder.feedInput(chunks.next());
+                    drain();
+                }
+                return takeDecoded();
+            } catch (IOException e) {
+                throw invalid(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        private List<T> finish() {
+            try {
+                feeder.endOfInput();
+                drain();
+            } catch (IOException e) {
+                throw invalid(e);
+            }
+            if (!completed) {
+                throw new DecodingException("El upstream devolvió una página JSON incompleta");
+            }
+            totalPages.tryEmitEmpty();
+            return takeDecoded();
+        }
+
+        private List<T> takeDecoded() {
+            if (decoded.isEmpty()) {
+                return List.of();
+            }
+            List<T> ready = decoded;
+            decoded = new ArrayList<>();
+            return ready;
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    copyElementToken(token);
+                } else {
+                    accept(token);
+                }
+            }
+        }
+
+        private void copyElementToken(JsonToken token) throws IOException {
+            element.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                elementDepth++;
+            } else if (token.isStructEnd()) {
+                elementDepth--;
+            }
+            if (elementDepth == 0) {
+                try (JsonParser tokens = element.asParser()) {
+                    decoded.add(reader.readValue(tokens));
+                }
+                element = null;
+            }
+        }
+
+        private void accept(JsonToken token) throws IOException {
+            if (depth == 0 && token != JsonToken.START_OBJECT) {
+                throw new DecodingException("Se esperaba una página JSON y llegó " + token);
+            }
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    if (inResults && depth == 2 && token == JsonToken.START_OBJECT) {
+                        element = new TokenBuffer((ObjectCodec) null, false);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                        return;
+                    }
+                    if (depth == 1 && token == JsonToken.START_ARRAY && RESULTS.equals(field)) {
+                        inResults = true;
+                    }
+                    depth++;
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    depth--;
+                    if (depth == 1) {
+                        inResults = false;
+                    }
+                    completed = depth == 0;
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        field = parser.currentName();
+                    }
+                }
+                case VALUE_NUMBER_INT -> {
+                    if (depth == 1 && PAGES.equals(field)) {
+                        totalPages.tryEmitValue(parser.getIntValue());
+                    }
+                }
+                default -> {
+                    // Resto de campos de la página: se ignoran
+                }
+            }
+        }
+
+        private void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+                // Solo hay buffers en memoria: no queda nada que liberar
+            }
+        }
+    }
+}
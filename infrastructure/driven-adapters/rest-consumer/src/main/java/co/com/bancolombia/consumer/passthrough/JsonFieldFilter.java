@@ -0,0 +1,169 @@
+package co.com.bancolombia.consumer.passthrough;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Filtro en streaming de un objeto JSON del upstream
+ * <p>
+ * Alimenta el parser no bloqueante de Jackson con los {@link DataBuffer} tal como llegan de la
+ * red y copia al generador solo los campos de primer nivel de la lista blanca, renombrándolos
+ * cuando el dominio usa otro nombre. No se construye ningún árbol ni POJO intermedio: cada buffer
+ * se libera en cuanto se consume y el único objeto resultante es el {@code String} final.
+ * <p>
+ * Los campos se emiten en el orden en que llegan del upstream; los que el upstream no envía no
+ * aparecen en la salida. La salida es compacta: si se indenta o no lo decide quien la entrega
+ * (en el servidor MCP, {@code mcp.resources.json.pretty}).
+ */
+public final class JsonFieldFilter {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final int INITIAL_CAPACITY = 512;
+
+    private final Map<String, String> fields;
+
+    private JsonFieldFilter(Map<String, String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Filtro que conserva los campos indicados con su mismo nombre
+     */
+    public static JsonFieldFilter keeping(String... names) {
+        Map<String, String> fields = new HashMap<>();
+        for (String name : names) {
+            fields.put(name, name);
+        }
+        return new JsonFieldFilter(Map.copyOf(fields));
+    }
+
+    /**
+     * Nuevo filtro que además conserva {@code source} y lo emite como {@code target}
+     */
+    public JsonFieldFilter renaming(String source, String target) {
+        Map<String, String> copy = new HashMap<>(fields);
+        copy.put(source, target);
+        return new JsonFieldFilter(Map.copyOf(copy));
+    }
+
+    public Mono<String> filter(Flux<DataBuffer> body) {
+        return Mono.using(Session::new,
+                session -> body
+                        .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                        .<Void>handle((buffer, sink) -> {
+                            try {
+                                session.feed(buffer);
+                            } catch (IOException e) {
+                                sink.error(e);
+                            } finally {
+                                DataBufferUtils.release(buffer);
+                            }
+                        })
+                        .then(Mono.fromCallable(session::finish))
+                        .onErrorMap(IOException.class,
+                                e -> new DecodingException("JSON inválido del upstream", e)),
+                Session::close);
+    }
+
+    /**
+     * Estado de un único cuerpo: parser, generador y posición dentro del objeto raíz
+     */
+    private final class Session {
+
+        private final JsonParser parser;
+        private final ByteBufferFeeder feeder;
+        private final StringWriter output = new StringWriter(INITIAL_CAPACITY);
+        private final JsonGenerator generator;
+        private boolean started;
+        private boolean completed;
+        private boolean inValue;
+        private boolean copying;
+        private int depth;
+
+        private Session() throws IOException {
+            this.parser = FACTORY.createNonBlockingByteBufferParser();
+            this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+            this.generator = FACTORY.createGenerator(output);
+        }
+
+        private void feed(DataBuffer buffer) throws IOException {
+            try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+                while (chunks.hasNext()) {
+                    feeder.feedInput(chunks.next());
+                    drain();
+                }
+            }
+        }
+
+        private String finish() throws IOException {
+            feeder.endOfInput();
+            drain();
+            if (!completed) {
+                throw new DecodingException("El upstream devolvió un objeto JSON incompleto");
+            }
+            generator.flush();
+            return output.toString();
+        }
+
+        private void drain() throws IOException {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                accept(token);
+            }
+        }
+
+        private void accept(JsonToken token) throws IOException {
+            if (completed) {
+                throw new DecodingException("Contenido adicional tras el objeto JSON");
+            }
+            if (!started) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new DecodingException("Se esperaba un objeto JSON y llegó " + token);
+                }
+                generator.writeStartObject();
+                started = true;
+            } else if (inValue) {
+                if (copying) {
+                    generator.copyCurrentEvent(parser);
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                } else if (token.isStructEnd()) {
+                    depth--;
+                }
+                inValue = depth > 0;
+            } else if (token == JsonToken.FIELD_NAME) {
+                String target = fields.get(parser.currentName());
+                copying = target != null;
+                if (copying) {
+                    generator.writeFieldName(target);
+                }
+                inValue = true;
+            } else {
+                generator.writeEndObject();
+                completed = true;
+            }
+        }
+
+        private void close() {
+            try {
+                parser.close();
+                generator.close();
+            } catch (IOException ignored) {
+                // Solo hay buffers en memoria: no queda nada que liberar
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package co.com.bancolombia.consumer.resilience;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.limiter.UpstreamOverloadedException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.retry.RetryOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Aplica time limiter, circuit breaker y retry de Resilience4j a cada llamada al upstream
+ * <p>
+ * Cada tipo de entidad usa su propia instancia ({@code resilience4j.*.instances.<instance>}), de
+ * modo que un endpoint degradado no abre el circuito de los demás. Cuando el upstream está
+ * degradado (circuito abierto, límite de concurrencia agotado, timeout, error de red, 429 o
+ * 5xx) se sirve el último valor bueno conocido para ese ID; los 404 y demás errores de cliente
+ * se propagan tal cual.
+ * <p>
+ * El time limiter acota cada intento ({@link #timeLimit}); {@code callTimeout} acota la operación
+ * completa (intentos y esperas del retry), de modo que el peor caso antes del fallback nunca
+ * supera ese presupuesto aunque los reintentos sumados sí lo hicieran.
+ * <p>
+ * Las métricas de estado del circuito y de reintentos las publica Resilience4j en Micrometer
+ * ({@code resilience4j_circuitbreaker_*}, {@code resilience4j_retry_*}).
+ */
+@Slf4j
+@Component
+public class UpstreamResilience {
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final RetryRegistry retries;
+    private final TimeLimiterRegistry timeLimiters;
+    private final Cache<String, Object> lastGoodValues;
+    private final Duration callTimeout;
+
+    public UpstreamResilience(CircuitBreakerRegistry circuitBreakers, RetryRegistry retries,
+            TimeLimiterRegistry timeLimiters, RestConsumerProperties properties) {
+        this.circuitBreakers = circuitBreakers;
+        this.retries = retries;
+        this.timeLimiters = timeLimiters;
+        this.lastGoodValues = Caffeine.newBuilder()
+                .maximumSize(properties.getFallbackCacheSize())
+                .build();
+        this.callTimeout = properties.getCallTimeout();
+    }
+
+    /**
+     * Aplica circuit breaker, retry y {@code callTimeout} a {@code call}, que ya debe incluir el
+     * time limiter de cada intento ({@link #timeLimit(String, Mono)}). El último valor bueno se
+     * guarda por {@code resource} e ID: varias representaciones de la misma entidad (DTO o JSON
+     * pass-through) comparten instancia pero no fallback
+     */
+    public <T> Mono<T> decorate(String instance, String resource, Object id, Mono<T> call) {
+        String key = resource + '/' + id;
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(instance);
+        return call
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(RetryOperator.of(retries.retry(instance)))
+                .timeout(callTimeout)
+                .doOnNext(value -> lastGoodValues.put(key, value))
+                .onErrorResume(UpstreamResilience::isDegraded, error -> fallback(key, error));
+    }
+
+    /**
+     * Time limiter de un intento. Se aplica por separado de {@link #decorate} para que quede
+     * dentro del límite de concurrencia: así el {@link TimeoutException} llega al límite como
+     * señal de saturación en lugar de una cancelación
+     */
+    public <T> Mono<T> timeLimit(String instance, Mono<T> call) {
+        return call.transformDeferred(TimeLimiterOperator.of(timeLimiters.timeLimiter(instance)));
+    }
+
+    /**
+     * Plazo para un stream completo igual al {@code timeoutDuration} del time limiter de la
+     * instancia (no solo para el intervalo entre elementos)
+     */
+    public <T> Flux<T> timeLimit(String instance, Flux<T> call) {
+        Duration timeout = timeLimiters.timeLimiter(instance).getTimeLimiterConfig()
+                .getTimeoutDuration();
+        return Flux.defer(() -> {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            Mono<Long> remaining = Mono.defer(() -> Mono.delay(
+                    Duration.ofNanos(Math.max(0, deadline - System.nanoTime()))));
+            return call.timeout(remaining, item -> remaining);
+        });
+    }
+
+    /**
+     * Para respuestas en streaming solo se aplica el circuit breaker (el plazo lo pone
+     * {@link #timeLimit(String, Flux)}): un reintento o un fallback a mitad del stream
+     * duplicaría o mezclaría elementos ya emitidos
+     */
+    public <T> Flux<T> decorateStream(String instance, Flux<T> call) {
+        return call.transformDeferred(
+                CircuitBreakerOperator.of(circuitBreakers.circuitBreaker(instance)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Mono<T> fallback(String key, Throwable error) {
+        T lastGood = (T) lastGoodValues.getIfPresent(key);
+        if (lastGood == null) {
+            return Mono.error(error);
+        }
+        log.warn("Upstream degradado para {} ({}), se sirve el último valor conocido", key,
+                error.getClass().getSimpleName());
+        return Mono.just(lastGood);
+    }
+
+    static boolean isDegraded(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError()
+                    || response.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return error instanceof CallNotPermittedException
+                || error instanceof UpstreamOverloadedException
+                || error instanceof TimeoutException
+                || error instanceof WebClientRequestException;
+    }
+}
@@ -0,0 +1,155 @@
+package co.com.bancolombia.consumer.revalidation;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient.RequestHeadersSpec;
+import reactor.core.publisher.Mono;
+
+/**
+ * Revalidación HTTP condicional de las respuestas del upstream
+ * <p>
+ * Guarda, por recurso e ID, los validadores ({@code ETag} y {@code Last-Modified}) de cada
+ * respuesta junto con el objeto ya decodificado. La siguiente petición para esa clave envía
+ * {@code If-None-Match} / {@code If-Modified-Since}; si el upstream responde 304 se devuelve el
+ * objeto guardado sin leer cuerpo ni pasar por Jackson. Los errores HTTP se propagan como
+ * {@code WebClientResponseException}, igual que con {@code retrieve()}.
+ * <p>
+ * Métricas: {@code simpsons.upstream.revalidation} (tags {@code resource} y {@code result}
+ * {@code hit}/{@code miss}, solo peticiones condicionales) y
+ * {@code simpsons.upstream.revalidation.bytes.saved} (bytes de cuerpo que no se descargaron).
+ */
+@Component
+public class ConditionalRequestCache {
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Validated> entries;
+    private final ConcurrentMap<String, ResourceMetrics> metrics = new ConcurrentHashMap<>();
+
+    public ConditionalRequestCache(RestConsumerProperties properties,
+            MeterRegistry meterRegistry) {
+        RestConsumerProperties.Revalidation config = properties.getRevalidation();
+        this.enabled = config.isEnabled();
+        this.meterRegistry = meterRegistry;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(config.getMaximumSize())
+                .build();
+    }
+
+    /**
+     * Ejecuta {@code request} (construido en cada suscripción para que un reintento no acumule
+     * cabeceras) y decodifica la respuesta con {@code body}, o reutiliza el valor guardado ante
+     * un 304
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> exchange(String resource, Object id,
+            Supplier<RequestHeadersSpec<?>> request, Function<ClientResponse, Mono<T>> body) {
+        if (!enabled) {
+            return request.get().exchangeToMono(response -> decode(response, body));
+        }
+        String key = resource + '/' + id;
+        return Mono.defer(() -> {
+            Validated cached = entries.getIfPresent(key);
+            RequestHeadersSpec<?> spec = request.get();
+            if (cached != null) {
+                spec.headers(cached::applyTo);
+            }
+            return spec.exchangeToMono(response -> {
+                if (cached != null && response.statusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                    metrics(resource).hit(cached.bodyBytes());
+                    return response.releaseBody().thenReturn((T) cached.value());
+                }
+                if (cached != null) {
+                    metrics(resource).miss.increment();
+                }
+                return store(key, response, body);
+            });
+        });
+    }
+
+    private <T> Mono<T> store(String key, ClientResponse response,
+            Function<ClientResponse, Mono<T>> body) {
+        HttpHeaders headers = response.headers().asHttpHeaders();
+        String etag = headers.getETag();
+        String lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        if (response.statusCode().isError()) {
+            return decode(response, body);
+        }
+        if (etag == null && lastModified == null) {
+            // Sin validadores nuevos, los anteriores ya no describen el contenido actual
+            entries.invalidate(key);
+            return decode(response, body);
+        }
+        AtomicLong bytes = new AtomicLong();
+        ClientResponse counted = response.mutate()
+                .body(buffers -> buffers.doOnNext(
+                        buffer -> bytes.addAndGet(buffer.readableByteCount())))
+                .build();
+        return body.apply(counted)
+                .doOnNext(value -> entries.put(key,
+                        new Validated(etag, lastModified, value, bytes.get())));
+    }
+
+    private static <T> Mono<T> decode(ClientResponse response,
+            Function<ClientResponse, Mono<T>> body) {
+        return response.statusCode().isError() ? response.createError() : body.apply(response);
+    }
+
+    private ResourceMetrics metrics(String resource) {
+        return metrics.computeIfAbsent(resource, ResourceMetrics::new);
+    }
+
+    private record Validated(String etag, String lastModified, Object value, long bodyBytes) {
+
+        private void applyTo(HttpHeaders headers) {
+            if (etag != null) {
+                headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+            }
+            if (lastModified != null) {
+                headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+            }
+        }
+    }
+
+    private final class ResourceMetrics {
+
+        private final Counter hits;
+        private final Counter miss;
+        private final Counter bytesSaved;
+
+        private ResourceMetrics(String resource) {
+            this.hits = result(resource, "hit");
+            this.miss = result(resource, "miss");
+            this.bytesSaved = Counter.builder("simpsons.upstream.revalidation.bytes.saved")
+                    .description("Bytes de cuerpo ahorrados por respuestas 304")
+                    .baseUnit("bytes")
+                    .tag("resource", resource)
+                    .register(meterRegistry);
+        }
+
+        private void hit(long bytes) {
+            hits.increment();
+            bytesSaved.increment(bytes);
+        }
+
+        private Counter result(String resource, String result) {
+            return Counter.builder("simpsons.upstream.revalidation")
+                    .description("Peticiones condicionales al upstream por resultado")
+                    .tag("resource", resource)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package co.com.bancolombia.consumer.standin;
+
+import co.com.bancolombia.consumer.config.properties.SimpsonsStandInProperties;
+import co.com.bancolombia.consumer.config.properties.SimpsonsStandInProperties.Distribution;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencia, errores y throttling del stand-in
+ * <p>
+ * Los sorteos salen de una secuencia pseudoaleatoria indexada por el número de petición y
+ * derivada de la semilla: la n-ésima petición recibe siempre la misma latencia y el mismo
+ * resultado, sin estado compartido más allá de un contador atómico.
+ */
+final class FaultInjector {
+
+    // Cuantil 0.99 de la normal estándar
+    private static final double Z_99 = 2.326_347_874;
+    private static final long WINDOW_NANOS = 1_000_000_000L;
+
+    private final SimpsonsStandInProperties.Latency latency;
+    private final SimpsonsStandInProperties.Faults faults;
+    private final long seed;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicLong windowCount = new AtomicLong();
+    private final double mu;
+    private final double sigma;
+
+    FaultInjector(SimpsonsStandInProperties properties) {
+        this.latency = properties.getLatency();
+        this.faults = properties.getFaults();
+        this.seed = properties.getSeed();
+        double median = Math.max(1, latency.getMedian().toNanos());
+        double p99 = Math.max(median, latency.getP99().toNanos());
+        this.mu = Math.log(median);
+        this.sigma = (Math.log(p99) - mu) / Z_99;
+    }
+
+    /**
+     * Decisión para la siguiente petición: estado a responder (0 si se atiende con normalidad) y
+     * espera previa
+     */
+    Outcome next() {
+        long n = sequence.getAndIncrement();
+        Duration delay = delay(n);
+        if (throttled()) {
+            return new Outcome(429, delay);
+        }
+        if (faults.getErrorRate() > 0 && uniform(n, 1) < faults.getErrorRate()) {
+            return new Outcome(faults.getErrorStatus(), delay);
+        }
+        return new Outcome(0, delay);
+    }
+
+    record Outcome(int status, Duration delay) {
+    }
+
+    private Duration delay(long n) {
+        Distribution distribution = latency.getDistribution();
+        long min = latency.getMin().toNanos();
+        long nanos = switch (distribution) {
+            case NONE -> 0;
+            case CONSTANT -> latency.getMedian().toNanos();
+            case UNIFORM -> min + (long) (uniform(n, 2) * (latency.getP99().toNanos() - min));
+            case LOG_NORMAL -> (long) Math.exp(mu + sigma * gaussian(n));
+        };
+        return Duration.ofNanos(Math.max(min, nanos));
+    }
+
+    /**
+     * Ventana fija de un segundo con a lo sumo {@code requestsPerSecond} peticiones
+     */
+    private boolean throttled() {
+        int limit = faults.getRequestsPerSecond();
+        if (limit <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() > limit;
+    }
+
+    private double gaussian(long n) {
+        // Box-Muller; 1 - u evita log(0)
+        double u1 = 1 - uniform(n, 3);
+        double u2 = uniform(n, 4);
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    /**
+     * Valor uniforme en [0, 1) para la petición {@code n} y el sorteo {@code stream}
+     */
+    private double uniform(long n, int stream) {
+        long z = seed + n * 0x9E3779B97F4A7C15L + stream * 0xC2B2AE3D27D4EB4FL;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return (z >>> 11) * 0x1.0p-53;
+    }
+}
@@ -0,0 +1,161 @@
+package co.com.bancolombia.consumer.standin;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.config.properties.SimpsonsStandInProperties;
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+/**
+ * Stand-in en proceso de la API de Simpsons sobre Reactor Netty
+ * <p>
+ * Sirve {@code /characters/{id}}, {@code /episodes/{id}}, {@code /locations/{id}} y sus listados
+ * paginados ({@code ?page=N}) a partir de un {@link StandInDataset} determinista, con ETag y
+ * respuesta 304 a {@code If-None-Match}. Antes de cada respuesta aplica la latencia, los errores y
+ * el throttling configurados ({@link FaultInjector}), de modo que las pruebas de carga y los
+ * benchmarks corren sin red y contra un upstream reproducible.
+ * <p>
+ * Solo existe con {@code adapter.restconsumer.stand-in.enabled=true}; el perfil
+ * {@code stand-in} lo activa y apunta {@code adapter.restconsumer.url} a él.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "adapter.restconsumer.stand-in", name = "enabled",
+        havingValue = "true")
+public class SimpsonsStandInServer implements SmartLifecycle {
+
+    private static final byte[] NOT_FOUND = "{\"detail\":\"Not found.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final SimpsonsStandInProperties properties;
+    private final int pageSize;
+    private final ObjectMapper mapper;
+    private volatile StandInDataset dataset;
+    private volatile FaultInjector faults;
+    private volatile DisposableServer server;
+
+    public SimpsonsStandInServer(SimpsonsStandInProperties properties,
+            RestConsumerProperties restConsumerProperties, UpstreamJsonMapper upstreamJson) {
+        this.properties = properties;
+        this.pageSize = restConsumerProperties.getPageSize();
+        this.mapper = upstreamJson.getMapper();
+    }
+
+    @Override
+    public void start() {
+        this.dataset = new StandInDataset(properties, pageSize, mapper);
+        this.faults = new FaultInjector(properties);
+        this.server = HttpServer.create()
+                .host(properties.getHost())
+                .port(properties.getPort())
+                .route(routes -> routes
+                        .head("/", (request, response) -> response.send())
+                        .get("/{resource}/{id}", this::byId)
+                        .get("/{resource}", this::page))
+                .bindNow();
+        log.info("Stand-in de la API de Simpsons escuchando en http://{}:{} ({} personajes, {} "
+                        + "episodios, {} ubicaciones, latencia {})", properties.getHost(), port(),
+                properties.getCharacters(), properties.getEpisodes(), properties.getLocations(),
+                properties.getLatency().getDistribution());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer current = server;
+        if (current != null) {
+            current.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Arranca antes y se detiene después que el resto de componentes, que pueden consultarlo
+     * (sincronización del catálogo, precalentamiento del pool)
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Puerto efectivo; útil cuando se configura {@code port: 0}
+     */
+    public int port() {
+        return server.port();
+    }
+
+    private Publisher<Void> byId(HttpServerRequest request, HttpServerResponse response) {
+        StandInDataset.Table table = dataset.table(request.param("resource"));
+        return respond(request, response,
+                () -> table == null ? null : table.byId(parseInt(request.param("id"))));
+    }
+
+    private Publisher<Void> page(HttpServerRequest request, HttpServerResponse response) {
+        StandInDataset.Table table = dataset.table(request.param("resource"));
+        List<String> page = new QueryStringDecoder(request.uri()).parameters().get("page");
+        int number = page == null || page.isEmpty() ? 1 : parseInt(page.get(0));
+        return respond(request, response, () -> table == null ? null : table.page(number));
+    }
+
+    private Mono<Void> respond(HttpServerRequest request, HttpServerResponse response,
+            Supplier<StandInDataset.Document> lookup) {
+        FaultInjector.Outcome outcome = faults.next();
+        Mono<Void> send = Mono.defer(() -> {
+            if (outcome.status() == HttpResponseStatus.TOO_MANY_REQUESTS.code()) {
+                return response.status(outcome.status())
+                        .header(HttpHeaderNames.RETRY_AFTER, "1")
+                        .send()
+                        .then();
+            }
+            if (outcome.status() != 0) {
+                return response.status(outcome.status()).send().then();
+            }
+            StandInDataset.Document document = lookup.get();
+            if (document == null) {
+                return json(response.status(HttpResponseStatus.NOT_FOUND), NOT_FOUND);
+            }
+            response.header(HttpHeaderNames.ETAG, document.etag());
+            if (document.etag().equals(request.requestHeaders().get(HttpHeaderNames.IF_NONE_MATCH))) {
+                return response.status(HttpResponseStatus.NOT_MODIFIED).send().then();
+            }
+            return json(response.status(HttpResponseStatus.OK), document.body());
+        });
+        return outcome.delay().isZero() ? send : Mono.delay(outcome.delay()).then(send);
+    }
+
+    private static Mono<Void> json(HttpServerResponse response, byte[] body) {
+        return response.header(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+                .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(body.length))
+                .sendByteArray(Mono.just(body))
+                .then();
+    }
+
+    private static int parseInt(String value) {
+        try {
+            return value == null ? -1 : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package co.com.bancolombia.consumer.standin;
+
+import co.com.bancolombia.consumer.SimpsonsPageResponse;
+import co.com.bancolombia.consumer.config.properties.SimpsonsStandInProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Dataset sintético del stand-in, generado de forma determinista a partir de una semilla
+ * <p>
+ * Cada documento (por ID y por página) se serializa una sola vez al construirlo, junto con su
+ * ETag, para que servirlo no cueste más que escribir los bytes. Se serializa con el mapper del
+ * upstream, de modo que los nombres de campo son los de la API real.
+ */
+final class StandInDataset {
+
+    private static final String[] FIRST_NAMES = {"Homer", "Marge", "Bart", "Lisa", "Maggie", "Ned",
+            "Moe", "Barney", "Lenny", "Carl", "Milhouse", "Nelson", "Edna", "Seymour", "Waylon",
+            "Montgomery", "Apu", "Clancy", "Ralph", "Patty", "Selma", "Krusty", "Troy", "Otto"};
+    private static final String[] LAST_NAMES = {"Simpson", "Flanders", "Szyslak", "Gumble",
+            "Leonard", "Carlson", "Van Houten", "Muntz", "Krabappel", "Skinner", "Smithers", "Burns",
+            "Nahasapeemapetilon", "Wiggum", "Bouvier", "McClure", "Lovejoy", "Hibbert", "Frink"};
+    private static final String[] OCCUPATIONS = {"Safety Inspector", "Homemaker", "Student",
+            "Bartender", "Teacher", "Principal", "Police Chief", "Clown", "Scientist", "Actor",
+            "Bus Driver", "Reverend", "Doctor", "Plant Owner", "Store Owner"};
+    private static final String[] PLACES = {"Tavern", "Elementary School", "Power Plant",
+            "Kwik-E-Mart", "Church", "Park", "Bowling Alley", "Stadium", "Hospital", "Town Hall",
+            "Krusty Burger", "Retirement Castle", "Lake", "Gorge", "Mall", "Observatory"};
+    private static final String[] WORDS = {"donut", "plant", "tavern", "family", "school", "town",
+            "couch", "prank", "saxophone", "monorail", "election", "trip", "secret", "party",
+            "contest", "fire", "flood", "strike", "dream", "holiday"};
+    private static final String[] PHRASES = {"D'oh!", "Eat my shorts!", "Excellent...",
+            "Ay, caramba!", "Hi-diddly-ho!", "Ha-ha!", "Okily dokily!", "Why you little...!"};
+
+    private final Table characters;
+    private final Table episodes;
+    private final Table locations;
+
+    StandInDataset(SimpsonsStandInProperties properties, int pageSize, ObjectMapper mapper) {
+        long seed = properties.getSeed();
+        this.characters = new Table("/characters", properties.getCharacters(), pageSize, mapper,
+                character(seed));
+        this.episodes = new Table("/episodes", properties.getEpisodes(), pageSize, mapper,
+                episode(seed));
+        this.locations = new Table("/locations", properties.getLocations(), pageSize, mapper,
+                location(seed));
+    }
+
+    Table table(String resource) {
+        return switch (resource) {
+            case "characters" -> characters;
+            case "episodes" -> episodes;
+            case "locations" -> locations;
+            default -> null;
+        };
+    }
+
+    /**
+     * Documento serializado y su ETag
+     */
+    record Document(byte[] body, String etag) {
+
+        static Document of(byte[] body) {
+            CRC32 crc = new CRC32();
+            crc.update(body);
+            return new Document(body, '"' + HexFormat.of().toHexDigits((int) crc.getValue()) + '"');
+        }
+    }
+
+    /**
+     * Documentos por ID ({@code 1..count}) y páginas ({@code 1..pages}) de un tipo de entidad
+     */
+    static final class Table {
+
+        private final Document[] byId;
+        private final Document[] pages;
+
+        private Table(String path, int count, int pageSize, ObjectMapper mapper,
+                IntFunction<Object> generator) {
+            List<Object> entities = new ArrayList<>(count);
+            this.byId = new Document[count];
+            for (int id = 1; id <= count; id++) {
+                Object entity = generator.apply(id);
+                entities.add(entity);
+                byId[id - 1] = Document.of(write(mapper, entity));
+            }
+            int totalPages = Math.max(1, (count + pageSize - 1) / pageSize);
+            this.pages = new Document[totalPages];
+            for (int page = 1; page <= totalPages; page++) {
+                SimpsonsPageResponse<Object> body = SimpsonsPageResponse.<Object>builder()
+                        .count(count)
+                        .next(page < totalPages ? path + "?page=" + (page + 1) : null)
+                        .prev(page > 1 ? path + "?page=" + (page - 1) : null)
+                        .pages(totalPages)
+                        .results(entities.subList((page - 1) * pageSize,
+                                Math.min(count, page * pageSize)))
+                        .build();
+                pages[page - 1] = Document.of(write(mapper, body));
+            }
+        }
+
+        Document byId(int id) {
+            return id >= 1 && id <= byId.length ? byId[id - 1] : null;
+        }
+
+        Document page(int page) {
+            return page >= 1 && page <= pages.length ? pages[page - 1] : null;
+        }
+
+        int size() {
+            return byId.length;
+        }
+    }
+
+    private static byte[] write(ObjectMapper mapper, Object value) {
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No fue posible serializar el dataset del stand-in", e);
+        }
+    }
+
+    /**
+     * Cada entidad usa su propio generador derivado de la semilla y del ID: el documento de un ID
+     * no depende de cuántas entidades se generen
+     */
+    private static SplittableRandom random(long seed, String type, int id) {
+        return new SplittableRandom(seed * 31 + type.hashCode() * 1_000_003L + id);
+    }
+
+    private static IntFunction<Object> character(long seed) {
+        return id -> {
+            SplittableRandom random = random(seed, "characters", id);
+            String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+            return UserInfo.builder()
+                    .id(id)
+                    .age(random.nextInt(1, 90))
+                    .birthdate(LocalDate.of(1930, 1, 1).plusDays(random.nextInt(25_000)).toString())
+                    .description(sentence(random, 12))
+                    .gender(random.nextBoolean() ? "Male" : "Female")
+                    .name(name)
+                    .occupation(pick(random, OCCUPATIONS))
+                    .phrases(Arrays.asList(pick(random, PHRASES), pick(random, PHRASES)))
+                    .portraitPath("/character/" + id + ".webp")
+                    .status(random.nextInt(10) == 0 ? "Deceased" : "Alive")
+                    .build();
+        };
+    }
+
+    private static IntFunction<Object> episode(long seed) {
+        return id -> {
+            SplittableRandom random = random(seed, "episodes", id);
+            return SimpsonsEpisode.builder()
+                    .id(id)
+                    .airdate(LocalDate.of(1989, 12, 17).plusWeeks(id - 1L).toString())
+                    .description(sentence(random, 10))
+                    .episodeNumber((id - 1) % 22 + 1)
+                    .imagePath("/episode/" + id + ".webp")
+                    .name("The " + capitalize(pick(random, WORDS)) + " of "
+                            + pick(random, FIRST_NAMES))
+                    .season((id - 1) / 22 + 1)
+                    .synopsis(sentence(random, 40))
+                    .build();
+        };
+    }
+
+    private static IntFunction<Object> location(long seed) {
+        return id -> {
+            SplittableRandom random = random(seed, "locations", id);
+            return SimpsonsLocation.builder()
+                    .id(id)
+                    .name(pick(random, LAST_NAMES) + " " + pick(random, PLACES))
+                    .description(sentence(random, 15))
+                    .build();
+        };
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder text = new StringBuilder(capitalize(pick(random, WORDS)));
+        for (int i = 1; i < words; i++) {
+            text.append(' ').append(pick(random, WORDS));
+        }
+        return text.append('.').toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,160 @@
+package co.com.bancolombia.consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.consumer.coalescing.RequestCoalescer;
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.hedging.HedgedRequestExecutor;
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import co.com.bancolombia.consumer.limiter.AdaptiveConcurrencyLimiter;
+import co.com.bancolombia.consumer.paging.JsonPageDecoder;
+import co.com.bancolombia.consumer.resilience.UpstreamResilience;
+import co.com.bancolombia.consumer.revalidation.ConditionalRequestCache;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.test.StepVerifier;
+
+@DisplayName("RestConsumer Unit Tests")
+class RestConsumerTest {
+
+    private static final int TOTAL = 5;
+    private static final int PAGE_SIZE = 2;
+    private static final String CHARACTER_ETAG = "\"v1\"";
+
+    private final MockWebServer server = new MockWebServer();
+    private final Set<String> requestedPages = ConcurrentHashMap.newKeySet();
+    private final List<String> characterValidators = new CopyOnWriteArrayList<>();
+    private RestConsumer consumer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if (request.getPath().startsWith("/characters/")) {
+                    return character(request);
+                }
+                String page = request.getRequestUrl().queryParameter("page");
+                requestedPages.add(page);
+                return new MockResponse()
+                        .setHeader("Content-Type", "application/json")
+                        .setBody(page(Integer.parseInt(page)));
+            }
+        });
+        server.start();
+
+        var properties = new RestConsumerProperties();
+        properties.setPageSize(PAGE_SIZE);
+        var registry = new SimpleMeterRegistry();
+        consumer = new RestConsumer(
+                WebClient.builder().baseUrl(server.url("/").toString()).build(),
+                new RequestCoalescer(registry),
+                new UpstreamResilience(CircuitBreakerRegistry.ofDefaults(),
+                        RetryRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), properties),
+                new HedgedRequestExecutor(properties, registry),
+                new JsonPageDecoder(new UpstreamJsonMapper(new ObjectMapper())),
+                new ConditionalRequestCache(properties, registry),
+                new AdaptiveConcurrencyLimiter(properties, registry),
+                properties);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private static String page(int page) {
+        int pages = (TOTAL + PAGE_SIZE - 1) / PAGE_SIZE;
+        String results = IntStream.rangeClosed((page - 1) * PAGE_SIZE + 1,
+                        Math.min(TOTAL, page * PAGE_SIZE))
+                .mapToObj(id -> "{\"id\":" + id + ",\"name\":\"Location " + id + "\"}")
+                .collect(Collectors.joining(","));
+        return "{\"count\":" + TOTAL + ",\"pages\":" + pages + ",\"results\":[" + results + "]}";
+    }
+
+    private MockResponse character(RecordedRequest request) {
+        String validator = request.getHeader("If-None-Match");
+        characterValidators.add(validator == null ? "" : validator);
+        if (CHARACTER_ETAG.equals(validator)) {
+            return new MockResponse().setResponseCode(304).setHeader("ETag", CHARACTER_ETAG);
+        }
+        return new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setHeader("ETag", CHARACTER_ETAG)
+                .setBody("{\"id\":1,\"name\":\"Homer Simpson\"}");
+    }
+
+    @Test
+    @DisplayName("Personaje y ficha de usuario deben compartir descarga y validadores")
+    void shouldDeriveCharacterFromUserInfo() {
+        StepVerifier.create(consumer.getUserInfoById(1))
+                .assertNext(user -> assertEquals("Homer Simpson", user.getName()))
+                .verifyComplete();
+        StepVerifier.create(consumer.getCharacterById(1))
+                .assertNext(character -> assertEquals("Homer Simpson", character.getName()))
+                .verifyComplete();
+
+        // La segunda lectura revalida la entrada de la primera en lugar de descargar otra
+        assertEquals(List.of("", CHARACTER_ETAG), characterValidators);
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las páginas en orden")
+    void shouldWalkAllPages() {
+        StepVerifier.create(consumer.listLocations(0).map(SimpsonsLocation::getId))
+                .expectNext(1, 2, 3, 4, 5)
+                .verifyComplete();
+
+        assertEquals(Set.of("1", "2", "3"), requestedPages);
+    }
+
+    @Test
+    @DisplayName("Debe empezar en la página del offset sin pedir las anteriores")
+    void shouldStartAtOffset() {
+        StepVerifier.create(consumer.listLocations(3).map(SimpsonsLocation::getId))
+                .expectNext(4, 5)
+                .verifyComplete();
+
+        assertEquals(Set.of("2", "3"), requestedPages);
+    }
+
+    @Test
+    @DisplayName("No debe pedir más páginas que las necesarias para la demanda")
+    void shouldStopWhenCancelled() {
+        StepVerifier.create(consumer.listLocations(0).take(1).map(SimpsonsLocation::getId))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(List.of(), requestedPages.stream().filter("3"::equals).toList());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un offset fuera de rango sin consultar al upstream")
+    void shouldRejectOffsetOutOfRange() {
+        StepVerifier.create(consumer.listLocations(Long.MAX_VALUE))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        assertEquals(Set.of(), requestedPages);
+    }
+}
@@ -0,0 +1,87 @@
+package co.com.bancolombia.consumer.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("NegativeCache Unit Tests")
+class NegativeCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private NegativeCache cache(int maxId) {
+        return new NegativeCache("characters", new SimpsonsCacheProperties.Negative(),
+                () -> maxId, registry);
+    }
+
+    private Mono<String> notFound(Integer id) {
+        calls.incrementAndGet();
+        return Mono.error(WebClientResponseException.create(404, "Not Found", null, null, null));
+    }
+
+    private double count(String source) {
+        return registry.get("simpsons.gateway.not_found").tag("source", source).counter().count();
+    }
+
+    @Test
+    @DisplayName("Debe recordar un 404 y no volver a consultar el upstream")
+    void shouldRememberNotFound() {
+        var cache = cache(-1);
+
+        StepVerifier.create(cache.lookup(999, this::notFound))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+        StepVerifier.create(cache.lookup(999, this::notFound))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+
+        assertEquals(1, calls.get());
+        assertEquals(1.0, count("upstream"));
+        assertEquals(1.0, count("cache"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar IDs fuera del rango conocido sin consultar")
+    void shouldRejectOutOfRangeIds() {
+        var cache = cache(100);
+
+        StepVerifier.create(cache.lookup(101, this::notFound))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+        StepVerifier.create(cache.lookup(0, this::notFound))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+
+        assertEquals(0, calls.get());
+        assertEquals(2.0, count("range"));
+    }
+
+    @Test
+    @DisplayName("Debe recordar los IDs ausentes de un lote y omitirlos en el siguiente")
+    void shouldRememberMissingIdsInBatch() {
+        var cache = cache(-1);
+        var requested = new ArrayList<List<Integer>>();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(cache.lookupAll(List.of(1, 2, 3), ids -> {
+                        requested.add(List.copyOf(ids));
+                        return Flux.fromIterable(ids).filter(id -> id != 2);
+                    }, id -> id))
+                    .expectNext(1, 3)
+                    .verifyComplete();
+        }
+
+        assertEquals(List.of(List.of(1, 2, 3), List.of(1, 3)), requested);
+    }
+}
@@ -0,0 +1,93 @@
+package co.com.bancolombia.consumer.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.consumer.config.properties.SimpsonsCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("ReactiveEntityCache Unit Tests")
+class ReactiveEntityCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ReactiveEntityCache<String> cacheWith(Function<Integer, Mono<String>> loader) {
+        return new ReactiveEntityCache<>("test", new SimpsonsCacheProperties.Entry(),
+                id -> {
+                    loads.incrementAndGet();
+                    return loader.apply(id);
+                }, registry);
+    }
+
+    @Test
+    @DisplayName("Debe cargar una sola vez y servir las siguientes lecturas desde caché")
+    void shouldLoadOnceAndServeFromCache() {
+        var cache = cacheWith(id -> Mono.just("entity-" + id));
+
+        StepVerifier.create(cache.get(1)).expectNext("entity-1").verifyComplete();
+        StepVerifier.create(cache.get(1)).expectNext("entity-1").verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "test").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("No debe cachear resultados vacíos ni errores")
+    void shouldNotCacheEmptyOrErrors() {
+        var cache = cacheWith(id -> id == 1
+                ? Mono.empty()
+                : Mono.error(new IllegalStateException("upstream caído")));
+
+        StepVerifier.create(cache.get(1)).verifyComplete();
+        StepVerifier.create(cache.get(1)).verifyComplete();
+        StepVerifier.create(cache.get(2)).expectError(IllegalStateException.class).verify();
+        StepVerifier.create(cache.get(2)).expectError(IllegalStateException.class).verify();
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Debe volver a cargar tras invalidar la entrada")
+    void shouldReloadAfterInvalidate() {
+        var cache = cacheWith(id -> Mono.just("entity-" + id));
+
+        StepVerifier.create(cache.get(7)).expectNext("entity-7").verifyComplete();
+        cache.invalidate(7);
+        StepVerifier.create(cache.get(7)).expectNext("entity-7").verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Debe resolver los IDs ausentes con una sola carga por lote y respetar el orden")
+    void shouldBulkLoadMissingIdsInOrder() {
+        AtomicInteger bulkLoads = new AtomicInteger();
+        var cache = new ReactiveEntityCache<String>("bulk", new SimpsonsCacheProperties.Entry(),
+                id -> Mono.just("entity-" + id),
+                ids -> {
+                    bulkLoads.incrementAndGet();
+                    return Flux.fromIterable(ids)
+                            .filter(id -> id != 404)
+                            .map(id -> "entity-" + id);
+                },
+                value -> Integer.valueOf(value.substring("entity-".length())),
+                registry);
+
+        StepVerifier.create(cache.get(2)).expectNext("entity-2").verifyComplete();
+        StepVerifier.create(cache.getAll(List.of(3, 404, 2, 1, 3)))
+                .expectNext("entity-3", "entity-2", "entity-1")
+                .verifyComplete();
+
+        assertEquals(1, bulkLoads.get());
+    }
+}
@@ -0,0 +1,244 @@
+package co.com.bancolombia.consumer.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import co.com.bancolombia.consumer.RestConsumer;
+import co.com.bancolombia.consumer.SimpsonsPageResponse;
+import co.com.bancolombia.consumer.adapters.SimpsonsApiAdapter;
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.config.properties.SimpsonsCatalogProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsChange;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("CatalogSync Unit Tests")
+class CatalogSyncTest {
+
+    private final RestConsumer client = mock(RestConsumer.class);
+    private final SimpsonsApiAdapter details = mock(SimpsonsApiAdapter.class);
+    private final CatalogReplica replica = new CatalogReplica(new SimpleMeterRegistry());
+    private final CatalogChanges changes = new CatalogChanges();
+    private final CatalogNames names = new CatalogNames();
+    private final CatalogSearch search = new CatalogSearch();
+    private final SimpsonsCatalogProperties properties = new SimpsonsCatalogProperties();
+    private CatalogSync sync;
+
+    @BeforeEach
+    void setUp() {
+        properties.setRefreshBatchSize(2);
+        sync = new CatalogSync(client, details, replica, changes, names, search, properties,
+                new RestConsumerProperties());
+
+        when(client.getEpisodePage(anyInt())).thenReturn(Mono.just(
+                new SimpsonsPageResponse<SimpsonsEpisode>(0, null, null, 1, List.of())));
+        when(client.getLocationPage(anyInt())).thenReturn(Mono.just(
+                new SimpsonsPageResponse<SimpsonsLocation>(0, null, null, 1, List.of())));
+        when(details.getEpisodesByIds(anyCollection())).thenReturn(Flux.empty());
+        when(details.getLocationsByIds(anyCollection())).thenReturn(Flux.empty());
+        when(details.getCharactersByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Integer> ids = invocation.getArgument(0);
+            return Flux.fromIterable(ids).map(id -> character(id, "Personaje " + id));
+        });
+    }
+
+    private static SimpsonsCharacter character(int id, String name) {
+        return SimpsonsCharacter.builder().id(id).name(name).build();
+    }
+
+    private static SimpsonsPageResponse<SimpsonsCharacter> page(int count, int pages,
+            Integer... ids) {
+        return new SimpsonsPageResponse<>(count, null, null, pages, Arrays.stream(ids)
+                .map(id -> SimpsonsCharacter.builder().id(id).build())
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Debe cargar el catálogo completo y servir las lecturas desde memoria")
+    void shouldLoadFullCatalog() {
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(3, 2, 1, 2)));
+        when(client.getCharacterPage(2)).thenReturn(Mono.just(page(3, 2, 3)));
+
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        assertEquals(3, replica.getCharacters().size());
+        StepVerifier.create(replica.getCharacters().lookup(3,
+                        id -> Mono.error(new IllegalStateException("no debe ir al upstream"))))
+                .expectNextMatches(character -> "Personaje 3".equals(character.getName()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("La sincronización incremental solo debe descargar IDs nuevos y la ventana de refresco")
+    void shouldSyncIncrementally() {
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(2, 1, 1, 2)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(3, 2, 1, 2)));
+        when(client.getCharacterPage(2)).thenReturn(Mono.just(page(3, 2, 3)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        assertEquals(3, replica.getCharacters().size());
+        ArgumentCaptor<Collection<Integer>> ids = ArgumentCaptor.captor();
+        verify(details, times(2)).getCharactersByIds(ids.capture());
+        assertEquals(List.of(1, 2), List.copyOf(ids.getAllValues().get(0)));
+        // ID nuevo (3) más la ventana de refresco de tamaño 2 sobre los ya conocidos
+        assertEquals(List.of(3, 1, 2), List.copyOf(ids.getAllValues().get(1)));
+    }
+
+    @Test
+    @DisplayName("Debe conservar la réplica si el upstream falla y completar el lote con el fallback")
+    void shouldKeepReplicaOnFailure() {
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(1, 1, 1)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        when(client.getCharacterPage(1)).thenReturn(Mono.error(new IllegalStateException("503")));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        StepVerifier.create(replica.getCharacters().lookupAll(List.of(5, 1, 5),
+                        ids -> Flux.fromIterable(ids).map(id -> character(id, "Live " + id))))
+                .expectNextMatches(character -> character.getId() == 5)
+                .expectNextMatches(character -> "Personaje 1".equals(character.getName()))
+                .verifyComplete();
+        verify(client, never()).getCharacterPage(2);
+    }
+
+    @Test
+    @DisplayName("Debe publicar las entidades nuevas y las editadas tras la primera carga")
+    void shouldPublishChanges() {
+        List<SimpsonsChange> published = new CopyOnWriteArrayList<>();
+        changes.changes().subscribe(published::add);
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(2, 1, 1, 2)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+        assertEquals(List.of(), published);
+
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(3, 1, 1, 2, 3)));
+        when(details.getCharactersByIds(anyCollection())).thenReturn(Flux.just(
+                character(3, "Personaje 3"), character(1, "Homer J. Simpson"),
+                character(2, "Personaje 2")));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        assertEquals(List.of(
+                new SimpsonsChange(SimpsonsEntityType.CHARACTER, 3, true),
+                new SimpsonsChange(SimpsonsEntityType.CHARACTER, 1, false)), published);
+    }
+
+    @Test
+    @DisplayName("Debe indexar la carga inicial y reemplazar las entidades editadas")
+    void shouldIndexNames() {
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(2, 1, 1, 2)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+        StepVerifier.create(names.completeNames(SimpsonsEntityType.CHARACTER, "pers", 10))
+                .expectNext(List.of("Personaje 1", "Personaje 2"))
+                .verifyComplete();
+
+        when(details.getCharactersByIds(anyCollection())).thenReturn(Flux.just(
+                character(1, "Homer J. Simpson"), character(2, "Personaje 2")));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        StepVerifier.create(names.completeNames(SimpsonsEntityType.CHARACTER, "pers", 10))
+                .expectNext(List.of("Personaje 2"))
+                .verifyComplete();
+        StepVerifier.create(names.completeNames(SimpsonsEntityType.CHARACTER, "simp", 10))
+                .expectNext(List.of("Homer J. Simpson"))
+                .verifyComplete();
+        StepVerifier.create(search.search("homer", EnumSet.allOf(SimpsonsEntityType.class), 0, 10))
+                .expectNextMatches(hits -> hits.size() == 1 && hits.getFirst().getId() == 1)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe retirar de la réplica y de los índices las entidades que el upstream eliminó")
+    void shouldPruneDeletedEntities() {
+        List<SimpsonsChange> published = new CopyOnWriteArrayList<>();
+        changes.changes().subscribe(published::add);
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(3, 1, 1, 2, 3)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        // El total bajó: recorrido completo de los listados; el 2 ya no aparece
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(2, 1, 1, 3)));
+        when(details.getCharactersByIds(anyCollection())).thenReturn(Flux.just(
+                character(1, "Personaje 1")));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        assertEquals(2, replica.getCharacters().size());
+        assertFalse(replica.getCharacters().contains(2));
+        assertEquals(List.of(new SimpsonsChange(SimpsonsEntityType.CHARACTER, 2, false)),
+                published);
+        StepVerifier.create(names.completeNames(SimpsonsEntityType.CHARACTER, "pers", 10))
+                .expectNext(List.of("Personaje 1", "Personaje 3"))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("El recorrido periódico debe recoger una baja y una alta que no cambian el total")
+    void shouldSweepPeriodicallyWhenCountIsUnchanged() {
+        properties.setFullSweepEvery(2);
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(3, 2, 1, 2)));
+        when(client.getCharacterPage(2)).thenReturn(Mono.just(page(3, 2, 3)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        // Se eliminó el 3 y se creó el 4: el total sigue en 3
+        when(client.getCharacterPage(2)).thenReturn(Mono.just(page(3, 2, 4)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+        assertFalse(replica.getCharacters().contains(4));
+
+        StepVerifier.create(sync.sync()).verifyComplete();
+        assertTrue(replica.getCharacters().contains(4));
+        assertFalse(replica.getCharacters().contains(3));
+    }
+
+    @Test
+    @DisplayName("Debe retirar las entidades de la ventana de refresco que ya no existen (404)")
+    void shouldPruneMissingRefreshedEntities() {
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(2, 1, 1, 2)));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        when(details.getCharactersByIds(anyCollection())).thenReturn(Flux.just(
+                character(2, "Personaje 2")));
+        StepVerifier.create(sync.sync()).verifyComplete();
+
+        assertEquals(1, replica.getCharacters().size());
+        assertFalse(replica.getCharacters().contains(1));
+    }
+
+    @Test
+    @DisplayName("Debe descargar el detalle a lo sumo a requestsPerSecond IDs por segundo")
+    void shouldPaceDetailDownloads() {
+        properties.setRequestsPerSecond(1);
+        when(client.getCharacterPage(1)).thenReturn(Mono.just(page(3, 1, 1, 2, 3)));
+
+        StepVerifier.withVirtualTime(sync::sync)
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(2_900))
+                .thenAwait(Duration.ofMillis(200))
+                .verifyComplete();
+
+        assertEquals(3, replica.getCharacters().size());
+        verify(details, times(3)).getCharactersByIds(anyCollection());
+    }
+}
@@ -0,0 +1,77 @@
+package co.com.bancolombia.consumer.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsSearchHit;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InvertedIndex Unit Tests")
+class InvertedIndexTest {
+
+    private static final Set<SimpsonsEntityType> ALL = EnumSet.allOf(SimpsonsEntityType.class);
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.update(SimpsonsEntityType.CHARACTER, Map.of(
+                1, new InvertedIndex.Document("Homer Simpson",
+                        List.of("Inspector de seguridad en la planta nuclear", "D'oh!")),
+                2, new InvertedIndex.Document("Charles Montgomery Burns",
+                        List.of("Dueño de la planta nuclear de Springfield")),
+                3, new InvertedIndex.Document("Lenny Leonard",
+                        List.of("Trabaja en la planta con Homer"))));
+        index.update(SimpsonsEntityType.EPISODE, Map.of(
+                10, new InvertedIndex.Document("Homer's Odyssey",
+                        List.of("Homer pierde su empleo en la planta nuclear"))));
+    }
+
+    private static List<Integer> ids(List<SimpsonsSearchHit> hits) {
+        return hits.stream().map(SimpsonsSearchHit::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Debe ordenar por relevancia BM25 con el nombre por encima de la descripción")
+    void shouldRankByRelevance() {
+        List<SimpsonsSearchHit> hits = index.search("HOMER", ALL, 0, 10);
+
+        assertEquals(Set.of(1, 3, 10), Set.copyOf(ids(hits)));
+        // Homer (en el nombre) antes que Lenny (solo en la descripción)
+        assertEquals(3, ids(hits).getLast());
+        assertEquals(List.of(2), ids(index.search("dueno springfield", ALL, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por tipo y paginar el top-k")
+    void shouldFilterAndPaginate() {
+        Set<SimpsonsEntityType> characters = EnumSet.of(SimpsonsEntityType.CHARACTER);
+        List<Integer> all = ids(index.search("planta nuclear", characters, 0, 10));
+
+        assertEquals(3, all.size());
+        assertEquals(all.subList(1, 3), ids(index.search("planta nuclear", characters, 1, 5)));
+        assertEquals(List.of(), index.search("planta", characters, 3, 5));
+        assertEquals(List.of(10), ids(index.search("odyssey", ALL, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Debe actualizar y retirar documentos de forma incremental")
+    void shouldUpdateIncrementally() {
+        Map<Integer, InvertedIndex.Document> changed = new HashMap<>();
+        changed.put(1, new InvertedIndex.Document("Homer J. Simpson", List.of("Astronauta")));
+        changed.put(3, null);
+        index.update(SimpsonsEntityType.CHARACTER, changed);
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(1), ids(index.search("astronauta", ALL, 0, 10)));
+        assertEquals(List.of(), index.search("lenny", ALL, 0, 10));
+        assertEquals(List.of(2, 10), ids(index.search("nuclear", ALL, 0, 10)).stream().sorted().toList());
+    }
+}
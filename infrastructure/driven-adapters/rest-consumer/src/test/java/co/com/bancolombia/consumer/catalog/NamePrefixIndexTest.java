@@ -0,0 +1,53 @@
+package co.com.bancolombia.consumer.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NamePrefixIndex Unit Tests")
+class NamePrefixIndexTest {
+
+    private final NamePrefixIndex index = NamePrefixIndex.EMPTY.with(Map.of(
+            1, "Homer Simpson",
+            2, "Marge Simpson",
+            3, "Ned Flanders",
+            4, "Señor Burns",
+            5, "Homero (doblaje)"));
+
+    @Test
+    @DisplayName("Debe ignorar tildes y mayúsculas en nombres y prefijos")
+    void shouldIgnoreAccentsAndCase() {
+        assertEquals(List.of("Señor Burns"), index.complete("SENO", 10));
+        assertEquals(List.of("Señor Burns"), index.complete("señ", 10));
+        assertEquals(List.of("Homer Simpson", "Homero (doblaje)"), index.complete("hóm", 10));
+    }
+
+    @Test
+    @DisplayName("Debe encontrar nombres por el inicio de cualquier palabra y respetar el límite")
+    void shouldMatchAnyWordWithinLimit() {
+        assertEquals(List.of("Homer Simpson", "Marge Simpson"), index.complete("simp", 10));
+        assertEquals(List.of("Homer Simpson"), index.complete("simp", 1));
+        assertEquals(List.of("Homero (doblaje)"), index.complete("dob", 10));
+        assertEquals(List.of(), index.complete("xyz", 10));
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar y eliminar nombres sin modificar el índice original")
+    void shouldUpdateIncrementally() {
+        Map<Integer, String> changed = new HashMap<>();
+        changed.put(1, "Homer J. Simpson");
+        changed.put(3, null);
+        changed.put(6, "Apu Nahasapeemapetilon");
+
+        NamePrefixIndex updated = index.with(changed);
+
+        assertEquals(List.of("Homer J. Simpson", "Marge Simpson"), updated.complete("simp", 10));
+        assertEquals(List.of(), updated.complete("ned", 10));
+        assertEquals(List.of("Apu Nahasapeemapetilon"), updated.complete("nahas", 10));
+        assertEquals(List.of("Ned Flanders"), index.complete("ned", 10));
+    }
+}
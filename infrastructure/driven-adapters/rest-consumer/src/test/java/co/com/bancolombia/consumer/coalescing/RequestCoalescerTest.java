@@ -0,0 +1,81 @@
+package co.com.bancolombia.consumer.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("RequestCoalescer Unit Tests")
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer = new RequestCoalescer(registry);
+    private final AtomicInteger subscriptions = new AtomicInteger();
+
+    private Mono<String> upstream(Sinks.One<String> sink) {
+        return sink.asMono().doOnSubscribe(s -> subscriptions.incrementAndGet());
+    }
+
+    @Test
+    @DisplayName("Debe compartir una sola petición entre suscriptores concurrentes")
+    void shouldShareInFlightRequest() {
+        Sinks.One<String> sink = Sinks.one();
+
+        var first = coalescer.coalesce("characters", 1, () -> upstream(sink));
+        var second = coalescer.coalesce("characters", 1, () -> upstream(sink));
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> sink.tryEmitValue("Homer"))
+                .assertNext(pair -> {
+                    assertEquals("Homer", pair.getT1());
+                    assertEquals("Homer", pair.getT2());
+                })
+                .verifyComplete();
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(0, coalescer.inFlightCount());
+        assertEquals(1.0, registry.get("simpsons.upstream.coalesced")
+                .tag("resource", "characters").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error a todos y no memorizarlo")
+    void shouldPropagateErrorWithoutCachingIt() {
+        Sinks.One<String> failing = Sinks.one();
+
+        var first = coalescer.coalesce("episodes", 9, () -> upstream(failing));
+        var second = coalescer.coalesce("episodes", 9, () -> upstream(failing));
+
+        StepVerifier.create(Mono.zipDelayError(first, second))
+                .then(() -> failing.tryEmitError(new IllegalStateException("boom")))
+                .expectError()
+                .verify();
+
+        StepVerifier.create(coalescer.coalesce("episodes", 9, () -> Mono.just("ok")))
+                .expectNext("ok")
+                .verifyComplete();
+        assertEquals(0, coalescer.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Cancelar un suscriptor no debe cancelar la petición compartida")
+    void shouldKeepRequestAliveWhileOtherSubscribersRemain() {
+        Sinks.One<String> sink = Sinks.one();
+
+        var cancelled = coalescer.coalesce("locations", 3, () -> upstream(sink));
+        var survivor = coalescer.coalesce("locations", 3, () -> upstream(sink));
+
+        StepVerifier.create(survivor)
+                .then(() -> cancelled.subscribe().dispose())
+                .then(() -> sink.tryEmitValue("Moe's Tavern"))
+                .expectNext("Moe's Tavern")
+                .verifyComplete();
+
+        assertEquals(1, subscriptions.get());
+    }
+}
@@ -0,0 +1,74 @@
+package co.com.bancolombia.consumer.config;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+
+@DisplayName("RestConsumerConfig Unit Tests")
+class RestConsumerConfigTest {
+
+    private RestConsumerProperties properties(String url, boolean http2) {
+        var properties = new RestConsumerProperties();
+        properties.setUrl(url);
+        properties.setTimeout(1000);
+        properties.setHeaders(Map.of("Accept", "application/json"));
+        properties.getPool().setMaxConnections(7);
+        properties.getPool().setHttp2(http2);
+        return properties;
+    }
+
+    @Test
+    @DisplayName("Debe crear un pool dedicado con los límites configurados")
+    void shouldCreateDedicatedPool() {
+        var config = new RestConsumerConfig(properties("http://localhost:8080", false));
+
+        var provider = config.simpsonsConnectionProvider();
+        var httpClient = config.simpsonsHttpClient(provider);
+
+        assertEquals(7, provider.maxConnections());
+        assertArrayEquals(new HttpProtocol[] {HttpProtocol.HTTP11},
+                httpClient.configuration().protocols());
+        assertNotNull(config.getWebClient(WebClient.builder(), httpClient,
+                new UpstreamJsonMapper(new ObjectMapper())));
+        provider.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe negociar HTTP/2 sobre TLS con una URL https")
+    void shouldCreateHttp2Client() {
+        var config = new RestConsumerConfig(properties("https://localhost:8443", true));
+
+        var provider = config.simpsonsConnectionProvider();
+        var httpClient = config.simpsonsHttpClient(provider);
+
+        assertArrayEquals(new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11},
+                httpClient.configuration().protocols());
+        assertTrue(httpClient.configuration().isSecure());
+        provider.dispose();
+    }
+
+    @Test
+    @DisplayName("Debe usar HTTP/2 en claro (h2c) con una URL http")
+    void shouldCreateH2cClient() {
+        var config = new RestConsumerConfig(properties("http://localhost:8080", true));
+
+        var provider = config.simpsonsConnectionProvider();
+        var httpClient = config.simpsonsHttpClient(provider);
+
+        assertArrayEquals(new HttpProtocol[] {HttpProtocol.H2C, HttpProtocol.HTTP11},
+                httpClient.configuration().protocols());
+        assertFalse(httpClient.configuration().isSecure());
+        provider.dispose();
+    }
+}
@@ -0,0 +1,108 @@
+package co.com.bancolombia.consumer.hedging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("HedgedRequestExecutor Unit Tests")
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private HedgedRequestExecutor executor(double budgetPercent, int maxBurst) {
+        var properties = new RestConsumerProperties();
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMinDelay(Duration.ofMillis(10));
+        properties.getHedging().setMaxDelay(Duration.ofMillis(20));
+        properties.getHedging().setBudgetPercent(budgetPercent);
+        properties.getHedging().setMaxBurst(maxBurst);
+        return new HedgedRequestExecutor(properties, registry);
+    }
+
+    /**
+     * La primera llamada tarda mucho; las siguientes responden de inmediato
+     */
+    private Mono<String> slowThenFast() {
+        return Mono.defer(() -> calls.incrementAndGet() == 1
+                ? Mono.just("slow").delayElement(Duration.ofSeconds(5))
+                : Mono.just("fast"));
+    }
+
+    private double count(String name) {
+        return registry.get(name).tag("resource", "characters").counter().count();
+    }
+
+    @Test
+    @DisplayName("Debe lanzar un hedge cuando la petición original es lenta y quedarse con el ganador")
+    void shouldHedgeSlowRequest() {
+        var executor = executor(100, 10);
+
+        StepVerifier.create(executor.execute("characters", this::slowThenFast))
+                .expectNext("fast")
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+
+        assertEquals(2, calls.get());
+        assertEquals(1.0, count("simpsons.upstream.hedge.fired"));
+        assertEquals(1.0, count("simpsons.upstream.hedge.won"));
+    }
+
+    @Test
+    @DisplayName("Debe registrar la latencia de la petición original aunque la cancele el hedge")
+    void shouldRecordCancelledPrimaryLatency() {
+        var executor = executor(100, 10);
+
+        StepVerifier.withVirtualTime(() -> executor.execute("characters", this::slowThenFast))
+                .thenAwait(Duration.ofMillis(20))
+                .expectNext("fast")
+                .verifyComplete();
+
+        assertEquals(1.0, count("simpsons.upstream.hedge.won"));
+        assertEquals(2, executor.samples("characters"));
+    }
+
+    @Test
+    @DisplayName("No debe lanzar hedge si la petición original responde a tiempo")
+    void shouldNotHedgeFastRequest() {
+        var executor = executor(100, 10);
+
+        StepVerifier.create(executor.execute("characters", () -> Mono.just("fast")))
+                .expectNext("fast")
+                .verifyComplete();
+
+        assertEquals(0.0, count("simpsons.upstream.hedge.fired"));
+    }
+
+    @Test
+    @DisplayName("Debe respetar el presupuesto de hedges")
+    void shouldRespectHedgeBudget() {
+        var executor = executor(0, 10);
+
+        StepVerifier.create(executor.execute("characters",
+                        () -> Mono.just("slow").delayElement(Duration.ofMillis(100))))
+                .expectNext("slow")
+                .verifyComplete();
+
+        assertEquals(0.0, count("simpsons.upstream.hedge.fired"));
+        assertEquals(1.0, count("simpsons.upstream.hedge.denied"));
+    }
+
+    @Test
+    @DisplayName("Debe propagar los errores de la petición original")
+    void shouldPropagatePrimaryError() {
+        var executor = executor(100, 10);
+
+        StepVerifier.create(executor.execute("characters",
+                        () -> Mono.<String>error(new IllegalStateException("404"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,103 @@
+package co.com.bancolombia.consumer.images;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.consumer.coalescing.RequestCoalescer;
+import co.com.bancolombia.consumer.config.properties.SimpsonsImageProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("DiskImageCache Unit Tests")
+class DiskImageCacheTest {
+
+    @TempDir
+    Path directory;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicInteger downloads = new AtomicInteger();
+
+    private DiskImageCache cache(long maxBytes) {
+        var properties = new SimpsonsImageProperties();
+        properties.setDirectory(directory.toString());
+        properties.setMaxSize(DataSize.ofBytes(maxBytes));
+        properties.setMaxImageSize(DataSize.ofBytes(8));
+        return new DiskImageCache(properties, new RequestCoalescer(registry), registry);
+    }
+
+    private Flux<DataBuffer> download(String content) {
+        return Flux.defer(() -> {
+            downloads.incrementAndGet();
+            return Flux.just(DefaultDataBufferFactory.sharedInstance
+                    .wrap(content.getBytes(StandardCharsets.UTF_8)));
+        });
+    }
+
+    private static String text(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+    }
+
+    @Test
+    @DisplayName("Debe descargar una sola vez ante lecturas concurrentes y servir luego desde disco")
+    void shouldDownloadOnceAndServeFromDisk() {
+        var cache = cache(100);
+        var slow = Flux.defer(() -> download("homer")).delaySubscription(Duration.ofMillis(50));
+
+        var both = Mono.zip(cache.get("portrait-1.webp", () -> slow),
+                cache.get("portrait-1.webp", () -> slow)).block();
+        var again = cache.get("portrait-1.webp", () -> download("other")).block();
+
+        assertEquals("homer", text(both.getT1()));
+        assertEquals("homer", text(both.getT2()));
+        assertEquals("homer", text(again));
+        assertEquals(1, downloads.get());
+        assertEquals(1.0, registry.get("simpsons.images.cache").tag("result", "hit").counter()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Debe desalojar la imagen menos usada al superar el tamaño máximo")
+    void shouldEvictLeastRecentlyUsed() {
+        var cache = cache(10);
+
+        cache.get("a.webp", () -> download("aaaa")).block();
+        cache.get("b.webp", () -> download("bbbb")).block();
+        cache.get("a.webp", () -> download("xxxx")).block();
+        cache.get("c.webp", () -> download("cccc")).block();
+
+        assertTrue(Files.exists(directory.resolve("a.webp")));
+        assertFalse(Files.exists(directory.resolve("b.webp")));
+        assertEquals(8, cache.size());
+        assertEquals(3, downloads.get());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar imágenes mayores que el máximo sin dejar archivos")
+    void shouldRejectOversizedImages() {
+        var cache = cache(100);
+
+        StepVerifier.create(cache.get("big.webp", () -> download("0123456789")))
+                .expectError(DataBufferLimitException.class)
+                .verify();
+
+        assertEquals(0, cache.size());
+        assertFalse(Files.exists(directory.resolve("big.webp")));
+        assertFalse(Files.exists(directory.resolve("big.webp.part")));
+    }
+}
@@ -0,0 +1,163 @@
+package co.com.bancolombia.consumer.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.revalidation.ConditionalRequestCache;
+import co.com.bancolombia.model.jfr.JfrEventNames;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("UpstreamExchangeEvent Unit Tests")
+class UpstreamExchangeEventTest {
+
+    private static final String BODY = "{\"id\":3,\"name\":\"Moe's Tavern\"}";
+
+    private final MockWebServer server = new MockWebServer();
+    private final ConditionalRequestCache revalidation =
+            new ConditionalRequestCache(new RestConsumerProperties(), new SimpleMeterRegistry());
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server.start();
+        client = WebClient.builder()
+                .baseUrl(server.url("/").toString())
+                .filter(UpstreamExchangeEvent.filter())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private Mono<SimpsonsLocation> location() {
+        return UpstreamExchangeEvent.record("locations", 3, revalidation.exchange("locations", 3,
+                () -> client.get().uri("/locations/3"),
+                response -> response.bodyToMono(SimpsonsLocation.class)));
+    }
+
+    private Mono<Integer> page(int page) {
+        return UpstreamExchangeEvent.record("locations-page", page, client.get()
+                        .uri("/locations?page={page}", page)
+                        .retrieve()
+                        .bodyToFlux(DataBuffer.class))
+                .map(buffer -> {
+                    int bytes = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return bytes;
+                })
+                .reduce(0, Integer::sum);
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    /**
+     * Los eventos se cierran en {@code doFinally}, que en el hilo de Netty puede ejecutarse
+     * después de que el test recibe la respuesta; por eso se esperan por streaming en lugar de
+     * volcar una grabación en cuanto termina la llamada
+     */
+    private static List<RecordedEvent> record(int expected, Runnable calls)
+            throws InterruptedException {
+        List<RecordedEvent> events = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(expected);
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.setReuse(false);
+            stream.enable(JfrEventNames.UPSTREAM_EXCHANGE);
+            stream.onEvent(JfrEventNames.UPSTREAM_EXCHANGE, event -> {
+                events.add(event);
+                latch.countDown();
+            });
+            stream.startAsync();
+            calls.run();
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        }
+        return events.stream()
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Debe emitir un evento JFR por intercambio con estado, bytes y acierto de caché")
+    void shouldRecordStatusBytesAndCacheHit() throws InterruptedException {
+        server.enqueue(json(BODY).setHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        List<RecordedEvent> events = record(2, () -> {
+            location().block();
+            location().block();
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent downloaded = events.getFirst();
+        assertEquals("locations", downloaded.getString("resource"));
+        assertEquals("3", downloaded.getString("id"));
+        assertEquals(200, downloaded.getInt("status"));
+        assertEquals(BODY.length(), downloaded.getLong("bytes"));
+        assertFalse(downloaded.getBoolean("cacheHit"));
+        RecordedEvent revalidated = events.getLast();
+        assertEquals(304, revalidated.getInt("status"));
+        assertEquals(0, revalidated.getLong("bytes"));
+        assertTrue(revalidated.getBoolean("cacheHit"));
+        assertEquals("success", revalidated.getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("Debe emitir un evento por cada página de un listado, también si falla")
+    void shouldRecordStreamedPages() throws InterruptedException {
+        server.enqueue(json(BODY));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        List<RecordedEvent> events = record(2, () -> {
+            StepVerifier.create(page(1)).expectNext(BODY.length()).verifyComplete();
+            StepVerifier.create(page(2))
+                    .expectError(WebClientResponseException.ServiceUnavailable.class)
+                    .verify();
+        });
+
+        RecordedEvent first = events.getFirst();
+        assertEquals("locations-page", first.getString("resource"));
+        assertEquals("1", first.getString("id"));
+        assertEquals(200, first.getInt("status"));
+        assertEquals(BODY.length(), first.getLong("bytes"));
+        assertEquals("success", first.getString("outcome"));
+        RecordedEvent failed = events.getLast();
+        assertEquals(503, failed.getInt("status"));
+        assertEquals("error", failed.getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("Sin grabación el filtro no debe alterar la respuesta")
+    void shouldPassThroughWithoutRecording() {
+        server.enqueue(json(BODY));
+
+        StepVerifier.create(location().map(SimpsonsLocation::getName))
+                .expectNext("Moe's Tavern")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,54 @@
+package co.com.bancolombia.consumer.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UpstreamJsonMapper Unit Tests")
+class UpstreamJsonMapperTest {
+
+    private static final String CHARACTER = """
+            {"id":1,"age":39,"name":"Homer Simpson","first_appearance_ep_id":1,
+             "phrases":["Doh!"],"portrait_path":"/character/1.webp","status":"Alive",
+             "first_appearance_ep":{"id":1,"episode_number":1,"image_path":"/episode/1.webp",
+             "name":"Simpsons Roasting on an Open Fire","season":1},
+             "first_appearance_sh":{"id":2,"episode_number":3,"image_path":"/short/2.webp"}}
+            """;
+
+    private final ObjectMapper applicationMapper = new ObjectMapper();
+    private final ObjectMapper mapper = new UpstreamJsonMapper(applicationMapper).getMapper();
+
+    @Test
+    @DisplayName("Debe decodificar el JSON del upstream directamente a los modelos de dominio")
+    void shouldDecodeIntoDomainModels() throws Exception {
+        SimpsonsCharacter character = mapper.readValue(CHARACTER, SimpsonsCharacter.class);
+        UserInfo user = mapper.readValue(CHARACTER, UserInfo.class);
+        SimpsonsEpisode episode = mapper.readValue(
+                "{\"id\":7,\"episode_number\":4,\"image_path\":\"/episode/7.webp\",\"extra\":1}",
+                SimpsonsEpisode.class);
+
+        assertEquals("/character/1.webp", character.getPortraitPath());
+        assertEquals(List.of("Doh!"), character.getPhrases());
+        assertEquals("/character/1.webp", user.getPortraitPath());
+        assertEquals("/episode/1.webp", user.getFirstAppearanceEp().getImagePath());
+        assertEquals(3, user.getFirstAppearanceSh().getEpisodeNumber());
+        assertEquals(4, episode.getEpisodeNumber());
+        assertEquals("/episode/7.webp", episode.getImagePath());
+    }
+
+    @Test
+    @DisplayName("No debe alterar la serialización del ObjectMapper de la aplicación")
+    void shouldNotAffectApplicationMapper() throws Exception {
+        var character = SimpsonsCharacter.builder().id(1).portraitPath("/character/1.webp").build();
+
+        assertTrue(applicationMapper.writeValueAsString(character).contains("\"portraitPath\""));
+        assertTrue(mapper.writeValueAsString(character).contains("\"portrait_path\""));
+    }
+}
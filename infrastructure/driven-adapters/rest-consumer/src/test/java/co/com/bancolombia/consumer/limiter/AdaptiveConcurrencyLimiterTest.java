@@ -0,0 +1,149 @@
+package co.com.bancolombia.consumer.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("AdaptiveConcurrencyLimiter Unit Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit, int maxQueue, Duration maxWait) {
+        var properties = new RestConsumerProperties();
+        properties.getLimiter().setInitialLimit(initialLimit);
+        properties.getLimiter().setMinLimit(1);
+        properties.getLimiter().setMaxQueue(maxQueue);
+        properties.getLimiter().setMaxWait(maxWait);
+        return new AdaptiveConcurrencyLimiter(properties, registry);
+    }
+
+    private double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+
+    private double rejected(String reason) {
+        return registry.get("simpsons.upstream.limit.rejected").tag("reason", reason).counter()
+                .count();
+    }
+
+    @Test
+    @DisplayName("Debe encolar lo que excede el límite y rechazar de inmediato con la cola llena")
+    void shouldQueueAndRejectWhenFull() {
+        var limiter = limiter(1, 1, Duration.ofSeconds(5));
+        Sinks.One<String> upstream = Sinks.one();
+
+        var first = limiter.limit(upstream.asMono()).toFuture();
+        var second = limiter.limit(Mono.just("second")).toFuture();
+
+        assertEquals(1.0, gauge("simpsons.upstream.inflight"));
+        assertEquals(1.0, gauge("simpsons.upstream.limit.queue"));
+        StepVerifier.create(limiter.limit(Mono.just("third")))
+                .expectError(UpstreamOverloadedException.class)
+                .verify();
+        assertEquals(1.0, rejected("queue_full"));
+
+        upstream.tryEmitValue("first");
+        assertEquals("first", first.join());
+        assertEquals("second", second.join());
+        assertEquals(0.0, gauge("simpsons.upstream.inflight"));
+        assertEquals(0.0, gauge("simpsons.upstream.limit.queue"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tras la espera máxima sin turno")
+    void shouldRejectAfterMaxWait() {
+        var limiter = limiter(1, 10, Duration.ofMillis(50));
+        var blocked = limiter.limit(Mono.never()).subscribe();
+
+        StepVerifier.create(limiter.limit(Mono.just("late")))
+                .expectError(UpstreamOverloadedException.class)
+                .verify(Duration.ofSeconds(2));
+
+        assertEquals(1.0, rejected("timeout"));
+        assertEquals(0.0, gauge("simpsons.upstream.limit.queue"));
+        blocked.dispose();
+        assertEquals(0.0, gauge("simpsons.upstream.inflight"));
+    }
+
+    @Test
+    @DisplayName("Debe sumar uno por respuesta rápida con el límite en uso y dividir ante saturación")
+    void shouldAdaptLimit() {
+        var properties = new RestConsumerProperties();
+        properties.getLimiter().setInitialLimit(2);
+        properties.getLimiter().setMinLimit(1);
+        properties.getLimiter().setBackoffRatio(0.5);
+        // Sin penalización por latencia: solo cuentan el uso del límite y las señales de saturación
+        properties.getLimiter().setLatencyTolerance(Double.MAX_VALUE);
+        var limiter = new AdaptiveConcurrencyLimiter(properties, registry);
+
+        // 1 petición en curso con límite 2: el límite está en uso y sube a 3
+        limiter.limit(Mono.just(1)).block();
+        assertEquals(3, limiter.currentLimit());
+        // 1 en curso con límite 3: no está en uso y no crece
+        limiter.limit(Mono.just(2)).block();
+        assertEquals(3, limiter.currentLimit());
+
+        // Dos en curso más la muestra: 3 en curso con límite 3 sube a 4
+        Sinks.One<Integer> first = Sinks.one();
+        Sinks.One<Integer> second = Sinks.one();
+        var held = List.of(limiter.limit(first.asMono()).toFuture(),
+                limiter.limit(second.asMono()).toFuture());
+        limiter.limit(Mono.just(3)).block();
+        assertEquals(4, limiter.currentLimit());
+        // La primera empezó sola (1 en curso, límite 4): no crece; la segunda con 2 sí, a 5
+        first.tryEmitValue(1);
+        second.tryEmitValue(2);
+        held.forEach(CompletableFuture::join);
+        assertEquals(5, limiter.currentLimit());
+
+        // 429: 5 * 0.5 = 2.5, publicado como 2
+        StepVerifier.create(limiter.limit(Mono.error(
+                        WebClientResponseException.create(429, "Too Many Requests", null, null, null))))
+                .expectError(WebClientResponseException.TooManyRequests.class)
+                .verify();
+        assertEquals(2, limiter.currentLimit());
+
+        // Un timeout dentro del turno también es saturación: 2.5 * 0.5 = 1.25, publicado como 1
+        StepVerifier.create(limiter.limit(Mono.never().timeout(Duration.ofMillis(10))))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+        assertEquals(1, limiter.currentLimit());
+    }
+
+    @Test
+    @DisplayName("Una cancelación externa debe liberar el turno sin reducir el límite")
+    void shouldReleaseWithoutBackoffOnCancel() {
+        var limiter = limiter(4, 10, Duration.ofSeconds(1));
+
+        StepVerifier.create(limiter.limit(Mono.never()).timeout(Duration.ofMillis(10)))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+
+        assertEquals(4, limiter.currentLimit());
+        assertEquals(0.0, gauge("simpsons.upstream.inflight"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un límite inicial por debajo del mínimo")
+    void shouldRejectInitialLimitBelowMinimum() {
+        var properties = new RestConsumerProperties();
+        properties.getLimiter().setInitialLimit(1);
+        properties.getLimiter().setMinLimit(2);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(properties, registry));
+    }
+}
@@ -0,0 +1,73 @@
+package co.com.bancolombia.consumer.paging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+@DisplayName("JsonPageDecoder Unit Tests")
+class JsonPageDecoderTest {
+
+    private static final String PAGE = """
+            {"count":3,"next":"https://api/locations?page=2","prev":null,"pages":2,
+             "results":[
+               {"id":1,"name":"Evergreen Terrace","town":"Springfield","use":["Residential"]},
+               {"id":2,"name":"Moe's Tavern","nested":{"a":[{"b":1}]}}
+             ]}""";
+
+    private final JsonPageDecoder decoder = new JsonPageDecoder(
+            new UpstreamJsonMapper(new ObjectMapper()));
+
+    private static Flux<DataBuffer> chunked(String json, int size) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, offset, Math.min(bytes.length, offset + size))));
+        }
+        return Flux.fromIterable(chunks);
+    }
+
+    @Test
+    @DisplayName("Debe emitir cada elemento de results y publicar el total de páginas")
+    void shouldDecodeResultsIncrementally() {
+        Sinks.One<Integer> totalPages = Sinks.one();
+
+        StepVerifier.create(decoder.decode(chunked(PAGE, 7), SimpsonsLocation.class,
+                        totalPages))
+                .assertNext(location -> assertEquals("Evergreen Terrace", location.getName()))
+                .assertNext(location -> assertEquals(2, location.getId()))
+                .verifyComplete();
+
+        assertEquals(2, totalPages.asMono().block());
+    }
+
+    @Test
+    @DisplayName("Debe emitir el primer elemento antes de recibir el resto de la página")
+    void shouldEmitBeforeBodyCompletes() {
+        int firstElementEnd = PAGE.indexOf("},") + 2;
+        Sinks.Many<DataBuffer> body = Sinks.many().unicast().onBackpressureBuffer();
+
+        StepVerifier.create(decoder.decode(body.asFlux(), SimpsonsLocation.class,
+                        Sinks.one()))
+                .then(() -> body.tryEmitNext(DefaultDataBufferFactory.sharedInstance.wrap(
+                        PAGE.substring(0, firstElementEnd).getBytes(StandardCharsets.UTF_8))))
+                .assertNext(location -> assertEquals(1, location.getId()))
+                .then(() -> body.tryEmitComplete())
+                .expectError(DecodingException.class)
+                .verify();
+    }
+}
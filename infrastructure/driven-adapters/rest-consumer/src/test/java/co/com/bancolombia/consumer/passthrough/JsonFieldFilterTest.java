@@ -0,0 +1,95 @@
+package co.com.bancolombia.consumer.passthrough;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@DisplayName("JsonFieldFilter Unit Tests")
+class JsonFieldFilterTest {
+
+    private static final String CHARACTER = """
+            {"id":1,"name":"Homer Simpson","portrait_path":"/character/1.webp",
+             "phrases":["Doh!","Woo-hoo!"],
+             "first_appearance_ep":{"id":7,"name":"Bart the Genius","tags":[1,[2,3]]},
+             "age":39}""";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonFieldFilter filter = JsonFieldFilter
+            .keeping("id", "name", "phrases", "age")
+            .renaming("portrait_path", "portraitPath");
+
+    /**
+     * Parte el cuerpo en trozos de {@code size} bytes, como llegaría desde la red
+     */
+    private static Flux<DataBuffer> chunked(String json, int size) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += size) {
+            int length = Math.min(size, bytes.length - offset);
+            chunks.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, offset, offset + length)));
+        }
+        return Flux.fromIterable(chunks);
+    }
+
+    @Test
+    @DisplayName("Debe conservar y renombrar solo los campos de la lista blanca, en JSON compacto")
+    void shouldKeepWhitelistedFields() {
+        StepVerifier.create(filter.filter(chunked(CHARACTER, 4096)))
+                .assertNext(json -> {
+                    JsonNode node = readTree(json);
+                    assertEquals(1, node.get("id").asInt());
+                    assertEquals("Homer Simpson", node.get("name").asText());
+                    assertEquals("/character/1.webp", node.get("portraitPath").asText());
+                    assertEquals("Woo-hoo!", node.get("phrases").get(1).asText());
+                    assertEquals(39, node.get("age").asInt());
+                    assertFalse(node.has("first_appearance_ep"));
+                    assertFalse(node.has("portrait_path"));
+                    assertFalse(json.contains("\n"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe producir el mismo resultado aunque el cuerpo llegue en trozos pequeños")
+    void shouldHandleSplitTokens() {
+        String whole = filter.filter(chunked(CHARACTER, 4096)).block();
+
+        StepVerifier.create(filter.filter(chunked(CHARACTER, 3)))
+                .expectNext(whole)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe fallar si el cuerpo no es un objeto JSON completo")
+    void shouldRejectIncompleteBody() {
+        StepVerifier.create(filter.filter(chunked("{\"id\":1,\"name\":", 8)))
+                .expectError(DecodingException.class)
+                .verify();
+
+        StepVerifier.create(filter.filter(chunked("[1,2]", 8)))
+                .expectError(DecodingException.class)
+                .verify();
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return mapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package co.com.bancolombia.consumer.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("UpstreamResilience Unit Tests")
+class UpstreamResilienceTest {
+
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final UpstreamResilience resilience = resilience(new RestConsumerProperties());
+
+    private static UpstreamResilience resilience(RestConsumerProperties properties) {
+        return new UpstreamResilience(
+                CircuitBreakerRegistry.ofDefaults(),
+                RetryRegistry.of(RetryConfig.custom()
+                        .maxAttempts(2)
+                        .waitDuration(Duration.ofMillis(1))
+                        .retryOnException(UpstreamResilience::isDegraded)
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(100))
+                        .build()),
+                properties);
+    }
+
+    private <T> Mono<T> counted(Mono<T> call) {
+        return Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return call;
+        });
+    }
+
+    private static WebClientResponseException status(HttpStatus status) {
+        return WebClientResponseException.create(status.value(), status.getReasonPhrase(),
+                null, null, null);
+    }
+
+    @Test
+    @DisplayName("Debe servir el último valor bueno cuando el upstream está degradado")
+    void shouldServeLastGoodValueWhenDegraded() {
+        StepVerifier.create(resilience.decorate("characters", "characters", 1,
+                        Mono.just("Homer")))
+                .expectNext("Homer")
+                .verifyComplete();
+
+        StepVerifier.create(resilience.decorate("characters", "characters", 1,
+                        counted(Mono.error(status(HttpStatus.SERVICE_UNAVAILABLE)))))
+                .expectNext("Homer")
+                .verifyComplete();
+
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Debe cortar las llamadas lentas con el time limiter")
+    void shouldTimeOutSlowCalls() {
+        StepVerifier.create(resilience.decorate("episodes", "episodes", 5,
+                        resilience.timeLimit("episodes", Mono.never())))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Debe acotar la operación completa, reintentos incluidos, con callTimeout")
+    void shouldBoundRetriedOperation() {
+        var properties = new RestConsumerProperties();
+        properties.setCallTimeout(Duration.ofMillis(150));
+        UpstreamResilience bounded = resilience(properties);
+
+        StepVerifier.create(bounded.decorate("episodes", "episodes", 7,
+                        bounded.timeLimit("episodes", counted(Mono.never()))))
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+
+        // El primer intento agota su time limiter (100 ms); el segundo se corta a los 150 ms
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Debe cortar un stream que no termina dentro del plazo del time limiter")
+    void shouldTimeOutSlowStreams() {
+        StepVerifier.create(resilience.timeLimit("locations",
+                        Flux.just(1).concatWith(Flux.never())))
+                .expectNext(1)
+                .expectError(TimeoutException.class)
+                .verify(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("No debe reintentar ni usar fallback ante un 404")
+    void shouldPropagateNotFound() {
+        StepVerifier.create(resilience.decorate("locations", "locations", 1,
+                        Mono.just("Moe's Tavern")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        StepVerifier.create(resilience.decorate("locations", "locations", 1,
+                        counted(Mono.error(status(HttpStatus.NOT_FOUND)))))
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,117 @@
+package co.com.bancolombia.consumer.revalidation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("ConditionalRequestCache Unit Tests")
+class ConditionalRequestCacheTest {
+
+    private static final String BODY = "{\"id\":3,\"name\":\"Moe's Tavern\"}";
+
+    private final MockWebServer server = new MockWebServer();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ConditionalRequestCache cache =
+            new ConditionalRequestCache(new RestConsumerProperties(), registry);
+    private WebClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server.start();
+        client = WebClient.builder().baseUrl(server.url("/").toString()).build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    private Mono<SimpsonsLocation> location() {
+        return cache.exchange("locations", 3, () -> client.get().uri("/locations/3"),
+                response -> response.bodyToMono(SimpsonsLocation.class));
+    }
+
+    private static MockResponse json(String body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+    }
+
+    private double counter(String name, String result) {
+        return registry.get(name).tag("resource", "locations").tag("result", result)
+                .counter().count();
+    }
+
+    @Test
+    @DisplayName("Un 304 debe reutilizar el objeto decodificado de la respuesta anterior")
+    void shouldReuseDecodedObjectOnNotModified() throws InterruptedException {
+        server.enqueue(json(BODY).setHeader("ETag", "\"v1\""));
+        server.enqueue(new MockResponse().setResponseCode(304));
+
+        SimpsonsLocation first = location().block();
+        SimpsonsLocation second = location().block();
+
+        assertSame(first, second);
+        assertNull(server.takeRequest().getHeader("If-None-Match"));
+        assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+        assertEquals(1.0, counter("simpsons.upstream.revalidation", "hit"));
+        assertEquals(BODY.length(), registry.get("simpsons.upstream.revalidation.bytes.saved")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Debe revalidar con Last-Modified y reemplazar el valor si cambió")
+    void shouldReplaceValueWhenModified() throws InterruptedException {
+        String lastModified = "Wed, 21 Oct 2015 07:28:00 GMT";
+        server.enqueue(json(BODY).setHeader("Last-Modified", lastModified));
+        server.enqueue(json("{\"id\":3,\"name\":\"Moe's\"}"));
+
+        location().block();
+        StepVerifier.create(location().map(SimpsonsLocation::getName))
+                .expectNext("Moe's")
+                .verifyComplete();
+
+        server.takeRequest();
+        assertEquals(lastModified, server.takeRequest().getHeader("If-Modified-Since"));
+        assertEquals(1.0, counter("simpsons.upstream.revalidation", "miss"));
+    }
+
+    @Test
+    @DisplayName("Debe olvidar los validadores si una respuesta nueva llega sin ellos")
+    void shouldForgetValidatorsWhenResponseHasNone() throws InterruptedException {
+        server.enqueue(json(BODY).setHeader("ETag", "\"v1\""));
+        server.enqueue(json(BODY));
+        server.enqueue(json(BODY));
+
+        location().block();
+        location().block();
+        location().block();
+
+        server.takeRequest();
+        assertEquals("\"v1\"", server.takeRequest().getHeader("If-None-Match"));
+        assertNull(server.takeRequest().getHeader("If-None-Match"));
+    }
+
+    @Test
+    @DisplayName("Debe propagar los errores HTTP como WebClientResponseException")
+    void shouldPropagateErrors() {
+        server.enqueue(new MockResponse().setResponseCode(404));
+
+        StepVerifier.create(location())
+                .expectError(WebClientResponseException.NotFound.class)
+                .verify();
+    }
+}
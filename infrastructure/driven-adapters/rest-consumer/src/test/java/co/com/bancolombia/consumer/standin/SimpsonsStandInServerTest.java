@@ -0,0 +1,110 @@
+package co.com.bancolombia.consumer.standin;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import co.com.bancolombia.consumer.SimpsonsPageResponse;
+import co.com.bancolombia.consumer.config.properties.RestConsumerProperties;
+import co.com.bancolombia.consumer.config.properties.SimpsonsStandInProperties;
+import co.com.bancolombia.consumer.json.UpstreamJsonMapper;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@DisplayName("SimpsonsStandInServer Unit Tests")
+class SimpsonsStandInServerTest {
+
+    private SimpsonsStandInServer server;
+
+    private WebClient start(SimpsonsStandInProperties properties) {
+        properties.setEnabled(true);
+        properties.setPort(0);
+        properties.setCharacters(50);
+        properties.setLocations(45);
+        server = new SimpsonsStandInServer(properties, new RestConsumerProperties(),
+                new UpstreamJsonMapper(new ObjectMapper()));
+        server.start();
+        return WebClient.create("http://localhost:" + server.port());
+    }
+
+    @AfterEach
+    void stop() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("Debe servir el mismo documento para la misma semilla y responder 304 a su ETag")
+    void shouldServeDeterministicDocumentsWithEtag() {
+        var client = start(new SimpsonsStandInProperties());
+
+        var first = client.get().uri("/characters/7").retrieve()
+                .toEntity(SimpsonsCharacter.class).block();
+        assertNotNull(first);
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals(7, first.getBody().getId());
+
+        server.stop();
+        client = start(new SimpsonsStandInProperties());
+        var again = client.get().uri("/characters/7").retrieve()
+                .toEntity(SimpsonsCharacter.class).block();
+        assertEquals(first.getBody().getName(), again.getBody().getName());
+        assertEquals(etag, again.getHeaders().getETag());
+
+        var notModified = client.get().uri("/characters/7").ifNoneMatch(etag)
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .block();
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified);
+    }
+
+    @Test
+    @DisplayName("Debe paginar los listados y responder 404 a IDs fuera del dataset")
+    void shouldPageListingsAndRejectUnknownIds() {
+        var client = start(new SimpsonsStandInProperties());
+
+        var page = client.get().uri("/locations?page=3").retrieve()
+                .bodyToMono(new ParameterizedTypeReference<SimpsonsPageResponse<SimpsonsLocation>>() {
+                })
+                .block();
+        assertEquals(45, page.getCount());
+        assertEquals(3, page.getPages());
+        assertEquals(5, page.getResults().size());
+        assertEquals(41, page.getResults().get(0).getId());
+
+        var missing = client.get().uri("/characters/51")
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()))
+                .block();
+        assertEquals(HttpStatus.NOT_FOUND, missing);
+    }
+
+    @Test
+    @DisplayName("Debe inyectar errores y throttling según la configuración")
+    void shouldInjectFaults() {
+        var properties = new SimpsonsStandInProperties();
+        properties.getFaults().setErrorRate(1);
+        var client = start(properties);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, status(client));
+
+        server.stop();
+        properties = new SimpsonsStandInProperties();
+        properties.getFaults().setRequestsPerSecond(1);
+        client = start(properties);
+
+        assertEquals(HttpStatus.OK, status(client));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, status(client));
+    }
+
+    private static HttpStatus status(WebClient client) {
+        return client.get().uri("/episodes/1")
+                .exchangeToMono(response -> response.releaseBody()
+                        .thenReturn(HttpStatus.valueOf(response.statusCode().value())))
+                .block();
+    }
+}
@@ -0,0 +1,116 @@
+package co.com.bancolombia.mcp.audit;
+
+import co.com.bancolombia.mcp.config.AuditProperties;
+import co.com.bancolombia.mcp.config.CallMetricsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.aop.interceptor.ExposeInvocationInterceptor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Sobrecoste por llamada de la auditoría MCP: el tool sin aspecto, el aspecto anterior
+ * ({@link LegacyAuditAspect}) y {@link ApiKeyAuditAspect} auditando todas las llamadas o
+ * muestreando el 1% de los éxitos. La cola se sustituye por un descarte para medir solo el
+ * hilo de la petición.
+ * <p>
+ * Ejecutar con {@code ./gradlew :mcp-server:jmh}; comparar el tiempo medio y
+ * {@code gc.alloc.rate.norm} del profiler {@code gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuditAspectBenchmark {
+
+    private final Context authentication = ReactiveSecurityContextHolder.withAuthentication(
+            new TestingAuthenticationToken("dev-client", "n/a"));
+
+    private CatalogTool direct;
+    private CatalogTool legacy;
+    private CatalogTool fullAudit;
+    private CatalogTool sampled;
+
+    public static class CatalogTool {
+
+        @McpTool(name = "lookup", description = "Consulta de prueba")
+        public Mono<String> lookup(String name, int id) {
+            return Mono.just(name);
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        direct = new CatalogTool();
+        legacy = proxy(new LegacyAuditAspect(event -> { }, new SimpleMeterRegistry()));
+        fullAudit = proxy(aspect(1.0));
+        sampled = proxy(aspect(0.01));
+    }
+
+    private static ApiKeyAuditAspect aspect(double successRate) {
+        var registry = new SimpleMeterRegistry();
+        var properties = new AuditProperties();
+        properties.getSampling().setSuccessRate(successRate);
+        var pipeline = new McpAuditPipeline(events -> Mono.empty(), properties, registry) {
+            @Override
+            boolean publish(AuditRecord call) {
+                return true;
+            }
+        };
+        return new ApiKeyAuditAspect(pipeline,
+                new McpCallMetrics(registry, new CallMetricsProperties()), properties,
+                ObservationRegistry.NOOP);
+    }
+
+    private static CatalogTool proxy(Object aspect) {
+        var factory = new AspectJProxyFactory(new CatalogTool());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        // Como el auto-proxy de Spring: el interceptor que expone la invocación va siempre
+        // primero, aunque el aspecto tenga @Order(HIGHEST_PRECEDENCE)
+        factory.removeAdvisor(ExposeInvocationInterceptor.ADVISOR);
+        factory.addAdvisor(0, ExposeInvocationInterceptor.ADVISOR);
+        return factory.getProxy();
+    }
+
+    private String call(CatalogTool tool) {
+        return tool.lookup("Homer Simpson", 1).contextWrite(authentication).block();
+    }
+
+    @Benchmark
+    public String noAspect() {
+        return call(direct);
+    }
+
+    @Benchmark
+    public String legacyAspect() {
+        return call(legacy);
+    }
+
+    @Benchmark
+    public String fullAudit() {
+        return call(fullAudit);
+    }
+
+    @Benchmark
+    public String sampledAudit() {
+        return call(sampled);
+    }
+}
@@ -0,0 +1,119 @@
+package co.com.bancolombia.mcp.audit;
+
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Copia del camino por llamada de {@link ApiKeyAuditAspect} antes del caché de {@link CallSite}
+ * y del muestreo, como referencia para {@link AuditAspectBenchmark}: nombre del método,
+ * argumentos en texto y {@link McpAuditEvent} armados en cada invocación, y medidores buscados
+ * por clave compuesta.
+ */
+@Aspect
+class LegacyAuditAspect {
+
+    private final Consumer<McpAuditEvent> publisher;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, AtomicInteger> active = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    LegacyAuditAspect(Consumer<McpAuditEvent> publisher, MeterRegistry meterRegistry) {
+        this.publisher = publisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(org.springaicommunity.mcp.annotation.McpTool)")
+    public Object audit(ProceedingJoinPoint joinPoint) throws Throwable {
+        long startTime = System.currentTimeMillis();
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String methodName = joinPoint.getSignature().getName();
+        String target = className + "." + methodName;
+        String argsString = AuditRecord.formatArgs(joinPoint.getArgs());
+
+        Object result = joinPoint.proceed();
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(this::extractClientId)
+                .defaultIfEmpty("anonymous")
+                .flatMap(clientId -> {
+                    long startNanos = started(target);
+                    return ((Mono<?>) result)
+                            .doOnSuccess(value -> audit(clientId, target, argsString, startTime,
+                                    startNanos, null))
+                            .doOnError(error -> audit(clientId, target, argsString, startTime,
+                                    startNanos, error))
+                            .doFinally(signal -> finished(target, clientId,
+                                    signal == SignalType.ON_COMPLETE ? "success" : "error",
+                                    startNanos));
+                });
+    }
+
+    private void audit(String clientId, String target, String argsString, long startTime,
+            long startNanos, Throwable error) {
+        publisher.accept(McpAuditEvent.builder()
+                .occurredAt(Instant.ofEpochMilli(startTime))
+                .type("TOOL")
+                .clientId(clientId)
+                .target(target)
+                .arguments(argsString)
+                .success(error == null)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .error(error == null ? null : String.valueOf(error.getMessage()))
+                .build());
+    }
+
+    private String extractClientId(Authentication auth) {
+        return auth == null ? "anonymous" : auth.getName();
+    }
+
+    private long started(String target) {
+        activeCalls(target).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    private void finished(String target, String clientId, String outcome, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        activeCalls(target).decrementAndGet();
+        timers.computeIfAbsent(new TimerKey("TOOL", target, clientId, outcome), this::timer)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+    }
+
+    private AtomicInteger activeCalls(String target) {
+        return active.computeIfAbsent("TOOL" + ':' + target, key -> {
+            AtomicInteger calls = new AtomicInteger();
+            Gauge.builder("mcp.calls.active", calls, AtomicInteger::get)
+                    .tag("method", target)
+                    .register(meterRegistry);
+            return calls;
+        });
+    }
+
+    private Timer timer(TimerKey key) {
+        return Timer.builder("mcp.calls")
+                .tag("type", key.type())
+                .tag("method", key.method())
+                .tag("client", key.client())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String type, String method, String client, String outcome) {
+    }
+}
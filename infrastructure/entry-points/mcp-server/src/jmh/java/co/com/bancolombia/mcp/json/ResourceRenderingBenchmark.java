@@ -0,0 +1,90 @@
+package co.com.bancolombia.mcp.json;
+
+import co.com.bancolombia.mcp.config.ResourceJsonProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Coste por lectura de un resource {@code simpsons://character/{id}}: el
+ * {@code writerWithDefaultPrettyPrinter()} creado en cada llamada (camino anterior) frente al
+ * {@link ResourceJsonRenderer} en modo compacto, indentado y compacto con Blackbird.
+ * <p>
+ * Ejecutar con {@code ./gradlew :mcp-server:jmh}; comparar el tiempo medio y
+ * {@code gc.alloc.rate.norm} del profiler {@code gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceRenderingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private SimpsonsCharacter character;
+    private ResourceJsonRenderer compact;
+    private ResourceJsonRenderer pretty;
+    private ResourceJsonRenderer blackbird;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        character = SimpsonsCharacter.builder()
+                .id(1)
+                .name("Homer Simpson")
+                .age(39)
+                .birthdate("1956-05-12")
+                .gender("Male")
+                .occupation("Safety Inspector")
+                .portraitPath("/character/1.webp")
+                .status("Alive")
+                .phrases(List.of("Doh!", "Woo-hoo!", "Why you little...!", "Mmm... donuts",
+                        "Stupid Flanders", "In this house, we obey the laws of thermodynamics!"))
+                .build();
+        compact = renderer(false, false);
+        pretty = renderer(true, false);
+        blackbird = renderer(false, true);
+    }
+
+    private ResourceJsonRenderer renderer(boolean prettyPrint, boolean withBlackbird) {
+        var properties = new ResourceJsonProperties();
+        properties.setPretty(prettyPrint);
+        properties.setBlackbird(withBlackbird);
+        return new ResourceJsonRenderer(objectMapper, properties, ObservationRegistry.NOOP);
+    }
+
+    @Benchmark
+    public String prettyWriterPerCall() throws JsonProcessingException {
+        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(character);
+    }
+
+    @Benchmark
+    public String rendererPretty() {
+        return pretty.render(character);
+    }
+
+    @Benchmark
+    public String rendererCompact() {
+        return compact.render(character);
+    }
+
+    @Benchmark
+    public String rendererCompactBlackbird() {
+        return blackbird.render(character);
+    }
+}
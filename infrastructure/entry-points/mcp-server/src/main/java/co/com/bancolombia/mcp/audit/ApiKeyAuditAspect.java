@@ -1,10 +1,19 @@
 package co.com.bancolombia.mcp.audit;
 
+import co.com.bancolombia.mcp.cache.McpCacheAspect;
+import co.com.bancolombia.mcp.config.AuditProperties;
+import io.micrometer.observation.ObservationRegistry;
+import java.lang.reflect.Method;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
@@ -13,7 +22,10 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.context.Context;
 
 /**
  * Aspecto para auditar el uso de Tools, Resources y Prompts MCP
@@ -24,13 +36,39 @@ import reactor.core.publisher.Mono;
  * User) - Qué
  * (metodo/tool/resource) - Cuándo (timestamp) - Resultado (éxito/fallo) -
  * Tiempo de ejecución
+ * <p>
+ * Cada llamada auditada produce un único {@link AuditRecord} al terminar, que se entrega al
+ * {@link McpAuditPipeline}: el hilo de la petición solo lo encola, y los argumentos se resumen
+ * a texto y se persisten por lotes en segundo plano. Los datos fijos de cada método (nombre,
+ * medidores) se calculan en su primera invocación y quedan en un {@link CallSite}.
+ * <p>
+ * Con {@code mcp.audit.sampling} se audita solo una fracción de las llamadas exitosas o
+ * fallidas; la duración y las llamadas en curso se publican siempre como métricas en
+ * {@link McpCallMetrics}, incluso con la auditoría desactivada.
+ * <p>
+ * Cada llamada abre además la observación {@value #OBSERVATION} (el span raíz del tool, resource
+ * o prompt), que queda en el contexto de Reactor como padre de los spans del caso de uso, del
+ * adaptador y del WebClient.
+ * <p>
+ * Mientras una grabación JFR lo tenga habilitado, cada llamada emite también un
+ * {@link McpCallEvent} (con el acierto de {@code @McpCacheable} y el tamaño de la respuesta);
+ * {@code JfrRecordings} usa esos eventos para resumir las más lentas.
  */
 @Slf4j
 @Aspect
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
 public class ApiKeyAuditAspect {
 
+    public static final String OBSERVATION = "mcp.call";
+
+    private final McpAuditPipeline pipeline;
+    private final McpCallMetrics metrics;
+    private final AuditProperties properties;
+    private final ObservationRegistry observationRegistry;
+    private final ConcurrentMap<Method, CallSite> callSites = new ConcurrentHashMap<>();
+
     /**
      * Audita todas las llamadas a Tools MCP
      */
@@ -60,51 +98,40 @@ public class ApiKeyAuditAspect {
      */
     private Object auditMcpCall(ProceedingJoinPoint joinPoint, String mcpType) throws Throwable {
         long startTime = System.currentTimeMillis();
-
-        // Información del metodo
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        String methodName = joinPoint.getSignature().getName();
-        Object[] args = joinPoint.getArgs();
-        String argsString = formatArgs(args);
+        CallSite site = callSite(joinPoint, mcpType);
 
         // Ejecutar el metodo
         Object result = joinPoint.proceed();
 
         // Si es reactivo (Mono), inyectar lógica de auditoría en el flujo
-        if (result instanceof Mono) {
+        if (result instanceof Mono<?> mono) {
             return ReactiveSecurityContextHolder.getContext()
                     .map(SecurityContext::getAuthentication)
-                    .map(this::extractClientId)
+                    .map(ApiKeyAuditAspect::extractClientId)
                     .defaultIfEmpty("anonymous")
                     .flatMap(clientId -> {
-                        log.info("📊 [AUDIT] {} llamado por: {} | Método: {}.{} | Args: {}",
-                                mcpType,
-                                clientId,
-                                className,
-                                methodName,
-                                argsString);
-
-                        return ((Mono<?>) result)
-                                .doOnSuccess(value -> {
-                                    long executionTime = System.currentTimeMillis() - startTime;
-                                    log.info(
-                                            "✅ [AUDIT] {} exitoso | Client: {} | Método: {}.{} | Tiempo: {}ms",
-                                            mcpType,
-                                            clientId,
-                                            className,
-                                            methodName,
-                                            executionTime);
-                                })
-                                .doOnError(error -> {
-                                    long executionTime = System.currentTimeMillis() - startTime;
-                                    log.error(
-                                            "❌ [AUDIT] {} fallido | Client: {} | Método: {}.{} | Tiempo: {}ms | Error: {}",
-                                            mcpType,
-                                            clientId,
-                                            className,
-                                            methodName,
-                                            executionTime,
-                                            error.getMessage());
+                        long startNanos = site.meters().start();
+                        McpCallEvent event = McpCallEvent.begin(site, clientId);
+                        Mono<?> call = observe(site, mono);
+                        if (event != null) {
+                            call = call.doOnNext(event::response)
+                                    .contextWrite(Context.of(McpCacheAspect.HIT_LISTENER,
+                                            (Runnable) event::cacheHit));
+                        }
+                        // El éxito se audita en doFinally: un operador y una lambda menos
+                        return call
+                                .doOnError(error -> audit(site, clientId, joinPoint, startTime,
+                                        startNanos, error))
+                                .doFinally(signal -> {
+                                    if (signal == SignalType.ON_COMPLETE) {
+                                        audit(site, clientId, joinPoint, startTime, startNanos,
+                                                null);
+                                    }
+                                    McpCallMetrics.Outcome outcome = outcome(signal);
+                                    site.meters().stop(clientId, outcome, startNanos);
+                                    if (event != null) {
+                                        event.finish(outcome);
+                                    }
                                 });
                     });
         }
@@ -112,12 +139,58 @@ public class ApiKeyAuditAspect {
         // Para métodos síncronos (fallback básico, aunque SecurityContextHolder
         // probablemente esté vacío)
         // En una app Full Reactive esto raramente ocurrirá para endpoints WebFlux
-        log.warn("⚠️ [AUDIT] Interceptado método no reactivo en aplicación WebFlux: {}.{}",
-                className, methodName);
+        log.warn("⚠️ [AUDIT] Interceptado método no reactivo en aplicación WebFlux: {}",
+                site.target());
         return result;
     }
 
-    private String extractClientId(Authentication auth) {
+    private Mono<?> observe(CallSite site, Mono<?> mono) {
+        if (observationRegistry.isNoop()) {
+            return mono;
+        }
+        return mono.name(OBSERVATION)
+                .tag("mcp.type", site.type())
+                .tag("mcp.target", site.target())
+                .tap(Micrometer.observation(observationRegistry));
+    }
+
+    private CallSite callSite(ProceedingJoinPoint joinPoint, String mcpType) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        CallSite site = callSites.get(method);
+        if (site != null) {
+            return site;
+        }
+        return callSites.computeIfAbsent(method, key -> {
+            String target = joinPoint.getTarget().getClass().getSimpleName() + "." + key.getName();
+            return new CallSite(mcpType, target, metrics.meters(mcpType, target));
+        });
+    }
+
+    private void audit(CallSite site, String clientId, ProceedingJoinPoint joinPoint,
+            long startTime, long startNanos, Throwable error) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        AuditProperties.Sampling sampling = properties.getSampling();
+        double rate = error == null ? sampling.getSuccessRate() : sampling.getFailureRate();
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            pipeline.sampledOut();
+            return;
+        }
+        pipeline.publish(new AuditRecord(site, clientId, joinPoint.getArgs(), startTime,
+                durationNanos, error));
+    }
+
+    private static McpCallMetrics.Outcome outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_COMPLETE -> McpCallMetrics.Outcome.SUCCESS;
+            case ON_ERROR -> McpCallMetrics.Outcome.ERROR;
+            default -> McpCallMetrics.Outcome.CANCELLED;
+        };
+    }
+
+    private static String extractClientId(Authentication auth) {
         if (auth == null) {
             return "anonymous";
         }
@@ -147,36 +220,4 @@ public class ApiKeyAuditAspect {
 
         return auth.getName();
     }
-
-    /**
-     * Formatea los argumentos para el log (limita el tamaño)
-     */
-    private String formatArgs(Object[] args) {
-        if (args == null || args.length == 0) {
-            return "[]";
-        }
-
-        StringBuilder sb = new StringBuilder("[");
-        for (int i = 0; i < Math.min(args.length, 3); i++) {
-            if (i > 0) {
-                sb.append(", ");
-            }
-
-            Object arg = args[i];
-            if (arg == null) {
-                sb.append("null");
-            } else {
-                String argStr = arg.toString();
-                // Limitar tamaño del argumento en el log
-                sb.append(argStr.length() > 50 ? argStr.substring(0, 50) + "..." : argStr);
-            }
-        }
-
-        if (args.length > 3) {
-            sb.append(", ... (").append(args.length - 3).append(" more)");
-        }
-
-        sb.append("]");
-        return sb.toString();
-    }
 }
\ No newline at end of file
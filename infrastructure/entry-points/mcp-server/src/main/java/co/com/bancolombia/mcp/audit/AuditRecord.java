@@ -0,0 +1,74 @@
+package co.com.bancolombia.mcp.audit;
+
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Llamada auditada pendiente de guardar
+ * <p>
+ * Conserva los argumentos tal cual: se resumen a texto en {@link #toEvent()}, que ejecuta el
+ * drenador de {@link McpAuditPipeline} fuera del hilo de la petición.
+ */
+record AuditRecord(CallSite site, String clientId, Object[] args, long occurredAtMillis,
+        long durationNanos, Throwable error) {
+
+    private static final int MAX_ARGS = 3;
+    private static final int MAX_ARG_LENGTH = 50;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    McpAuditEvent toEvent() {
+        return McpAuditEvent.builder()
+                .occurredAt(Instant.ofEpochMilli(occurredAtMillis))
+                .type(site.type())
+                .clientId(clientId)
+                .target(site.target())
+                .arguments(formatArgs(args))
+                .success(error == null)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .error(errorMessage())
+                .build();
+    }
+
+    private String errorMessage() {
+        if (error == null) {
+            return null;
+        }
+        String message = String.valueOf(error.getMessage());
+        return message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    /**
+     * Formatea los argumentos para la auditoría (limita el tamaño)
+     */
+    static String formatArgs(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < Math.min(args.length, MAX_ARGS); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+
+            Object arg = args[i];
+            if (arg == null) {
+                sb.append("null");
+            } else {
+                String argStr = arg.toString();
+                // Limitar tamaño del argumento
+                sb.append(argStr.length() > MAX_ARG_LENGTH
+                        ? argStr.substring(0, MAX_ARG_LENGTH) + "..." : argStr);
+            }
+        }
+
+        if (args.length > MAX_ARGS) {
+            sb.append(", ... (").append(args.length - MAX_ARGS).append(" more)");
+        }
+
+        sb.append("]");
+        return sb.toString();
+    }
+}
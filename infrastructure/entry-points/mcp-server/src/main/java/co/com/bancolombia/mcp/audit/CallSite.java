@@ -0,0 +1,11 @@
+package co.com.bancolombia.mcp.audit;
+
+/**
+ * Datos de un método auditado que no cambian entre llamadas; {@link ApiKeyAuditAspect} los
+ * calcula en la primera invocación
+ *
+ * @param type   {@code TOOL}, {@code RESOURCE} o {@code PROMPT}
+ * @param target clase y método, por ejemplo {@code SimpsonsTools.getCharacter}
+ */
+record CallSite(String type, String target, McpCallMetrics.CallMeters meters) {
+}
@@ -0,0 +1,168 @@
+package co.com.bancolombia.mcp.audit;
+
+import co.com.bancolombia.mcp.config.AuditProperties;
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import co.com.bancolombia.model.audit.gateways.McpAuditGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Cola de auditoría entre {@link ApiKeyAuditAspect} y el {@link McpAuditGateway}
+ * <p>
+ * {@link #publish} solo encola: nunca bloquea ni hace I/O en el hilo de la petición, y los
+ * {@link McpAuditEvent} (con sus argumentos resumidos a texto) se arman al drenar. La cola es
+ * lock-free y se acota con un contador atómico; llena, descarta el registro nuevo o el más
+ * antiguo según {@code mcp.audit.overflow}. En segundo plano se insertan lotes de hasta
+ * {@code flush-size} registros cada {@code flush-interval}, o antes si se junta un lote
+ * completo. Un lote que no se pudo guardar se descarta: reintentarlo acumularía memoria
+ * mientras la base de datos no responde.
+ * <p>
+ * Métricas: {@code mcp.audit.events} con tag
+ * {@code outcome=enqueued|dropped|sampled_out|persisted|failed} y el gauge
+ * {@code mcp.audit.queue.size}.
+ */
+@Slf4j
+@Component
+public class McpAuditPipeline {
+
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+    private final McpAuditGateway gateway;
+    private final AuditProperties properties;
+    private final Queue<AuditRecord> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Sinks.Many<Boolean> fullBatch = Sinks.many().multicast().directBestEffort();
+    private final Disposable.Swap drainer = Disposables.swap();
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter sampledOut;
+    private final Counter persisted;
+    private final Counter failed;
+
+    public McpAuditPipeline(McpAuditGateway gateway, AuditProperties properties,
+            MeterRegistry meterRegistry) {
+        this.gateway = gateway;
+        this.properties = properties;
+        this.enqueued = counter(meterRegistry, "enqueued");
+        this.dropped = counter(meterRegistry, "dropped");
+        this.sampledOut = counter(meterRegistry, "sampled_out");
+        this.persisted = counter(meterRegistry, "persisted");
+        this.failed = counter(meterRegistry, "failed");
+        Gauge.builder("mcp.audit.queue.size", size, AtomicInteger::get)
+                .description("Registros de auditoría pendientes de guardar")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Encola el registro; devuelve {@code false} si se descartó por tener la cola llena
+     */
+    boolean publish(AuditRecord call) {
+        int pending = size.incrementAndGet();
+        while (pending > properties.getQueueCapacity()) {
+            size.decrementAndGet();
+            if (properties.getOverflow() == AuditProperties.Overflow.DROP_NEWEST || !dropOldest()) {
+                dropped.increment();
+                return false;
+            }
+            pending = size.incrementAndGet();
+        }
+        queue.offer(call);
+        enqueued.increment();
+        if (pending == properties.getFlushSize()) {
+            // Puede fallar si otro hilo está emitiendo: el intervalo lo recoge igualmente
+            fullBatch.tryEmitNext(Boolean.TRUE);
+        }
+        return true;
+    }
+
+    /**
+     * Cuenta una llamada que no se audita por el muestreo
+     */
+    void sampledOut() {
+        sampledOut.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        drainer.update(Flux.merge(Flux.interval(properties.getFlushInterval()), fullBatch.asFlux())
+                .onBackpressureDrop()
+                .concatMap(tick -> flush(), 1)
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        drainer.dispose();
+        try {
+            Mono.defer(this::flushBatch)
+                    .repeat(() -> size.get() > 0)
+                    .then()
+                    .block(SHUTDOWN_TIMEOUT);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [AUDIT] Se perdieron {} registros de auditoría al detener: {}",
+                    size.get(), e.getMessage());
+        }
+    }
+
+    /**
+     * Vuelca un lote y sigue mientras queden lotes completos
+     */
+    Mono<Void> flush() {
+        return Mono.defer(this::flushBatch)
+                .repeat(() -> size.get() >= properties.getFlushSize())
+                .then();
+    }
+
+    private Mono<Void> flushBatch() {
+        List<McpAuditEvent> batch = new ArrayList<>(Math.min(size.get(), properties.getFlushSize()));
+        AuditRecord call;
+        while (batch.size() < properties.getFlushSize() && (call = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(call.toEvent());
+        }
+        if (batch.isEmpty()) {
+            return Mono.empty();
+        }
+        return gateway.saveAll(batch)
+                .doOnSuccess(unused -> persisted.increment(batch.size()))
+                .onErrorResume(error -> {
+                    failed.increment(batch.size());
+                    log.warn("⚠️ [AUDIT] No fue posible guardar {} registros de auditoría: {}",
+                            batch.size(), error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private boolean dropOldest() {
+        if (queue.poll() == null) {
+            return false;
+        }
+        size.decrementAndGet();
+        dropped.increment();
+        return true;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("mcp.audit.events")
+                .description("Registros de auditoría MCP por resultado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
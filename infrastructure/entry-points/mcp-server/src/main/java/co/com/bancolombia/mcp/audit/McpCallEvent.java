@@ -0,0 +1,123 @@
+package co.com.bancolombia.mcp.audit;
+
+import co.com.bancolombia.model.jfr.JfrEventNames;
+import io.modelcontextprotocol.spec.McpSchema.BlobResourceContents;
+import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
+import io.modelcontextprotocol.spec.McpSchema.ImageContent;
+import io.modelcontextprotocol.spec.McpSchema.PromptMessage;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
+import io.modelcontextprotocol.spec.McpSchema.ResourceContents;
+import io.modelcontextprotocol.spec.McpSchema.TextContent;
+import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de una llamada MCP (tool, resource o prompt) emitido por {@link ApiKeyAuditAspect}
+ * <p>
+ * Solo se crea mientras alguna grabación JFR tiene habilitado el evento: fuera de ella el coste
+ * por llamada es la consulta a {@link EventType#isEnabled()}, sin asignaciones. La duración es la
+ * del evento (desde la suscripción hasta la terminación del {@code Mono}).
+ * <p>
+ * Registra también si la respuesta salió de la caché de {@code @McpCacheable} y su tamaño. El
+ * tamaño se suma a partir de los textos que ya trae la respuesta (nunca se vuelve a serializar):
+ * un {@code String}, o el texto y el base64 de {@link ReadResourceResult} y
+ * {@link GetPromptResult}; para los demás tipos queda en -1.
+ */
+@Name(McpCallEvent.NAME)
+@Label("Llamada MCP")
+@Category({"Bancolombia", "MCP"})
+@Description("Tool, resource o prompt MCP atendido por el servidor")
+@StackTrace(false)
+public final class McpCallEvent extends Event {
+
+    public static final String NAME = JfrEventNames.MCP_CALL;
+
+    private static final EventType TYPE = EventType.getEventType(McpCallEvent.class);
+
+    @Label("Tipo")
+    private String type;
+
+    @Label("Destino")
+    private String target;
+
+    @Label("Cliente")
+    private String clientId;
+
+    @Label("Resultado")
+    private String outcome;
+
+    @Label("Acierto de caché")
+    @Description("La respuesta salió de la caché de @McpCacheable sin invocar el metodo")
+    private boolean cacheHit;
+
+    @Label("Tamaño de la respuesta")
+    @Description("Caracteres de texto y base64 del valor devuelto; -1 si no hubo valor o su "
+            + "tipo no se mide")
+    private long responseSize = -1;
+
+    /**
+     * Inicia el evento de la llamada, o devuelve {@code null} si ninguna grabación lo registra
+     */
+    static McpCallEvent begin(CallSite site, String clientId) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        McpCallEvent event = new McpCallEvent();
+        event.type = site.type();
+        event.target = site.target();
+        event.clientId = clientId;
+        event.begin();
+        return event;
+    }
+
+    void cacheHit() {
+        cacheHit = true;
+    }
+
+    void response(Object value) {
+        responseSize = size(value);
+    }
+
+    void finish(McpCallMetrics.Outcome result) {
+        end();
+        if (shouldCommit()) {
+            outcome = result.tag();
+            commit();
+        }
+    }
+
+    private static long size(Object value) {
+        return switch (value) {
+            case String text -> text.length();
+            case ReadResourceResult resource -> {
+                long size = 0;
+                for (ResourceContents contents : resource.contents()) {
+                    if (contents instanceof TextResourceContents text) {
+                        size += text.text().length();
+                    } else if (contents instanceof BlobResourceContents blob) {
+                        size += blob.blob().length();
+                    }
+                }
+                yield size;
+            }
+            case GetPromptResult prompt -> {
+                long size = 0;
+                for (PromptMessage message : prompt.messages()) {
+                    if (message.content() instanceof TextContent text) {
+                        size += text.text().length();
+                    } else if (message.content() instanceof ImageContent image) {
+                        size += image.data().length();
+                    }
+                }
+                yield size;
+            }
+            default -> -1;
+        };
+    }
+}
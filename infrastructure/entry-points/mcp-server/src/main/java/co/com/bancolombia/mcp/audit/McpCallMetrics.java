@@ -0,0 +1,151 @@
+package co.com.bancolombia.mcp.audit;
+
+import co.com.bancolombia.mcp.config.CallMetricsProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latencia y concurrencia de las llamadas MCP
+ * <p>
+ * {@code mcp.calls} es un {@link Timer} con tags {@code type}, {@code method} y {@code outcome}
+ * ({@code success}, {@code error} o {@code cancelled}); publica histograma de percentiles y los
+ * buckets SLO configurados. El desglose por cliente va aparte, en {@code mcp.calls.client}
+ * (mismos tags más {@code client}), sin histograma: solo conteo, tiempo total y máximo, de modo
+ * que cada cliente añade unas pocas series y no un juego de buckets. Para acotar la cardinalidad
+ * solo se etiquetan los primeros {@code max-client-tags} client IDs distintos y el resto se
+ * agrupa como {@code other}. {@code mcp.calls.active} es el número de llamadas en curso por
+ * tool, resource o prompt.
+ * <p>
+ * Los medidores de cada método se crean una vez ({@link #meters}) y quedan en su
+ * {@link CallMeters}: registrar una llamada no crea objetos.
+ */
+@Component
+public class McpCallMetrics {
+
+    static final String OTHER_CLIENT = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final CallMetricsProperties properties;
+    private final Duration[] slo;
+    private final Set<String> taggedClients = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, CallMeters> meters = new ConcurrentHashMap<>();
+
+    public McpCallMetrics(MeterRegistry meterRegistry, CallMetricsProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+        this.slo = properties.getSlo().toArray(Duration[]::new);
+    }
+
+    public CallMeters meters(String type, String method) {
+        return meters.computeIfAbsent(type + ':' + method, key -> new CallMeters(type, method));
+    }
+
+    private String clientTag(String clientId) {
+        if (taggedClients.contains(clientId)) {
+            return clientId;
+        }
+        // Puede pasarse por unos pocos clientes si varios hilos llegan a la vez: es solo un límite
+        if (taggedClients.size() < properties.getMaxClientTags()) {
+            taggedClients.add(clientId);
+            return clientId;
+        }
+        return OTHER_CLIENT;
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        ERROR,
+        CANCELLED;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        String tag() {
+            return tag;
+        }
+    }
+
+    /**
+     * Medidores de un tool, resource o prompt
+     */
+    public final class CallMeters {
+
+        private final String type;
+        private final String method;
+        private final AtomicInteger active = new AtomicInteger();
+        private final Timer[] timers = new Timer[Outcome.values().length];
+        private final ConcurrentMap<String, Timer[]> timersByClient = new ConcurrentHashMap<>();
+
+        private CallMeters(String type, String method) {
+            this.type = type;
+            this.method = method;
+            Gauge.builder("mcp.calls.active", active, AtomicInteger::get)
+                    .description("Llamadas MCP en curso")
+                    .tag("type", type)
+                    .tag("method", method)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Marca el inicio de una llamada; devuelve el instante en nanosegundos para {@link #stop}
+         */
+        public long start() {
+            active.incrementAndGet();
+            return System.nanoTime();
+        }
+
+        public void stop(String clientId, Outcome outcome, long startNanos) {
+            long elapsed = System.nanoTime() - startNanos;
+            active.decrementAndGet();
+            Timer timer = timers[outcome.ordinal()];
+            if (timer == null) {
+                // Si dos hilos llegan a la vez el registro devuelve el mismo Timer a ambos
+                timer = timer(outcome);
+                timers[outcome.ordinal()] = timer;
+            }
+            timer.record(elapsed, TimeUnit.NANOSECONDS);
+            clientTimer(clientTag(clientId), outcome).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+
+        private Timer clientTimer(String client, Outcome outcome) {
+            Timer[] clientTimers = timersByClient.get(client);
+            if (clientTimers == null) {
+                clientTimers = timersByClient.computeIfAbsent(client,
+                        key -> new Timer[Outcome.values().length]);
+            }
+            Timer timer = clientTimers[outcome.ordinal()];
+            if (timer == null) {
+                timer = Timer.builder("mcp.calls.client")
+                        .description("Duración de las llamadas MCP por cliente, sin histograma")
+                        .tag("type", type)
+                        .tag("method", method)
+                        .tag("client", client)
+                        .tag("outcome", outcome.tag)
+                        .register(meterRegistry);
+                clientTimers[outcome.ordinal()] = timer;
+            }
+            return timer;
+        }
+
+        private Timer timer(Outcome outcome) {
+            return Timer.builder("mcp.calls")
+                    .description("Duración de las llamadas MCP")
+                    .tag("type", type)
+                    .tag("method", method)
+                    .tag("outcome", outcome.tag)
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(slo)
+                    .minimumExpectedValue(properties.getMinimumExpectedValue())
+                    .maximumExpectedValue(properties.getMaximumExpectedValue())
+                    .register(meterRegistry);
+        }
+    }
+}
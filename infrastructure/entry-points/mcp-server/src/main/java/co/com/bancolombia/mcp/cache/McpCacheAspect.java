@@ -0,0 +1,148 @@
+package co.com.bancolombia.mcp.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springaicommunity.mcp.annotation.McpPrompt;
+import org.springaicommunity.mcp.annotation.McpResource;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Aplica {@link McpCacheable} a los Tools, Resources y Prompts MCP
+ * <p>
+ * Cada metodo anotado tiene su propia caché Caffeine con el TTL y tamaño declarados, publicada en
+ * Micrometer como {@code cache.*} con tag {@code cache=mcp.<nombre>}. El aspecto se ejecuta dentro
+ * de la seguridad de métodos ({@code @PreAuthorize}) y de la auditoría: un acierto sigue pasando
+ * por la autorización y queda auditado, pero no invoca el metodo. Como la clave incluye los roles
+ * efectivos, dos llamantes con permisos distintos nunca comparten una entrada.
+ * <p>
+ * {@link #evict} descarta una entrada antes de su TTL cuando se sabe que el contenido cambió.
+ * <p>
+ * En cada acierto se ejecuta el {@link Runnable} que la llamada tenga en el contexto de Reactor
+ * bajo {@link #HIT_LISTENER}; así la auditoría marca su evento JFR sin depender de la caché.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class McpCacheAspect {
+
+    public static final String HIT_LISTENER = "mcp.cache.hit-listener";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<Method, Cache<Key, Object>> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Cache<Key, Object>> cachesByName = new ConcurrentHashMap<>();
+
+    public McpCacheAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(cacheable)")
+    public Object cache(ProceedingJoinPoint joinPoint, McpCacheable cacheable) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (!Mono.class.isAssignableFrom(method.getReturnType())) {
+            return joinPoint.proceed();
+        }
+        Cache<Key, Object> cache = caches.computeIfAbsent(method, m -> create(m, cacheable));
+        List<Object> args = Arrays.asList(joinPoint.getArgs());
+
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(McpCacheAspect::roles)
+                .defaultIfEmpty(Set.of())
+                .flatMap(roles -> {
+                    Key key = new Key(args, roles);
+                    Object cached = cache.getIfPresent(key);
+                    if (cached != null) {
+                        return Mono.deferContextual(context -> {
+                            context.<Runnable>getOrEmpty(HIT_LISTENER).ifPresent(Runnable::run);
+                            return Mono.just(cached);
+                        });
+                    }
+                    return proceed(joinPoint).doOnNext(value -> cache.put(key, value));
+                });
+    }
+
+    /**
+     * Descarta, para todos los roles, la entrada de {@code mcpName} con esos argumentos
+     */
+    public void evict(String mcpName, Object... args) {
+        Cache<Key, Object> cache = cachesByName.get(mcpName);
+        if (cache != null) {
+            List<Object> target = Arrays.asList(args);
+            cache.asMap().keySet().removeIf(key -> key.args().equals(target));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Mono<Object> proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return (Mono<Object>) joinPoint.proceed();
+        } catch (Throwable error) {
+            return Mono.error(error);
+        }
+    }
+
+    private Cache<Key, Object> create(Method method, McpCacheable cacheable) {
+        Cache<Key, Object> cache = Caffeine.newBuilder()
+                .expireAfterWrite(DurationStyle.detectAndParse(cacheable.ttl()))
+                .maximumSize(cacheable.maximumSize())
+                .recordStats()
+                .build();
+        String name = mcpName(method);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "mcp." + name);
+        cachesByName.put(name, cache);
+        return cache;
+    }
+
+    /**
+     * Nombre con el que el cliente MCP conoce el metodo
+     */
+    static String mcpName(Method method) {
+        McpTool tool = method.getAnnotation(McpTool.class);
+        if (tool != null && !tool.name().isEmpty()) {
+            return tool.name();
+        }
+        McpResource resource = method.getAnnotation(McpResource.class);
+        if (resource != null && !resource.name().isEmpty()) {
+            return resource.name();
+        }
+        McpPrompt prompt = method.getAnnotation(McpPrompt.class);
+        if (prompt != null && !prompt.name().isEmpty()) {
+            return prompt.name();
+        }
+        return method.getName();
+    }
+
+    private static Set<String> roles(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * El metodo ya lo fija la caché; la clave solo lleva argumentos y roles
+     */
+    private record Key(List<Object> args, Set<String> roles) {
+    }
+}
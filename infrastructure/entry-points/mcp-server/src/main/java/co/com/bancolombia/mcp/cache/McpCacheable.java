@@ -0,0 +1,31 @@
+package co.com.bancolombia.mcp.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Memoiza el resultado final de un Tool, Resource o Prompt MCP reactivo
+ * <p>
+ * Se guarda el valor emitido por el {@code Mono} tal cual lo devuelve el metodo (por ejemplo el
+ * {@code ReadResourceResult} ya serializado), de modo que un acierto evita gateway, mapeo y
+ * serialización. La clave es el nombre MCP, los argumentos y los roles efectivos del llamante.
+ * Los errores y los {@code Mono} vacíos no se cachean.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface McpCacheable {
+
+    /**
+     * Tiempo de vida desde la escritura, en formato Spring Boot ({@code 30s}, {@code 5m}...)
+     */
+    String ttl() default "5m";
+
+    /**
+     * Máximo de entradas en la caché de este metodo
+     */
+    long maximumSize() default 1_000;
+}
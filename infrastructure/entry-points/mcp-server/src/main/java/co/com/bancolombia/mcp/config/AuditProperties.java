@@ -0,0 +1,47 @@
+package co.com.bancolombia.mcp.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Auditoría de llamadas MCP: cola en memoria y volcado por lotes a base de datos
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+    private int queueCapacity = 10_000;
+    /**
+     * Registros por inserción; al acumularse este número se vuelca sin esperar al intervalo
+     */
+    private int flushSize = 200;
+    private Duration flushInterval = Duration.ofSeconds(2);
+    private Overflow overflow = Overflow.DROP_NEWEST;
+    private Sampling sampling = new Sampling();
+
+    /**
+     * Qué registro se descarta cuando la cola está llena
+     */
+    public enum Overflow {
+        DROP_NEWEST,
+        DROP_OLDEST
+    }
+
+    /**
+     * Fracción de llamadas que se auditan (0 a 1), por separado para éxitos y fallos; las
+     * métricas de latencia cubren siempre todas las llamadas
+     */
+    @Setter
+    @Getter
+    public static class Sampling {
+
+        private double successRate = 1.0;
+        private double failureRate = 1.0;
+    }
+}
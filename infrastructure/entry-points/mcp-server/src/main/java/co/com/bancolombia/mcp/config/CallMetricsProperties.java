@@ -0,0 +1,32 @@
+package co.com.bancolombia.mcp.config;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de latencia por tool, resource y prompt MCP ({@code mcp.calls})
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.metrics")
+public class CallMetricsProperties {
+
+    /**
+     * Client IDs distintos que se etiquetan en {@code mcp.calls.client}; los siguientes se
+     * agrupan como {@code other}
+     */
+    private int maxClientTags = 20;
+    /**
+     * Buckets SLO publicados además del histograma de percentiles
+     */
+    private List<Duration> slo = List.of(Duration.ofMillis(10), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500),
+            Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5));
+    private Duration minimumExpectedValue = Duration.ofMillis(1);
+    private Duration maximumExpectedValue = Duration.ofSeconds(30);
+}
@@ -0,0 +1,32 @@
+package co.com.bancolombia.mcp.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Límites de las grabaciones JFR que inician los administradores con el tool
+ * {@code start_jfr_recording}
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.jfr")
+public class JfrProperties {
+
+    /**
+     * La grabación se detiene sola al cumplir este tiempo aunque nadie la detenga
+     */
+    private Duration maxDuration = Duration.ofMinutes(5);
+    /**
+     * Tamaño máximo en disco; al superarlo JFR descarta los datos más antiguos
+     */
+    private DataSize maxSize = DataSize.ofMegabytes(32);
+    /**
+     * Eventos más lentos por tipo en el resumen, si el tool no indica otro número
+     */
+    private int slowest = 10;
+}
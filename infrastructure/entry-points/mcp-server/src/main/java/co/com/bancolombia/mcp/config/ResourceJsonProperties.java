@@ -0,0 +1,23 @@
+package co.com.bancolombia.mcp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración del JSON con el que se entregan los resources MCP
+ * <p>
+ * {@code pretty} indenta la salida (útil para depurar a mano; un LLM no lo necesita y cuesta
+ * bytes y CPU). {@code blackbird} registra el módulo de Jackson que genera accesores con
+ * {@code LambdaMetafactory} en lugar de usar reflexión.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.resources.json")
+public class ResourceJsonProperties {
+
+    private boolean pretty;
+    private boolean blackbird = true;
+}
@@ -0,0 +1,35 @@
+package co.com.bancolombia.mcp.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Suscripciones a resources ({@code resources/subscribe}) y notificaciones de cambio
+ * <p>
+ * Requiere el protocolo {@code STREAMABLE}: en modo {@code STATELESS} no hay sesiones a las que
+ * notificar y las suscripciones se rechazan.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.resources.subscriptions")
+public class ResourceSubscriptionProperties {
+
+    private boolean enabled = true;
+    private int maxPerSession = 500;
+    /**
+     * Sesiones seguidas a la vez; al superarlo se olvidan las menos usadas
+     */
+    private long maxSessions = 10_000;
+    /**
+     * Inactividad tras la cual se olvida una sesión que no envió {@code DELETE}
+     */
+    private Duration sessionIdleTimeout = Duration.ofMinutes(30);
+    /**
+     * Ventana en la que se agrupan las entidades nuevas en un solo {@code list_changed}
+     */
+    private Duration listChangedInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,31 @@
+package co.com.bancolombia.mcp.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuración de los resources {@code simpsons://}
+ * <p>
+ * {@code pass-through} activa, por tipo de recurso, la lectura del JSON del upstream filtrado en
+ * streaming en lugar de deserializar al modelo y volver a serializar. La salida tiene los mismos
+ * campos, aunque en el orden del upstream y sin los campos que este no envíe.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "mcp.resources.simpsons")
+public class SimpsonsResourcesProperties {
+
+    private PassThrough passThrough = new PassThrough();
+
+    @Setter
+    @Getter
+    public static class PassThrough {
+
+        private boolean character;
+        private boolean episode;
+        private boolean location;
+    }
+}
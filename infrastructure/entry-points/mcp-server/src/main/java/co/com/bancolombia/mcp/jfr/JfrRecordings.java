@@ -0,0 +1,158 @@
+package co.com.bancolombia.mcp.jfr;
+
+import co.com.bancolombia.mcp.audit.McpCallEvent;
+import co.com.bancolombia.mcp.config.JfrProperties;
+import co.com.bancolombia.model.jfr.JfrEventNames;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.ValueDescriptor;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Grabación JFR bajo demanda de las llamadas MCP y de los intercambios con el upstream
+ * <p>
+ * Solo hay una grabación a la vez y solo habilita los eventos propios ({@link McpCallEvent} y el
+ * evento del adaptador REST, que se habilita por su nombre publicado en {@link JfrEventNames}),
+ * así que fuera de ella esos eventos ni siquiera se crean. La grabación está acotada por
+ * {@code mcp.jfr.max-duration} y {@code mcp.jfr.max-size}. Al detenerla se vuelca a un archivo
+ * temporal, se recorre una vez con un heap por tipo de evento para quedarse con los más lentos y
+ * el archivo se borra.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JfrRecordings {
+
+    private static final String RECORDING_NAME = "mcp-calls";
+    private static final Set<String> STANDARD_FIELDS =
+            Set.of("startTime", "duration", "eventThread", "stackTrace");
+    private static final Comparator<RecordedEvent> BY_DURATION =
+            Comparator.comparing(RecordedEvent::getDuration);
+
+    private final JfrProperties properties;
+    private Recording recording;
+
+    /**
+     * Inicia la grabación; una grabación anterior que terminó por tiempo y no se resumió se
+     * descarta
+     *
+     * @throws IllegalStateException si ya hay una grabación en curso
+     */
+    public synchronized Instant start() {
+        if (recording != null) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                throw new IllegalStateException("Ya hay una grabación JFR en curso");
+            }
+            recording.close();
+        }
+        Recording created = new Recording();
+        created.setName(RECORDING_NAME);
+        created.enable(McpCallEvent.class).withoutStackTrace();
+        created.enable(JfrEventNames.UPSTREAM_EXCHANGE).withoutStackTrace();
+        created.setDuration(properties.getMaxDuration());
+        created.setMaxSize(properties.getMaxSize().toBytes());
+        created.setToDisk(true);
+        created.start();
+        recording = created;
+        log.info("🎬 [JFR] Grabación iniciada (máximo {} / {})", properties.getMaxDuration(),
+                properties.getMaxSize());
+        return created.getStartTime();
+    }
+
+    /**
+     * Detiene la grabación (si no terminó ya por tiempo) y resume los {@code limit} eventos más
+     * lentos de cada tipo
+     *
+     * @throws IllegalStateException si no hay grabación que detener
+     */
+    public synchronized RecordingSummary stop(int limit) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No hay una grabación JFR en curso");
+        }
+        Recording finished = recording;
+        recording = null;
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        try (finished) {
+            if (finished.getState() == RecordingState.RUNNING) {
+                finished.stop();
+            }
+            finished.dump(file);
+            RecordingSummary summary = summarize(file, finished.getStartTime(),
+                    finished.getStopTime(), limit);
+            log.info("🎬 [JFR] Grabación detenida: {}", summary.events());
+            return summary;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static RecordingSummary summarize(Path file, Instant startedAt, Instant stoppedAt,
+            int limit) throws IOException {
+        Map<String, Long> counts = new TreeMap<>();
+        Map<String, PriorityQueue<RecordedEvent>> slowest = new HashMap<>();
+        try (RecordingFile events = new RecordingFile(file)) {
+            while (events.hasMoreEvents()) {
+                RecordedEvent event = events.readEvent();
+                String name = event.getEventType().getName();
+                counts.merge(name, 1L, Long::sum);
+                PriorityQueue<RecordedEvent> heap = slowest.computeIfAbsent(name,
+                        key -> new PriorityQueue<>(limit + 1, BY_DURATION));
+                heap.offer(event);
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+        }
+        return new RecordingSummary(startedAt, stoppedAt, counts,
+                ranked(slowest.get(McpCallEvent.NAME)),
+                ranked(slowest.get(JfrEventNames.UPSTREAM_EXCHANGE)));
+    }
+
+    private static List<RecordingSummary.SlowEvent> ranked(PriorityQueue<RecordedEvent> heap) {
+        if (heap == null) {
+            return List.of();
+        }
+        List<RecordingSummary.SlowEvent> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(slowEvent(heap.poll()));
+        }
+        return ranked.reversed();
+    }
+
+    private static RecordingSummary.SlowEvent slowEvent(RecordedEvent event) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (ValueDescriptor field : event.getFields()) {
+            if (!STANDARD_FIELDS.contains(field.getName())) {
+                fields.put(field.getName(), event.getValue(field.getName()));
+            }
+        }
+        return new RecordingSummary.SlowEvent(event.getStartTime(),
+                event.getDuration().toNanos() / 1_000_000.0, fields);
+    }
+}
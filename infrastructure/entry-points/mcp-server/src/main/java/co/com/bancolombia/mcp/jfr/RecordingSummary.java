@@ -0,0 +1,23 @@
+package co.com.bancolombia.mcp.jfr;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resumen de una grabación JFR: eventos por tipo y los más lentos de cada uno
+ *
+ * @param events           número de eventos grabados por nombre de evento
+ * @param slowestCalls     llamadas MCP más lentas, de mayor a menor duración
+ * @param slowestExchanges intercambios con el upstream más lentos, de mayor a menor duración
+ */
+public record RecordingSummary(Instant startedAt, Instant stoppedAt, Map<String, Long> events,
+        List<SlowEvent> slowestCalls, List<SlowEvent> slowestExchanges) {
+
+    /**
+     * Un evento con su inicio, su duración y el resto de sus campos (tool, cliente, resultado,
+     * bytes, acierto de caché...)
+     */
+    public record SlowEvent(Instant startTime, double durationMs, Map<String, Object> fields) {
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.bancolombia.mcp.json;
+
+import co.com.bancolombia.mcp.config.ResourceJsonProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
+import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Serializa a JSON el contenido de los resources MCP
+ * <p>
+ * Usa una copia del {@link ObjectMapper} de la aplicación (no cambia cómo se serializan los
+ * tools) con un {@link ObjectWriter} ya construido por tipo de payload, en modo compacto o
+ * indentado según {@code mcp.resources.json.pretty}. Los buffers de escritura salen de un pool
+ * compartido entre hilos, de modo que los event loops y el {@code boundedElastic} reutilizan los
+ * mismos en lugar de mantener uno por hilo.
+ * <p>
+ * Los documentos que ya llegan serializados (pass-through, siempre compactos) pasan por
+ * {@link #document}, que solo los reescribe indentados en modo pretty; así un único switch
+ * decide el formato de todo el JSON de los resources.
+ * <p>
+ * Cada serialización es una observación {@value #OBSERVATION} con el tipo serializado, hija del
+ * span de la llamada MCP en curso.
+ */
+@Component
+public class ResourceJsonRenderer {
+
+    public static final String OBSERVATION = "mcp.resource.render";
+
+    /**
+     * Tipos con writer precalentado al arrancar; el resto se crea en la primera serialización
+     */
+    private static final List<Class<?>> KNOWN_TYPES = List.of(SimpsonsCharacter.class,
+            SimpsonsEpisode.class, SimpsonsLocation.class, UserInfo.class);
+
+    private final ObjectMapper mapper;
+    private final ObservationRegistry observationRegistry;
+    private final boolean pretty;
+    private final ConcurrentMap<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    public ResourceJsonRenderer(ObjectMapper applicationMapper, ResourceJsonProperties properties,
+            ObservationRegistry observationRegistry) {
+        JsonFactory factory = JsonFactory.builder()
+                .recyclerPool(JsonRecyclerPools.sharedConcurrentDequePool())
+                .build();
+        this.mapper = applicationMapper.copyWith(factory);
+        if (properties.isBlackbird()) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        this.observationRegistry = observationRegistry;
+        this.pretty = properties.isPretty();
+        KNOWN_TYPES.forEach(this::writerFor);
+    }
+
+    public String render(Object value) {
+        return Observation.createNotStarted(OBSERVATION, observationRegistry)
+                .lowCardinalityKeyValue("type", value.getClass().getSimpleName())
+                .observe(() -> write(value));
+    }
+
+    /**
+     * JSON ya serializado y compacto; en modo pretty se reescribe indentado
+     */
+    public String document(String json) {
+        if (!pretty) {
+            return json;
+        }
+        try {
+            return write(mapper.readTree(json));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return writerFor(value.getClass()).writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ObjectWriter writerFor(Class<?> type) {
+        return writers.computeIfAbsent(type, key -> {
+            ObjectWriter writer = mapper.writerFor(key);
+            return pretty ? writer.withDefaultPrettyPrinter() : writer;
+        });
+    }
+}
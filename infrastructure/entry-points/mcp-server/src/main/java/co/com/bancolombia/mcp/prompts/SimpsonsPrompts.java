@@ -1,19 +1,37 @@
 package co.com.bancolombia.mcp.prompts;
 
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsNameGateway;
+import io.modelcontextprotocol.spec.McpSchema.CompleteRequest;
+import io.modelcontextprotocol.spec.McpSchema.CompleteResult;
+import io.modelcontextprotocol.spec.McpSchema.CompleteResult.CompleteCompletion;
 import io.modelcontextprotocol.spec.McpSchema.GetPromptResult;
 import io.modelcontextprotocol.spec.McpSchema.PromptMessage;
 import io.modelcontextprotocol.spec.McpSchema.Role;
 import io.modelcontextprotocol.spec.McpSchema.TextContent;
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.springaicommunity.mcp.annotation.McpArg;
+import org.springaicommunity.mcp.annotation.McpComplete;
 import org.springaicommunity.mcp.annotation.McpPrompt;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
 @Component
+@RequiredArgsConstructor
 public class SimpsonsPrompts {
 
+    /**
+     * Máximo de valores por respuesta de autocompletado según la especificación MCP
+     */
+    static final int MAX_COMPLETIONS = 100;
+
+    private static final CompleteResult NO_COMPLETIONS =
+            new CompleteResult(new CompleteCompletion(List.of(), 0, false));
+
+    private final SimpsonsNameGateway nameGateway;
+
     @McpPrompt(name = "perfil_personaje", description = "Genera un perfil detallado de un personaje de Los Simpsons")
     @PreAuthorize("hasAnyRole('MCP.PROMPT.SIMPSONS', 'MCP.ADMIN')")
     public Mono<GetPromptResult> characterProfile(
@@ -48,4 +66,32 @@ public class SimpsonsPrompts {
             return new GetPromptResult("Resumen de episodio", List.of(message));
         });
     }
+
+    @McpComplete(prompt = "perfil_personaje")
+    @PreAuthorize("hasAnyRole('MCP.PROMPT.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<CompleteResult> completeCharacterProfile(CompleteRequest request) {
+        return complete(request, "nombre", SimpsonsEntityType.CHARACTER);
+    }
+
+    @McpComplete(prompt = "resumen_episodio")
+    @PreAuthorize("hasAnyRole('MCP.PROMPT.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<CompleteResult> completeEpisodeSummary(CompleteRequest request) {
+        return complete(request, "episodio", SimpsonsEntityType.EPISODE);
+    }
+
+    /**
+     * Sugiere nombres del catálogo para {@code argument}; el resto de argumentos del prompt son
+     * texto libre y no tienen sugerencias
+     */
+    private Mono<CompleteResult> complete(CompleteRequest request, String argument,
+            SimpsonsEntityType type) {
+        if (request.argument() == null || !argument.equals(request.argument().name())) {
+            return Mono.just(NO_COMPLETIONS);
+        }
+        // Un valor de más indica si hay más coincidencias de las que caben en la respuesta
+        return nameGateway.completeNames(type, request.argument().value(), MAX_COMPLETIONS + 1)
+                .map(names -> new CompleteResult(new CompleteCompletion(
+                        names.subList(0, Math.min(names.size(), MAX_COMPLETIONS)), null,
+                        names.size() > MAX_COMPLETIONS)));
+    }
 }
@@ -1,12 +1,20 @@
 package co.com.bancolombia.mcp.resources;
 
+import co.com.bancolombia.mcp.cache.McpCacheable;
+import co.com.bancolombia.mcp.config.SimpsonsResourcesProperties;
+import co.com.bancolombia.mcp.json.ResourceJsonRenderer;
+import co.com.bancolombia.model.simpsons.SimpsonsImage;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsDocumentGateway;
 import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsImageGateway;
+import io.modelcontextprotocol.spec.McpSchema.BlobResourceContents;
 import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
-import lombok.SneakyThrows;
 import org.springaicommunity.mcp.annotation.McpResource;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,39 +26,91 @@ import reactor.core.publisher.Mono;
 public class SimpsonsResources {
 
     private final SimpsonsGateway simpsonsGateway;
-    private final ObjectMapper objectMapper;
+    private final SimpsonsDocumentGateway documentGateway;
+    private final SimpsonsImageGateway imageGateway;
+    private final SimpsonsResourcesProperties properties;
+    private final ResourceJsonRenderer jsonRenderer;
 
     @McpResource(uri = "simpsons://character/{id}", name = "simpsons-character", description = "Recurso que representa un personaje de Los Simpsons")
     @PreAuthorize("hasAnyRole('MCP.RESOURCE.SIMPSONS', 'MCP.ADMIN')")
+    @McpCacheable(ttl = "10m", maximumSize = 5_000)
     public Mono<ReadResourceResult> getCharacterResource(String id) {
+        if (properties.getPassThrough().isCharacter()) {
+            return documentGateway.getCharacterDocument(Integer.parseInt(id))
+                    .map(json -> createDocumentResult("simpsons://character/" + id,
+                            jsonRenderer.document(json)));
+        }
         return simpsonsGateway.getCharacterById(Integer.parseInt(id))
                 .map(character -> createResourceResult("simpsons://character/" + id, character));
     }
 
     @McpResource(uri = "simpsons://episode/{id}", name = "simpsons-episode", description = "Recurso que representa un episodio de Los Simpsons")
     @PreAuthorize("hasAnyRole('MCP.RESOURCE.SIMPSONS', 'MCP.ADMIN')")
+    @McpCacheable(ttl = "10m", maximumSize = 5_000)
     public Mono<ReadResourceResult> getEpisodeResource(String id) {
+        if (properties.getPassThrough().isEpisode()) {
+            return documentGateway.getEpisodeDocument(Integer.parseInt(id))
+                    .map(json -> createDocumentResult("simpsons://episode/" + id,
+                            jsonRenderer.document(json)));
+        }
         return simpsonsGateway.getEpisodeById(Integer.parseInt(id))
                 .map(episode -> createResourceResult("simpsons://episode/" + id, episode));
     }
 
     @McpResource(uri = "simpsons://location/{id}", name = "simpsons-location", description = "Recurso que representa una ubicación en Springfield")
     @PreAuthorize("hasAnyRole('MCP.RESOURCE.SIMPSONS', 'MCP.ADMIN')")
+    @McpCacheable(ttl = "10m", maximumSize = 5_000)
     public Mono<ReadResourceResult> getLocationResource(String id) {
+        if (properties.getPassThrough().isLocation()) {
+            return documentGateway.getLocationDocument(Integer.parseInt(id))
+                    .map(json -> createDocumentResult("simpsons://location/" + id,
+                            jsonRenderer.document(json)));
+        }
         return simpsonsGateway.getLocationById(Integer.parseInt(id))
                 .map(location -> createResourceResult("simpsons://location/" + id, location));
     }
 
+    /**
+     * Las imágenes no pasan por {@link McpCacheable}: ya viven en la caché en disco y guardar su
+     * base64 en memoria solo duplicaría megabytes por entrada
+     */
+    @McpResource(uri = "simpsons://portrait/{id}", name = "simpsons-portrait", description = "Retrato de un personaje de Los Simpsons (imagen en base64)", mimeType = "image/webp")
+    @PreAuthorize("hasAnyRole('MCP.RESOURCE.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<ReadResourceResult> getPortraitResource(String id) {
+        return imageGateway.getCharacterPortrait(Integer.parseInt(id))
+                .map(image -> createBlobResult("simpsons://portrait/" + id, image));
+    }
+
+    @McpResource(uri = "simpsons://episode-image/{id}", name = "simpsons-episode-image", description = "Imagen de un episodio de Los Simpsons (imagen en base64)", mimeType = "image/webp")
+    @PreAuthorize("hasAnyRole('MCP.RESOURCE.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<ReadResourceResult> getEpisodeImageResource(String id) {
+        return imageGateway.getEpisodeImage(Integer.parseInt(id))
+                .map(image -> createBlobResult("simpsons://episode-image/" + id, image));
+    }
+
     private ReadResourceResult createResourceResult(String uri, Object content) {
+        return createDocumentResult(uri, jsonRenderer.render(content));
+    }
+
+    private ReadResourceResult createDocumentResult(String uri, String json) {
         return new ReadResourceResult(
                 List.of(new TextResourceContents(
                         uri,
                         MediaType.APPLICATION_JSON_VALUE,
-                        toJson(content))));
+                        json)));
     }
 
-    @SneakyThrows
-    private String toJson(Object object) {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(object);
+    /**
+     * Codifica el buffer (mapeado desde la caché en disco) directamente a base64, sin copiarlo
+     * antes a un arreglo
+     */
+    private ReadResourceResult createBlobResult(String uri, SimpsonsImage image) {
+        ByteBuffer base64 = Base64.getEncoder().encode(image.getContent().duplicate());
+        return new ReadResourceResult(
+                List.of(new BlobResourceContents(
+                        uri,
+                        image.getMimeType(),
+                        new String(base64.array(), base64.arrayOffset(), base64.remaining(),
+                                StandardCharsets.ISO_8859_1))));
     }
 }
@@ -1,11 +1,10 @@
 package co.com.bancolombia.mcp.resources;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import co.com.bancolombia.mcp.json.ResourceJsonRenderer;
 import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
 import java.util.List;
 import java.util.Map;
-import lombok.SneakyThrows;
 import org.springaicommunity.mcp.annotation.McpResource;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,10 +21,10 @@ import reactor.core.publisher.Mono;
 @Component
 public class SystemInfoResource {
 
-    private final ObjectMapper objectMapper;
+    private final ResourceJsonRenderer jsonRenderer;
 
-    public SystemInfoResource(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public SystemInfoResource(ResourceJsonRenderer jsonRenderer) {
+        this.jsonRenderer = jsonRenderer;
     }
 
     @McpResource(uri = "resource://system/info", name = "system-info", description = "Proporciona información básica del sistema y metadata del servidor MCP")
@@ -44,12 +43,7 @@ public class SystemInfoResource {
                     List.of(new TextResourceContents(
                             "resource://system/info",
                             MediaType.APPLICATION_JSON_VALUE,
-                            toJson(info))));
+                            jsonRenderer.render(info))));
         });
     }
-
-    @SneakyThrows
-    private String toJson(Object object) {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(object);
-    }
 }
\ No newline at end of file
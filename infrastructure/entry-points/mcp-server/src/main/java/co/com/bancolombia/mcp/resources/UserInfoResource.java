@@ -1,17 +1,18 @@
 package co.com.bancolombia.mcp.resources;
 
+import co.com.bancolombia.mcp.json.ResourceJsonRenderer;
 import co.com.bancolombia.model.userinfo.UserInfo;
 import co.com.bancolombia.usecase.GetUserInfoUseCase;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
 import java.util.List;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springaicommunity.mcp.annotation.McpResource;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
+import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Mono;
 
 /**
@@ -28,12 +29,15 @@ import reactor.core.publisher.Mono;
 @Component
 public class UserInfoResource {
 
-    private final ObjectMapper objectMapper;
+    private final ResourceJsonRenderer jsonRenderer;
     private final GetUserInfoUseCase getUserInfoUseCase;
+    private final ObservationRegistry observationRegistry;
 
-    public UserInfoResource(ObjectMapper objectMapper, GetUserInfoUseCase getUserInfoUseCase) {
-        this.objectMapper = objectMapper;
+    public UserInfoResource(ResourceJsonRenderer jsonRenderer,
+            GetUserInfoUseCase getUserInfoUseCase, ObservationRegistry observationRegistry) {
+        this.jsonRenderer = jsonRenderer;
         this.getUserInfoUseCase = getUserInfoUseCase;
+        this.observationRegistry = observationRegistry;
     }
 
     @McpResource(uri = "resource://users/{userId}", name = "user-info", description = "Obtiene información detallada de un usuario por su ID desde la API de Simpsons")
@@ -44,7 +48,11 @@ public class UserInfoResource {
         return parseUserId(userId)
                 .flatMap(id -> {
                     log.debug("🔍 Obteniendo información del usuario: {}", id);
-                    return getUserInfoUseCase.execute(id);
+                    // El dominio no depende de Micrometer: el span del caso de uso se abre aquí
+                    return getUserInfoUseCase.execute(id)
+                            .name("usecase")
+                            .tag("usecase", "GetUserInfoUseCase")
+                            .tap(Micrometer.observation(observationRegistry));
                 })
                 .map(userInfo -> {
                     log.info("✅ Información del usuario {} obtenida exitosamente", userId);
@@ -83,7 +91,7 @@ public class UserInfoResource {
                 List.of(new TextResourceContents(
                         "resource://users/" + userId,
                         MediaType.APPLICATION_JSON_VALUE,
-                        toJson(userInfo))));
+                        jsonRenderer.render(userInfo))));
     }
 
     /**
@@ -101,12 +109,7 @@ public class UserInfoResource {
                 List.of(new TextResourceContents(
                         "resource://users/" + userId,
                         MediaType.APPLICATION_JSON_VALUE,
-                        toJson(errorResponse))));
-    }
-
-    @SneakyThrows
-    private String toJson(Object object) {
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(object);
+                        jsonRenderer.render(errorResponse))));
     }
 
     /**
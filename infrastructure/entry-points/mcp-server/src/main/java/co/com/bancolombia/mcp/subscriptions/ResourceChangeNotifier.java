@@ -0,0 +1,117 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import co.com.bancolombia.mcp.cache.McpCacheAspect;
+import co.com.bancolombia.model.simpsons.SimpsonsChange;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsChangeGateway;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.spec.McpSchema.ResourcesUpdatedNotification;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Convierte los cambios del catálogo en notificaciones MCP
+ * <p>
+ * Por cada entidad cambiada se descartan sus entradas de {@link McpCacheAspect} y, si alguna
+ * sesión está suscrita a una de sus URIs, se envía {@code notifications/resources/updated}. Las
+ * entidades nuevas se agrupan en un único {@code notifications/resources/list_changed} por
+ * ventana.
+ * <p>
+ * El transporte streamable del SDK solo permite notificar a todas las sesiones a la vez; el
+ * registro evita emitir cuando nadie está suscrito y los clientes ignoran las URIs que no
+ * siguen.
+ * <p>
+ * Métrica: {@code mcp.resources.notifications} con tag {@code type=updated|list_changed}.
+ */
+@Slf4j
+public class ResourceChangeNotifier {
+
+    private final SimpsonsChangeGateway changeGateway;
+    private final McpAsyncServer server;
+    private final ResourceSubscriptionRegistry registry;
+    private final McpCacheAspect cache;
+    private final Duration listChangedInterval;
+    private final Counter updated;
+    private final Counter listChanged;
+    private final Disposable.Swap subscription = Disposables.swap();
+
+    public ResourceChangeNotifier(SimpsonsChangeGateway changeGateway, McpAsyncServer server,
+            ResourceSubscriptionRegistry registry, McpCacheAspect cache,
+            Duration listChangedInterval, MeterRegistry meterRegistry) {
+        this.changeGateway = changeGateway;
+        this.server = server;
+        this.registry = registry;
+        this.cache = cache;
+        this.listChangedInterval = listChangedInterval;
+        this.updated = counter(meterRegistry, "updated");
+        this.listChanged = counter(meterRegistry, "list_changed");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Flux<SimpsonsChange> changes = changeGateway.changes()
+                .doOnNext(this::evict)
+                .publish()
+                .autoConnect(2);
+
+        Flux<Void> updates = changes
+                .flatMapIterable(SubscribableResource::urisOf)
+                .filter(registry::hasSubscribers)
+                .flatMap(uri -> notify(server.notifyResourcesUpdated(
+                        new ResourcesUpdatedNotification(uri)), updated));
+        Flux<Void> additions = changes
+                .filter(SimpsonsChange::isCreated)
+                .sample(listChangedInterval)
+                .flatMap(change -> notify(server.notifyResourcesListChanged(), listChanged));
+
+        subscription.update(Flux.merge(updates, additions).subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscription.dispose();
+    }
+
+    private void evict(SimpsonsChange change) {
+        String id = String.valueOf(change.getId());
+        switch (change.getType()) {
+            case CHARACTER -> {
+                cache.evict("get_character", change.getId());
+                cache.evict("simpsons-character", id);
+            }
+            case EPISODE -> {
+                cache.evict("get_episode", change.getId());
+                cache.evict("simpsons-episode", id);
+            }
+            case LOCATION -> {
+                cache.evict("get_location", change.getId());
+                cache.evict("simpsons-location", id);
+            }
+        }
+    }
+
+    private static Mono<Void> notify(Mono<Void> notification, Counter counter) {
+        return notification
+                .doOnSuccess(unused -> counter.increment())
+                .onErrorResume(error -> {
+                    log.warn("No fue posible enviar la notificación de resources: {}",
+                            error.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String type) {
+        return Counter.builder("mcp.resources.notifications")
+                .description("Notificaciones de cambio de resources enviadas")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+}
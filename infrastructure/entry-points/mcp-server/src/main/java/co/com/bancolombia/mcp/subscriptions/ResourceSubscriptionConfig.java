@@ -0,0 +1,54 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import co.com.bancolombia.mcp.cache.McpCacheAspect;
+import co.com.bancolombia.mcp.config.ResourceSubscriptionProperties;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsChangeGateway;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.modelcontextprotocol.server.McpAsyncServer;
+import io.modelcontextprotocol.spec.McpSchema.ServerCapabilities;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Activa las suscripciones a resources cuando el servidor MCP tiene sesiones (protocolo
+ * {@code STREAMABLE})
+ */
+@Configuration
+@ConditionalOnExpression("'${spring.ai.mcp.server.protocol:SSE}' == 'STREAMABLE'"
+        + " and ${mcp.resources.subscriptions.enabled:true}")
+public class ResourceSubscriptionConfig {
+
+    /**
+     * La autoconfiguración de Spring AI siempre declara {@code subscribe=false}; este builder lo
+     * fuerza a {@code true} cuando se habilitan los resources
+     */
+    @Bean
+    public ServerCapabilities.Builder capabilitiesBuilder() {
+        return new ServerCapabilities.Builder() {
+            @Override
+            public ServerCapabilities.Builder resources(Boolean subscribe, Boolean listChanged) {
+                return super.resources(true, listChanged);
+            }
+        };
+    }
+
+    @Bean
+    @Order(0)
+    public ResourceSubscriptionFilter resourceSubscriptionFilter(
+            @Value("${spring.ai.mcp.server.streamable-http.mcp-endpoint:/mcp}") String endpoint,
+            ResourceSubscriptionRegistry registry, ObjectMapper objectMapper) {
+        return new ResourceSubscriptionFilter(endpoint, registry, objectMapper);
+    }
+
+    @Bean
+    public ResourceChangeNotifier resourceChangeNotifier(SimpsonsChangeGateway changeGateway,
+            McpAsyncServer server, ResourceSubscriptionRegistry registry, McpCacheAspect cache,
+            ResourceSubscriptionProperties properties, MeterRegistry meterRegistry) {
+        return new ResourceChangeNotifier(changeGateway, server, registry, cache,
+                properties.getListChangedInterval(), meterRegistry);
+    }
+}
@@ -0,0 +1,292 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Atiende {@code resources/subscribe} y {@code resources/unsubscribe} en el endpoint streamable
+ * <p>
+ * El SDK de MCP anuncia los mensajes pero no los enruta a ningún handler, así que se resuelven
+ * aquí, después de la cadena de seguridad, con el ID de la cabecera {@code Mcp-Session-Id}. El
+ * SDK no permite registrar handlers propios por sesión, de ahí que sea un filtro.
+ * <p>
+ * Solo se retienen en memoria cuerpos de hasta {@value #MAX_CONTROL_BODY} bytes; uno mayor no
+ * puede ser una suscripción y pasa al SDK en streaming desde ese punto. De los cuerpos pequeños
+ * solo se parsea el que contiene alguno de los dos métodos; el resto sigue intacto hacia el SDK.
+ * <p>
+ * Las sesiones se siguen según las emite el transporte: la respuesta al {@code initialize} abre la
+ * sesión en el registro, un {@code DELETE} o un 404 del transporte la cierran y cualquier otra
+ * petición renueva su actividad. Suscribirse desde una sesión que el registro no conoce responde
+ * 404, como haría el transporte.
+ */
+@Slf4j
+public class ResourceSubscriptionFilter implements WebFilter {
+
+    static final String SESSION_HEADER = "Mcp-Session-Id";
+    private static final String SUBSCRIBE = "resources/subscribe";
+    private static final String UNSUBSCRIBE = "resources/unsubscribe";
+    private static final byte[] SUBSCRIBE_MARKER = SUBSCRIBE.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] UNSUBSCRIBE_MARKER =
+            UNSUBSCRIBE.getBytes(StandardCharsets.US_ASCII);
+    /**
+     * Un {@code resources/subscribe} cabe de sobra; los cuerpos mayores no se retienen
+     */
+    static final int MAX_CONTROL_BODY = 4 * 1024;
+
+    private final String endpoint;
+    private final ResourceSubscriptionRegistry registry;
+    private final ObjectMapper objectMapper;
+
+    public ResourceSubscriptionFilter(String endpoint, ResourceSubscriptionRegistry registry,
+            ObjectMapper objectMapper) {
+        this.endpoint = endpoint;
+        this.registry = registry;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!endpoint.equals(request.getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        String sessionId = request.getHeaders().getFirst(SESSION_HEADER);
+        if (sessionId == null) {
+            if (HttpMethod.POST.equals(request.getMethod())) {
+                trackNewSession(exchange);
+            }
+            return chain.filter(exchange);
+        }
+        if (HttpMethod.DELETE.equals(request.getMethod())) {
+            registry.removeSession(sessionId);
+            return chain.filter(exchange);
+        }
+        registry.touch(sessionId);
+        forgetIfUnknown(exchange, sessionId);
+        if (!HttpMethod.POST.equals(request.getMethod())) {
+            return chain.filter(exchange);
+        }
+        return request.getBody()
+                .bufferUntil(new ByteCountExceeded(MAX_CONTROL_BODY))
+                .switchOnFirst((first, bodies) -> {
+                    List<DataBuffer> prefix = first.get();
+                    if (prefix == null || byteCount(prefix) > MAX_CONTROL_BODY) {
+                        // Vacío o demasiado grande para ser una suscripción: sigue en streaming
+                        return chain.filter(exchange.mutate()
+                                .request(replay(exchange, bodies.concatMapIterable(
+                                        Function.identity())))
+                                .build());
+                    }
+                    byte[] body = copy(prefix);
+                    if (!contains(body, SUBSCRIBE_MARKER) && !contains(body, UNSUBSCRIBE_MARKER)) {
+                        return chain.filter(exchange.mutate()
+                                .request(replay(exchange, body))
+                                .build());
+                    }
+                    return handle(exchange, chain, sessionId, body);
+                })
+                .then();
+    }
+
+    /**
+     * El transporte devuelve el ID de una sesión nueva en la respuesta del {@code initialize}
+     */
+    private void trackNewSession(ServerWebExchange exchange) {
+        var response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            String issued = response.getHeaders().getFirst(SESSION_HEADER);
+            if (issued != null) {
+                registry.openSession(issued);
+            }
+            return Mono.empty();
+        });
+    }
+
+    /**
+     * Un 404 del transporte significa que la sesión ya no existe (p. ej. tras un reinicio)
+     */
+    private void forgetIfUnknown(ServerWebExchange exchange, String sessionId) {
+        var response = exchange.getResponse();
+        response.beforeCommit(() -> {
+            if (HttpStatus.NOT_FOUND.equals(response.getStatusCode())) {
+                registry.removeSession(sessionId);
+            }
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Void> handle(ServerWebExchange exchange, WebFilterChain chain, String sessionId,
+            byte[] body) {
+        JsonNode message;
+        try {
+            message = objectMapper.readTree(body);
+        } catch (IOException e) {
+            return chain.filter(exchange.mutate().request(replay(exchange, body)).build());
+        }
+        String method = message.path("method").asText();
+        if (!SUBSCRIBE.equals(method) && !UNSUBSCRIBE.equals(method)) {
+            return chain.filter(exchange.mutate().request(replay(exchange, body)).build());
+        }
+
+        JsonNode id = message.get("id");
+        String uri = message.path("params").path("uri").asText();
+        var resource = SubscribableResource.of(uri);
+        if (resource.isEmpty()) {
+            return respond(exchange, error(id, -32602, "Resource no suscribible: " + uri));
+        }
+        if (!registry.touch(sessionId)) {
+            exchange.getResponse().setStatusCode(HttpStatus.NOT_FOUND);
+            return respond(exchange, error(id, -32600, "Sesión desconocida: " + sessionId));
+        }
+        if (UNSUBSCRIBE.equals(method)) {
+            registry.unsubscribe(sessionId, uri);
+            return respond(exchange, result(id));
+        }
+        return authorities().flatMap(authorities -> {
+            if (!resource.get().readableWith(authorities)) {
+                log.warn("⛔ Suscripción denegada a {} para la sesión {}", uri, sessionId);
+                return respond(exchange, error(id, -32001, "Acceso denegado a " + uri));
+            }
+            if (!registry.subscribe(sessionId, uri)) {
+                return respond(exchange, error(id, -32000,
+                        "La sesión alcanzó el máximo de suscripciones"));
+            }
+            log.debug("🔔 Sesión {} suscrita a {}", sessionId, uri);
+            return respond(exchange, result(id));
+        });
+    }
+
+    private static Mono<Set<String>> authorities() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Authentication::getAuthorities)
+                .map(granted -> granted.stream()
+                        .map(GrantedAuthority::getAuthority)
+                        .collect(Collectors.toUnmodifiableSet()))
+                .defaultIfEmpty(Set.of());
+    }
+
+    private ObjectNode result(JsonNode id) {
+        ObjectNode response = envelope(id);
+        response.putObject("result");
+        return response;
+    }
+
+    private ObjectNode error(JsonNode id, int code, String message) {
+        ObjectNode response = envelope(id);
+        response.putObject("error").put("code", code).put("message", message);
+        return response;
+    }
+
+    private ObjectNode envelope(JsonNode id) {
+        ObjectNode response = objectMapper.createObjectNode().put("jsonrpc", "2.0");
+        response.set("id", id);
+        return response;
+    }
+
+    private Mono<Void> respond(ServerWebExchange exchange, ObjectNode response) {
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            return Mono.error(e);
+        }
+        var serverResponse = exchange.getResponse();
+        serverResponse.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return serverResponse.writeWith(Mono.just(serverResponse.bufferFactory().wrap(bytes)));
+    }
+
+    /**
+     * Devuelve al SDK el cuerpo ya leído
+     */
+    private static ServerHttpRequest replay(ServerWebExchange exchange, byte[] body) {
+        return replay(exchange,
+                Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body))));
+    }
+
+    private static ServerHttpRequest replay(ServerWebExchange exchange, Flux<DataBuffer> body) {
+        return new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return body;
+            }
+        };
+    }
+
+    private static int byteCount(List<DataBuffer> buffers) {
+        int count = 0;
+        for (DataBuffer buffer : buffers) {
+            count += buffer.readableByteCount();
+        }
+        return count;
+    }
+
+    private static byte[] copy(List<DataBuffer> buffers) {
+        byte[] body = new byte[byteCount(buffers)];
+        int offset = 0;
+        for (DataBuffer buffer : buffers) {
+            int length = buffer.readableByteCount();
+            buffer.read(body, offset, length);
+            offset += length;
+            DataBufferUtils.release(buffer);
+        }
+        return body;
+    }
+
+    private static boolean contains(byte[] body, byte[] marker) {
+        outer:
+        for (int i = 0; i <= body.length - marker.length; i++) {
+            for (int j = 0; j < marker.length; j++) {
+                if (body[i + j] != marker[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Agrupa los buffers hasta superar {@code limit} bytes; a partir de ahí cada buffer pasa solo
+     */
+    private static final class ByteCountExceeded implements Predicate<DataBuffer> {
+
+        private final int limit;
+        private int count;
+
+        private ByteCountExceeded(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public boolean test(DataBuffer buffer) {
+            count += buffer.readableByteCount();
+            return count > limit;
+        }
+    }
+}
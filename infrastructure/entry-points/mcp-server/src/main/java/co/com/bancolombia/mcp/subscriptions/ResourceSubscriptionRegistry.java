@@ -0,0 +1,120 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import co.com.bancolombia.mcp.config.ResourceSubscriptionProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Suscripciones activas a resources, indexadas por URI y por sesión MCP
+ * <p>
+ * El índice por URI responde en O(1) si un cambio tiene a quién notificar; el índice por sesión
+ * permite limitar las suscripciones de cada cliente y limpiarlas todas cuando la sesión termina.
+ * Las actualizaciones de cada URI se hacen con {@code compute}, así que una baja concurrente con
+ * un alta no puede perder la suscripción.
+ * <p>
+ * Solo se aceptan sesiones abiertas con {@link #openSession(String)}, es decir, las que emitió el
+ * transporte del SDK. Una sesión sin actividad durante {@code sessionIdleTimeout} se olvida junto
+ * con sus suscripciones, y como máximo se siguen {@code maxSessions} sesiones: un cliente que
+ * nunca envía {@code DELETE} no retiene memoria indefinidamente.
+ * <p>
+ * Métricas: gauges {@code mcp.resources.subscriptions} con el número de URIs suscritas y
+ * {@code mcp.resources.subscriptions.sessions} con las sesiones seguidas.
+ */
+@Component
+public class ResourceSubscriptionRegistry {
+
+    private final ConcurrentMap<String, Set<String>> sessionsByUri = new ConcurrentHashMap<>();
+    private final Cache<String, Set<String>> urisBySession;
+    private final int maxPerSession;
+
+    public ResourceSubscriptionRegistry(ResourceSubscriptionProperties properties,
+            MeterRegistry meterRegistry) {
+        this.maxPerSession = properties.getMaxPerSession();
+        this.urisBySession = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getSessionIdleTimeout())
+                .maximumSize(properties.getMaxSessions())
+                .scheduler(Scheduler.systemScheduler())
+                .executor(Runnable::run)
+                .<String, Set<String>>removalListener((sessionId, uris, cause) -> {
+                    if (uris != null) {
+                        uris.forEach(uri -> detach(uri, sessionId));
+                    }
+                })
+                .build();
+        Gauge.builder("mcp.resources.subscriptions", sessionsByUri, ConcurrentMap::size)
+                .description("URIs de resources con al menos una suscripción")
+                .register(meterRegistry);
+        Gauge.builder("mcp.resources.subscriptions.sessions", urisBySession,
+                        Cache::estimatedSize)
+                .description("Sesiones MCP seguidas por el registro de suscripciones")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Empieza a seguir una sesión recién emitida por el transporte
+     */
+    public void openSession(String sessionId) {
+        urisBySession.get(sessionId, key -> ConcurrentHashMap.newKeySet());
+    }
+
+    /**
+     * Marca actividad de la sesión; {@code false} si no se conoce o ya expiró
+     */
+    public boolean touch(String sessionId) {
+        return urisBySession.getIfPresent(sessionId) != null;
+    }
+
+    /**
+     * Registra la suscripción; {@code false} si la sesión no se conoce o ya alcanzó su máximo
+     */
+    public boolean subscribe(String sessionId, String uri) {
+        Set<String> uris = urisBySession.getIfPresent(sessionId);
+        if (uris == null || (!uris.contains(uri) && uris.size() >= maxPerSession)) {
+            return false;
+        }
+        if (uris.add(uri)) {
+            sessionsByUri.compute(uri, (key, sessions) -> {
+                Set<String> updated = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+                updated.add(sessionId);
+                return updated;
+            });
+        }
+        return true;
+    }
+
+    public void unsubscribe(String sessionId, String uri) {
+        Set<String> uris = urisBySession.getIfPresent(sessionId);
+        if (uris != null && uris.remove(uri)) {
+            detach(uri, sessionId);
+        }
+    }
+
+    public void removeSession(String sessionId) {
+        urisBySession.invalidate(sessionId);
+    }
+
+    public boolean hasSubscribers(String uri) {
+        return sessionsByUri.containsKey(uri);
+    }
+
+    /**
+     * Aplica las expiraciones pendientes
+     */
+    void cleanUp() {
+        urisBySession.cleanUp();
+    }
+
+    private void detach(String uri, String sessionId) {
+        sessionsByUri.computeIfPresent(uri, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
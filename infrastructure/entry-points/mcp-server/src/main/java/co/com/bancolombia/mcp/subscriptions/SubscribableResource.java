@@ -0,0 +1,60 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import co.com.bancolombia.model.simpsons.SimpsonsChange;
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Plantillas de resource que admiten {@code resources/subscribe}, con el rol que exige su lectura
+ * (el mismo del {@code @PreAuthorize} del resource) y el cambio del catálogo que las afecta
+ */
+enum SubscribableResource {
+
+    CHARACTER("simpsons://character/", "MCP.RESOURCE.SIMPSONS", SimpsonsEntityType.CHARACTER),
+    EPISODE("simpsons://episode/", "MCP.RESOURCE.SIMPSONS", SimpsonsEntityType.EPISODE),
+    LOCATION("simpsons://location/", "MCP.RESOURCE.SIMPSONS", SimpsonsEntityType.LOCATION),
+    // resource://users/{id} se construye a partir del personaje con el mismo ID
+    USER("resource://users/", "MCP.RESOURCE.USER.READ", SimpsonsEntityType.CHARACTER);
+
+    private static final Pattern POSITIVE_ID = Pattern.compile("[1-9]\\d{0,9}");
+    private static final String ADMIN_AUTHORITY = "ROLE_MCP.ADMIN";
+
+    private final String prefix;
+    private final String authority;
+    private final SimpsonsEntityType changeType;
+
+    SubscribableResource(String prefix, String role, SimpsonsEntityType changeType) {
+        this.prefix = prefix;
+        this.authority = "ROLE_" + role;
+        this.changeType = changeType;
+    }
+
+    static Optional<SubscribableResource> of(String uri) {
+        for (SubscribableResource resource : values()) {
+            if (uri.startsWith(resource.prefix)
+                    && POSITIVE_ID.matcher(uri).region(resource.prefix.length(), uri.length())
+                    .matches()) {
+                return Optional.of(resource);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * URIs afectadas por un cambio del catálogo
+     */
+    static List<String> urisOf(SimpsonsChange change) {
+        return Arrays.stream(values())
+                .filter(resource -> resource.changeType == change.getType())
+                .map(resource -> resource.prefix + change.getId())
+                .toList();
+    }
+
+    boolean readableWith(Collection<String> authorities) {
+        return authorities.contains(authority) || authorities.contains(ADMIN_AUTHORITY);
+    }
+}
@@ -0,0 +1,50 @@
+package co.com.bancolombia.mcp.tools;
+
+import co.com.bancolombia.mcp.config.JfrProperties;
+import co.com.bancolombia.mcp.jfr.JfrRecordings;
+import co.com.bancolombia.mcp.jfr.RecordingSummary;
+import lombok.RequiredArgsConstructor;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springaicommunity.mcp.annotation.McpToolParam;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Tools de administración para perfilar el servidor con JFR sin reiniciarlo
+ * <p>
+ * Iniciar y detener la grabación escribe y lee archivos, por eso se ejecuta en
+ * {@code boundedElastic}.
+ */
+@Component
+@RequiredArgsConstructor
+public class JfrRecordingTool {
+
+    private static final int MAX_SLOWEST = 100;
+
+    private final JfrRecordings recordings;
+    private final JfrProperties properties;
+
+    @McpTool(name = "start_jfr_recording", description = "Inicia una grabación JFR acotada de las llamadas MCP y de las peticiones al upstream (solo administradores)")
+    @PreAuthorize("hasRole('MCP.ADMIN')")
+    public Mono<String> startRecording() {
+        return Mono.fromCallable(recordings::start)
+                .map(startedAt -> "Grabación JFR iniciada en " + startedAt
+                        + "; se detiene sola tras " + properties.getMaxDuration())
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @McpTool(name = "stop_jfr_recording", description = "Detiene la grabación JFR y devuelve las llamadas MCP y peticiones al upstream más lentas (solo administradores)")
+    @PreAuthorize("hasRole('MCP.ADMIN')")
+    public Mono<RecordingSummary> stopRecording(
+            @McpToolParam(description = "Eventos más lentos por tipo (por defecto 10, máximo 100)", required = false) Integer limit) {
+        int slowest = limit == null ? properties.getSlowest() : limit;
+        if (slowest < 1 || slowest > MAX_SLOWEST) {
+            return Mono.error(new IllegalArgumentException(
+                    "limit debe estar entre 1 y " + MAX_SLOWEST));
+        }
+        return Mono.fromCallable(() -> recordings.stop(slowest))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,57 @@
+package co.com.bancolombia.mcp.tools;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Página devuelta por los tools de listado
+ * <p>
+ * {@code nextCursor} es opaco para el cliente (codifica la posición del siguiente elemento) y es
+ * nulo en la última página.
+ */
+public record ListPage<T>(List<T> items, String nextCursor) {
+
+    private static final String PREFIX = "offset:";
+    /**
+     * Mayor posición aceptada en un cursor; ningún listado del catálogo se le acerca
+     */
+    static final long MAX_OFFSET = Integer.MAX_VALUE;
+
+    /**
+     * Construye la página a partir de hasta {@code limit + 1} elementos: si sobra uno, hay más
+     * elementos después y se genera el cursor
+     */
+    static <T> ListPage<T> of(List<T> fetched, long offset, int limit) {
+        if (fetched.size() <= limit) {
+            return new ListPage<>(fetched, null);
+        }
+        return new ListPage<>(fetched.subList(0, limit), encodeCursor(offset + limit));
+    }
+
+    static String encodeCursor(long offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Posición codificada en el cursor; un cursor vacío es el inicio del listado
+     *
+     * @throws IllegalArgumentException si el cursor no fue generado por este servidor o su
+     *                                  posición está fuera de rango
+     */
+    static long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        if (!decoded.startsWith(PREFIX)) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        long offset = Long.parseLong(decoded.substring(PREFIX.length()));
+        if (offset < 0 || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+        return offset;
+    }
+}
@@ -1,24 +1,47 @@
 package co.com.bancolombia.mcp.tools;
 
+import co.com.bancolombia.mcp.cache.McpCacheable;
 import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
 import co.com.bancolombia.model.simpsons.SimpsonsEpisode;
 import co.com.bancolombia.model.simpsons.SimpsonsLocation;
+import co.com.bancolombia.model.simpsons.SimpsonsSearchHit;
 import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsSearchGateway;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
 import org.springaicommunity.mcp.annotation.McpTool;
 import org.springaicommunity.mcp.annotation.McpToolParam;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
 @RequiredArgsConstructor
 public class SimpsonsTools {
 
+    /**
+     * Máximo de IDs por llamada a los tools por lote
+     */
+    static final int MAX_BATCH_SIZE = 50;
+
+    /**
+     * Elementos por página de los tools de listado: por defecto y máximo
+     */
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
     private final SimpsonsGateway simpsonsGateway;
+    private final SimpsonsSearchGateway searchGateway;
 
     @McpTool(name = "get_character", description = "Obtiene información detallada de un personaje de Los Simpsons por su ID")
     @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    @McpCacheable(ttl = "10m", maximumSize = 5_000)
     public Mono<SimpsonsCharacter> getCharacter(
             @McpToolParam(description = "ID del personaje") int id) {
         return simpsonsGateway.getCharacterById(id);
@@ -26,6 +49,7 @@ public class SimpsonsTools {
 
     @McpTool(name = "get_episode", description = "Obtiene información detallada de un episodio de Los Simpsons por su ID")
     @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    @McpCacheable(ttl = "10m", maximumSize = 5_000)
     public Mono<SimpsonsEpisode> getEpisode(
             @McpToolParam(description = "ID del episodio") int id) {
         return simpsonsGateway.getEpisodeById(id);
@@ -33,8 +57,111 @@ public class SimpsonsTools {
 
     @McpTool(name = "get_location", description = "Obtiene información detallada de una ubicación de Springfield por su ID")
     @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    @McpCacheable(ttl = "10m", maximumSize = 5_000)
     public Mono<SimpsonsLocation> getLocation(
             @McpToolParam(description = "ID de la ubicación") int id) {
         return simpsonsGateway.getLocationById(id);
     }
+
+    @McpTool(name = "get_characters", description = "Obtiene varios personajes de Los Simpsons en una sola llamada. Omite los IDs inexistentes (máximo 50 IDs)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<List<SimpsonsCharacter>> getCharacters(
+            @McpToolParam(description = "IDs de los personajes") List<Integer> ids) {
+        return batch(ids, simpsonsGateway::getCharactersByIds);
+    }
+
+    @McpTool(name = "get_episodes", description = "Obtiene varios episodios de Los Simpsons en una sola llamada. Omite los IDs inexistentes (máximo 50 IDs)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<List<SimpsonsEpisode>> getEpisodes(
+            @McpToolParam(description = "IDs de los episodios") List<Integer> ids) {
+        return batch(ids, simpsonsGateway::getEpisodesByIds);
+    }
+
+    @McpTool(name = "get_locations", description = "Obtiene varias ubicaciones de Springfield en una sola llamada. Omite los IDs inexistentes (máximo 50 IDs)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<List<SimpsonsLocation>> getLocations(
+            @McpToolParam(description = "IDs de las ubicaciones") List<Integer> ids) {
+        return batch(ids, simpsonsGateway::getLocationsByIds);
+    }
+
+    @McpTool(name = "list_characters", description = "Lista los personajes de Los Simpsons por páginas, en orden de ID. Devuelve nextCursor para pedir la siguiente página (máximo 100 por página)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<ListPage<SimpsonsCharacter>> listCharacters(
+            @McpToolParam(description = "Cursor devuelto por la llamada anterior; vacío para empezar", required = false) String cursor,
+            @McpToolParam(description = "Elementos por página (por defecto 20, máximo 100)", required = false) Integer limit) {
+        return page(cursor, limit, simpsonsGateway::listCharacters);
+    }
+
+    @McpTool(name = "list_episodes", description = "Lista los episodios de Los Simpsons por páginas, en orden de ID. Devuelve nextCursor para pedir la siguiente página (máximo 100 por página)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<ListPage<SimpsonsEpisode>> listEpisodes(
+            @McpToolParam(description = "Cursor devuelto por la llamada anterior; vacío para empezar", required = false) String cursor,
+            @McpToolParam(description = "Elementos por página (por defecto 20, máximo 100)", required = false) Integer limit) {
+        return page(cursor, limit, simpsonsGateway::listEpisodes);
+    }
+
+    @McpTool(name = "list_locations", description = "Lista las ubicaciones de Springfield por páginas, en orden de ID. Devuelve nextCursor para pedir la siguiente página (máximo 100 por página)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<ListPage<SimpsonsLocation>> listLocations(
+            @McpToolParam(description = "Cursor devuelto por la llamada anterior; vacío para empezar", required = false) String cursor,
+            @McpToolParam(description = "Elementos por página (por defecto 20, máximo 100)", required = false) Integer limit) {
+        return page(cursor, limit, simpsonsGateway::listLocations);
+    }
+
+    @McpTool(name = "search_simpsons", description = "Busca personajes, episodios y ubicaciones de Los Simpsons por texto libre en nombres, descripciones, ocupaciones, frases y sinopsis. Devuelve tipo, ID y nombre de cada resultado, del más al menos relevante, y nextCursor para pedir la siguiente página (máximo 100 por página)")
+    @PreAuthorize("hasAnyRole('MCP.TOOL.SIMPSONS', 'MCP.ADMIN')")
+    public Mono<ListPage<SimpsonsSearchHit>> searchSimpsons(
+            @McpToolParam(description = "Palabras a buscar") String query,
+            @McpToolParam(description = "Tipos a incluir (CHARACTER, EPISODE, LOCATION); vacío para todos", required = false) List<SimpsonsEntityType> types,
+            @McpToolParam(description = "Cursor devuelto por la llamada anterior; vacío para empezar", required = false) String cursor,
+            @McpToolParam(description = "Resultados por página (por defecto 20, máximo 100)", required = false) Integer limit) {
+        if (query == null || query.isBlank()) {
+            return Mono.error(new IllegalArgumentException("query no puede estar vacío"));
+        }
+        Set<SimpsonsEntityType> wanted = types == null || types.isEmpty()
+                ? EnumSet.allOf(SimpsonsEntityType.class)
+                : EnumSet.copyOf(types);
+        return page(cursor, limit, (offset, count) -> searchGateway.search(query, wanted,
+                (int) Math.min(offset, Integer.MAX_VALUE), count));
+    }
+
+    /**
+     * Pide al gateway un elemento más que {@code limit} para saber si hay página siguiente;
+     * {@code take} limita la demanda, así que nunca se recorre más catálogo del necesario
+     */
+    private <T> Mono<ListPage<T>> page(String cursor, Integer limit, LongFunction<Flux<T>> list) {
+        return page(cursor, limit, (offset, count) -> list.apply(offset).take(count).collectList());
+    }
+
+    private <T> Mono<ListPage<T>> page(String cursor, Integer limit, PageFetcher<T> fetcher) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "limit debe estar entre 1 y " + MAX_PAGE_SIZE));
+        }
+        return Mono.fromCallable(() -> ListPage.decodeCursor(cursor))
+                .flatMap(offset -> fetcher.fetch(offset, size + 1)
+                        .map(items -> ListPage.of(items, offset, size)));
+    }
+
+    private <T> Mono<List<T>> batch(List<Integer> ids,
+            Function<List<Integer>, Flux<T>> lookup) {
+        if (ids == null || ids.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return Mono.error(new IllegalArgumentException(
+                    "Se permiten como máximo " + MAX_BATCH_SIZE + " IDs por llamada"));
+        }
+        return lookup.apply(ids).collectList();
+    }
+
+    /**
+     * Obtiene hasta {@code count} elementos a partir de la posición {@code offset}
+     */
+    @FunctionalInterface
+    private interface PageFetcher<T> {
+
+        Mono<List<T>> fetch(long offset, int count);
+    }
 }
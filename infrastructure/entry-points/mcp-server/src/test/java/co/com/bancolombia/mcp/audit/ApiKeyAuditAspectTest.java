@@ -0,0 +1,233 @@
+package co.com.bancolombia.mcp.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import co.com.bancolombia.mcp.cache.McpCacheAspect;
+import co.com.bancolombia.mcp.cache.McpCacheable;
+import co.com.bancolombia.mcp.config.AuditProperties;
+import co.com.bancolombia.mcp.config.CallMetricsProperties;
+import co.com.bancolombia.mcp.config.JfrProperties;
+import co.com.bancolombia.mcp.config.ResourceJsonProperties;
+import co.com.bancolombia.mcp.jfr.JfrRecordings;
+import co.com.bancolombia.mcp.jfr.RecordingSummary;
+import co.com.bancolombia.mcp.json.ResourceJsonRenderer;
+import co.com.bancolombia.mcp.resources.UserInfoResource;
+import co.com.bancolombia.mcp.tools.SaludoTool;
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import co.com.bancolombia.model.userinfo.UserInfo;
+import co.com.bancolombia.usecase.GetUserInfoUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.modelcontextprotocol.spec.McpSchema.BlobResourceContents;
+import io.modelcontextprotocol.spec.McpSchema.ReadResourceResult;
+import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springaicommunity.mcp.annotation.McpTool;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("ApiKeyAuditAspect Unit Tests")
+class ApiKeyAuditAspectTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<McpAuditEvent> published = new CopyOnWriteArrayList<>();
+    private final AuditProperties auditProperties = new AuditProperties();
+    private final List<Observation.Context> observations = new CopyOnWriteArrayList<>();
+    private final ObservationRegistry observationRegistry = observationRegistry();
+    private final SaludoTool tool = proxy(new SaludoTool());
+
+    static class FailingTool {
+
+        @McpTool(name = "falla", description = "Siempre falla")
+        public Mono<String> fail() {
+            return Mono.error(new IllegalStateException("boom"));
+        }
+    }
+
+    static class CachedTool {
+
+        @McpTool(name = "cacheado", description = "Respuesta cacheable")
+        @McpCacheable(ttl = "1m")
+        public Mono<ReadResourceResult> names() {
+            return Mono.just(new ReadResourceResult(List.of(
+                    new TextResourceContents("simpsons://names", "application/json",
+                            "[\"Homer\"]"),
+                    new BlobResourceContents("simpsons://logo", "image/webp", "UklGRg=="))));
+        }
+    }
+
+    private ObservationRegistry observationRegistry() {
+        var observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+
+            @Override
+            public void onStop(Observation.Context context) {
+                observations.add(context);
+            }
+        });
+        return observationRegistry;
+    }
+
+    private <T> T proxy(T target, Object... innerAspects) {
+        var pipeline = new McpAuditPipeline(events -> Mono.empty(), auditProperties, registry) {
+            @Override
+            boolean publish(AuditRecord call) {
+                return published.add(call.toEvent());
+            }
+        };
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ApiKeyAuditAspect(pipeline,
+                new McpCallMetrics(registry, new CallMetricsProperties()), auditProperties,
+                observationRegistry));
+        for (Object aspect : innerAspects) {
+            factory.addAspect(aspect);
+        }
+        return factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Debe publicar un evento de auditoría y registrar el timer del cliente")
+    void shouldAuditAndTimeCall() {
+        StepVerifier.create(tool.saludo("Homer")
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                new TestingAuthenticationToken("dev-client", "n/a"))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertEquals(1, published.size());
+        McpAuditEvent event = published.getFirst();
+        assertEquals("TOOL", event.getType());
+        assertEquals("dev-client", event.getClientId());
+        assertEquals("SaludoTool.saludo", event.getTarget());
+        assertEquals("[Homer]", event.getArguments());
+        assertEquals(1, registry.get("mcp.calls.client")
+                .tags("type", "TOOL", "method", "SaludoTool.saludo", "client", "dev-client",
+                        "outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe auditar como anónima una llamada sin autenticación")
+    void shouldAuditAnonymousCall() {
+        StepVerifier.create(tool.saludo("Bart")).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, published.size());
+        assertEquals("anonymous", published.getFirst().getClientId());
+    }
+
+    @Test
+    @DisplayName("Debe muestrear los éxitos sin dejar de auditar los fallos ni de medir")
+    void shouldSampleSuccessesAndKeepFailures() {
+        auditProperties.getSampling().setSuccessRate(0.0);
+        FailingTool failing = proxy(new FailingTool());
+
+        StepVerifier.create(tool.saludo("Lisa")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(failing.fail()).verifyError(IllegalStateException.class);
+
+        assertEquals(1, published.size());
+        McpAuditEvent event = published.getFirst();
+        assertEquals("FailingTool.fail", event.getTarget());
+        assertFalse(event.isSuccess());
+        assertEquals("boom", event.getError());
+        assertEquals(1.0, registry.get("mcp.audit.events").tag("outcome", "sampled_out")
+                .counter().count());
+        assertEquals(1, registry.get("mcp.calls").tag("method", "SaludoTool.saludo")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe emitir el evento JFR de la llamada solo mientras hay una grabación")
+    void shouldEmitJfrEventWhileRecording() throws IOException {
+        var recordings = new JfrRecordings(new JfrProperties());
+        StepVerifier.create(tool.saludo("Marge")).expectNextCount(1).verifyComplete();
+
+        recordings.start();
+        StepVerifier.create(tool.saludo("Maggie")
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                new TestingAuthenticationToken("dev-client", "n/a"))))
+                .expectNextCount(1)
+                .verifyComplete();
+        RecordingSummary summary = recordings.stop(10);
+
+        assertEquals(1L, summary.events().get(McpCallEvent.NAME));
+        Map<String, Object> fields = summary.slowestCalls().getFirst().fields();
+        assertEquals("TOOL", fields.get("type"));
+        assertEquals("SaludoTool.saludo", fields.get("target"));
+        assertEquals("dev-client", fields.get("clientId"));
+        assertEquals("success", fields.get("outcome"));
+        assertEquals(false, fields.get("cacheHit"));
+        String greeting = "¡Hola Maggie! Bienvenido al servidor MCP de Bancolombia. "
+                + "¿En qué puedo ayudarte hoy?";
+        assertEquals((long) greeting.length(), fields.get("responseSize"));
+    }
+
+    @Test
+    @DisplayName("Debe marcar en el evento JFR los aciertos de @McpCacheable y el tamaño")
+    void shouldRecordCacheHitAndResponseSize() throws IOException {
+        CachedTool cached = proxy(new CachedTool(), new McpCacheAspect(registry));
+        var recordings = new JfrRecordings(new JfrProperties());
+
+        recordings.start();
+        StepVerifier.create(cached.names()).expectNextCount(1).verifyComplete();
+        StepVerifier.create(cached.names()).expectNextCount(1).verifyComplete();
+        RecordingSummary summary = recordings.stop(10);
+
+        List<Map<String, Object>> calls = summary.slowestCalls().stream()
+                .map(RecordingSummary.SlowEvent::fields)
+                .toList();
+        assertEquals(2, calls.size());
+        assertEquals(1, calls.stream().filter(call -> (Boolean) call.get("cacheHit")).count());
+        assertTrue(calls.stream().allMatch(call -> call.get("responseSize").equals(17L)));
+    }
+
+    @Test
+    @DisplayName("Debe abrir el span mcp.call como padre de los spans del caso de uso y del render")
+    void shouldParentNestedObservations() {
+        GetUserInfoUseCase useCase = mock(GetUserInfoUseCase.class);
+        when(useCase.execute(1))
+                .thenReturn(Mono.just(UserInfo.builder().id(1).name("Homer Simpson").build()));
+        UserInfoResource resource = proxy(new UserInfoResource(
+                new ResourceJsonRenderer(new ObjectMapper(), new ResourceJsonProperties(),
+                        observationRegistry),
+                useCase, observationRegistry));
+        // Lo que hace Spring Boot con spring.reactor.context-propagation=auto
+        ObservationThreadLocalAccessor.getInstance().setObservationRegistry(observationRegistry);
+        Hooks.enableAutomaticContextPropagation();
+        try {
+            StepVerifier.create(resource.getUserInfo("1")).expectNextCount(1).verifyComplete();
+        } finally {
+            Hooks.disableAutomaticContextPropagation();
+        }
+
+        Map<String, String> parents = observations.stream()
+                .collect(Collectors.toMap(Observation.Context::getName,
+                        context -> context.getParentObservation() == null ? "-"
+                                : context.getParentObservation().getContextView().getName()));
+        assertEquals(Map.of(ApiKeyAuditAspect.OBSERVATION, "-",
+                "usecase", ApiKeyAuditAspect.OBSERVATION,
+                ResourceJsonRenderer.OBSERVATION, ApiKeyAuditAspect.OBSERVATION), parents);
+    }
+}
@@ -0,0 +1,95 @@
+package co.com.bancolombia.mcp.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.config.AuditProperties;
+import co.com.bancolombia.model.audit.McpAuditEvent;
+import co.com.bancolombia.model.audit.gateways.McpAuditGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("McpAuditPipeline Unit Tests")
+class McpAuditPipelineTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private boolean failing;
+
+    private final McpAuditGateway gateway = events -> {
+        if (failing) {
+            return Mono.error(new IllegalStateException("db caída"));
+        }
+        batches.add(events.stream().map(McpAuditEvent::getTarget).toList());
+        return Mono.empty();
+    };
+
+    private McpAuditPipeline pipeline(int capacity, AuditProperties.Overflow overflow) {
+        var properties = new AuditProperties();
+        properties.setQueueCapacity(capacity);
+        properties.setFlushSize(2);
+        properties.setOverflow(overflow);
+        return new McpAuditPipeline(gateway, properties, registry);
+    }
+
+    private static AuditRecord event(String target) {
+        return new AuditRecord(new CallSite("TOOL", target, null), "dev-client", new Object[0],
+                0, 0, null);
+    }
+
+    private double count(String outcome) {
+        return registry.get("mcp.audit.events").tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Debe volcar la cola en lotes del tamaño configurado")
+    void shouldFlushInBatches() {
+        var pipeline = pipeline(10, AuditProperties.Overflow.DROP_NEWEST);
+        List.of("a", "b", "c", "d", "e").forEach(target -> pipeline.publish(event(target)));
+
+        StepVerifier.create(pipeline.flush()).verifyComplete();
+
+        // Tras los lotes completos, el resto espera al siguiente intervalo
+        assertEquals(List.of(List.of("a", "b"), List.of("c", "d")), batches);
+        assertEquals(4.0, count("persisted"));
+        assertEquals(1.0, registry.get("mcp.audit.queue.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Debe descartar el registro nuevo o el más antiguo con la cola llena")
+    void shouldApplyOverflowPolicy() {
+        var dropNewest = pipeline(2, AuditProperties.Overflow.DROP_NEWEST);
+        assertTrue(dropNewest.publish(event("a")));
+        assertTrue(dropNewest.publish(event("b")));
+        assertFalse(dropNewest.publish(event("c")));
+        StepVerifier.create(dropNewest.flush()).verifyComplete();
+        assertEquals(List.of(List.of("a", "b")), batches);
+
+        batches.clear();
+        var dropOldest = pipeline(2, AuditProperties.Overflow.DROP_OLDEST);
+        List.of("a", "b", "c").forEach(target -> assertTrue(dropOldest.publish(event(target))));
+        StepVerifier.create(dropOldest.flush()).verifyComplete();
+        assertEquals(List.of(List.of("b", "c")), batches);
+        assertEquals(2.0, count("dropped"));
+    }
+
+    @Test
+    @DisplayName("Debe contar como fallidos los lotes que no se pudieron guardar")
+    void shouldCountFailedBatches() {
+        var pipeline = pipeline(10, AuditProperties.Overflow.DROP_NEWEST);
+        failing = true;
+        pipeline.publish(event("a"));
+        pipeline.publish(event("b"));
+
+        StepVerifier.create(pipeline.flush()).verifyComplete();
+
+        assertEquals(2.0, count("failed"));
+        assertEquals(0.0, registry.get("mcp.audit.queue.size").gauge().value());
+    }
+}
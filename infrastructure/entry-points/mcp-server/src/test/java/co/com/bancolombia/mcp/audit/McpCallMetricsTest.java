@@ -0,0 +1,73 @@
+package co.com.bancolombia.mcp.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.config.CallMetricsProperties;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("McpCallMetrics Unit Tests")
+class McpCallMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private McpCallMetrics metrics(int maxClientTags) {
+        var properties = new CallMetricsProperties();
+        properties.setMaxClientTags(maxClientTags);
+        return new McpCallMetrics(registry, properties);
+    }
+
+    private double active() {
+        return registry.get("mcp.calls.active").tag("method", "SimpsonsTools.getCharacter")
+                .gauge().value();
+    }
+
+    @Test
+    @DisplayName("Debe registrar la duración con tags y buckets SLO y llevar las llamadas en curso")
+    void shouldRecordTimerAndActiveCalls() {
+        var metrics = metrics(10);
+
+        var meters = metrics.meters("TOOL", "SimpsonsTools.getCharacter");
+
+        long start = meters.start();
+        assertEquals(1.0, active());
+        meters.stop("dev-client", McpCallMetrics.Outcome.SUCCESS, start);
+
+        assertEquals(0.0, active());
+        Timer timer = registry.get("mcp.calls")
+                .tags("type", "TOOL", "method", "SimpsonsTools.getCharacter",
+                        "outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+        assertNull(timer.getId().getTag("client"));
+        assertTrue(Arrays.stream(timer.takeSnapshot().histogramCounts())
+                .mapToDouble(CountAtBucket::bucket)
+                .anyMatch(bucket -> bucket == 100_000_000.0));
+        Timer client = registry.get("mcp.calls.client")
+                .tags("method", "SimpsonsTools.getCharacter", "client", "dev-client")
+                .timer();
+        assertEquals(1, client.count());
+        assertEquals(0, client.takeSnapshot().histogramCounts().length);
+    }
+
+    @Test
+    @DisplayName("Debe agrupar como other los clientes por encima del límite de cardinalidad")
+    void shouldBoundClientCardinality() {
+        var meters = metrics(1).meters("TOOL", "SimpsonsTools.getCharacter");
+
+        for (String client : new String[] {"a", "b", "c", "a"}) {
+            meters.stop(client, McpCallMetrics.Outcome.SUCCESS, meters.start());
+        }
+
+        assertEquals(2, registry.get("mcp.calls.client").tag("client", "a").timer().count());
+        assertEquals(2, registry.get("mcp.calls.client")
+                .tag("client", McpCallMetrics.OTHER_CLIENT).timer().count());
+        assertEquals(4, registry.get("mcp.calls").timer().count());
+    }
+}
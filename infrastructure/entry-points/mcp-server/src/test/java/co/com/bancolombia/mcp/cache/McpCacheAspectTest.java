@@ -0,0 +1,80 @@
+package co.com.bancolombia.mcp.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import co.com.bancolombia.mcp.tools.SimpsonsTools;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsSearchGateway;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("McpCacheAspect Unit Tests")
+class McpCacheAspectTest {
+
+    private final SimpsonsGateway gateway = Mockito.mock(SimpsonsGateway.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SimpsonsTools tools = proxy(new SimpsonsTools(gateway,
+            Mockito.mock(SimpsonsSearchGateway.class)));
+
+    private SimpsonsTools proxy(SimpsonsTools target) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new McpCacheAspect(registry));
+        return factory.getProxy();
+    }
+
+    private Mono<SimpsonsCharacter> callAs(int id, String... roles) {
+        return tools.getCharacter(id).contextWrite(ReactiveSecurityContextHolder
+                .withAuthentication(new TestingAuthenticationToken("client", null, roles)));
+    }
+
+    @Test
+    @DisplayName("Debe responder desde la caché sin volver a invocar el gateway")
+    void shouldServeHitWithoutGateway() {
+        var homer = SimpsonsCharacter.builder().id(1).name("Homer Simpson").build();
+        Mockito.when(gateway.getCharacterById(1)).thenReturn(Mono.just(homer));
+
+        StepVerifier.create(callAs(1, "ROLE_MCP.TOOL.SIMPSONS")).expectNext(homer).verifyComplete();
+        StepVerifier.create(callAs(1, "ROLE_MCP.TOOL.SIMPSONS")).expectNext(homer).verifyComplete();
+
+        Mockito.verify(gateway, Mockito.times(1)).getCharacterById(1);
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "mcp.get_character")
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Debe separar las entradas por argumentos y por roles del llamante")
+    void shouldKeyByArgumentsAndRoles() {
+        Mockito.when(gateway.getCharacterById(Mockito.anyInt())).thenAnswer(invocation ->
+                Mono.just(SimpsonsCharacter.builder().id(invocation.getArgument(0)).build()));
+
+        StepVerifier.create(callAs(1, "ROLE_MCP.TOOL.SIMPSONS")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(callAs(2, "ROLE_MCP.TOOL.SIMPSONS")).expectNextCount(1).verifyComplete();
+        StepVerifier.create(callAs(1, "ROLE_MCP.ADMIN")).expectNextCount(1).verifyComplete();
+
+        Mockito.verify(gateway, Mockito.times(2)).getCharacterById(1);
+        Mockito.verify(gateway, Mockito.times(1)).getCharacterById(2);
+    }
+
+    @Test
+    @DisplayName("No debe cachear errores")
+    void shouldNotCacheErrors() {
+        Mockito.when(gateway.getCharacterById(1))
+                .thenReturn(Mono.error(new IllegalStateException("upstream caído")));
+
+        StepVerifier.create(callAs(1, "ROLE_MCP.TOOL.SIMPSONS"))
+                .expectError(IllegalStateException.class).verify();
+        StepVerifier.create(callAs(1, "ROLE_MCP.TOOL.SIMPSONS"))
+                .expectError(IllegalStateException.class).verify();
+
+        Mockito.verify(gateway, Mockito.times(2)).getCharacterById(1);
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.bancolombia.mcp.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.audit.McpCallEvent;
+import co.com.bancolombia.mcp.config.JfrProperties;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JfrRecordings Unit Tests")
+class JfrRecordingsTest {
+
+    private final JfrRecordings recordings = new JfrRecordings(new JfrProperties());
+
+    @AfterEach
+    void tearDown() {
+        recordings.close();
+    }
+
+    private static void emitCall(long millis) throws InterruptedException {
+        McpCallEvent event = new McpCallEvent();
+        event.begin();
+        Thread.sleep(millis);
+        event.commit();
+    }
+
+    @Test
+    @DisplayName("Debe resumir las llamadas más lentas de mayor a menor duración")
+    void shouldSummarizeSlowestCalls() throws IOException, InterruptedException {
+        recordings.start();
+        emitCall(1);
+        emitCall(30);
+        emitCall(15);
+
+        RecordingSummary summary = recordings.stop(2);
+
+        assertEquals(3L, summary.events().get(McpCallEvent.NAME));
+        List<RecordingSummary.SlowEvent> slowest = summary.slowestCalls();
+        assertEquals(2, slowest.size());
+        assertTrue(slowest.get(0).durationMs() >= 30);
+        assertTrue(slowest.get(1).durationMs() >= 15);
+        assertTrue(slowest.get(1).durationMs() < slowest.get(0).durationMs());
+        assertTrue(slowest.get(0).fields().containsKey("target"));
+        assertEquals(List.of(), summary.slowestExchanges());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una segunda grabación y detener una que no existe")
+    void shouldRejectInvalidTransitions() throws IOException {
+        assertThrows(IllegalStateException.class, () -> recordings.stop(10));
+
+        recordings.start();
+        assertThrows(IllegalStateException.class, recordings::start);
+        recordings.stop(10);
+
+        assertThrows(IllegalStateException.class, () -> recordings.stop(10));
+    }
+}
@@ -0,0 +1,72 @@
+package co.com.bancolombia.mcp.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.config.ResourceJsonProperties;
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ResourceJsonRenderer Unit Tests")
+class ResourceJsonRendererTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final SimpsonsCharacter homer = SimpsonsCharacter.builder()
+            .id(1).name("Homer Simpson").phrases(List.of("Doh!", "Woo-hoo!")).build();
+
+    private ResourceJsonRenderer renderer(boolean pretty, boolean blackbird) {
+        var properties = new ResourceJsonProperties();
+        properties.setPretty(pretty);
+        properties.setBlackbird(blackbird);
+        return new ResourceJsonRenderer(mapper, properties, ObservationRegistry.NOOP);
+    }
+
+    @Test
+    @DisplayName("Debe generar JSON compacto por defecto")
+    void shouldRenderCompactByDefault() {
+        String json = new ResourceJsonRenderer(mapper, new ResourceJsonProperties(),
+                ObservationRegistry.NOOP).render(homer);
+
+        assertFalse(json.contains("\n"));
+        assertEquals(mapper.valueToTree(homer), readTree(json));
+    }
+
+    @Test
+    @DisplayName("Debe indentar cuando se configura el modo pretty")
+    void shouldRenderPretty() {
+        String json = renderer(true, false).render(homer);
+
+        assertTrue(json.contains("\n"));
+        assertEquals(mapper.valueToTree(homer), readTree(json));
+    }
+
+    @Test
+    @DisplayName("Debe respetar el modo pretty también en los documentos ya serializados")
+    void shouldApplyPrettySwitchToDocuments() {
+        String compact = "{\"id\":1,\"name\":\"Homer Simpson\"}";
+
+        assertEquals(compact, renderer(false, false).document(compact));
+        String pretty = renderer(true, false).document(compact);
+        assertTrue(pretty.contains("\n"));
+        assertEquals(readTree(compact), readTree(pretty));
+    }
+
+    @Test
+    @DisplayName("Blackbird debe producir la misma salida que la serialización por reflexión")
+    void shouldMatchReflectionOutputWithBlackbird() {
+        assertEquals(renderer(false, false).render(homer), renderer(false, true).render(homer));
+    }
+
+    private Object readTree(String json) {
+        try {
+            return mapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package co.com.bancolombia.mcp.prompts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsNameGateway;
+import io.modelcontextprotocol.spec.McpSchema.CompleteRequest;
+import io.modelcontextprotocol.spec.McpSchema.PromptReference;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("SimpsonsPrompts Unit Tests")
+class SimpsonsPromptsTest {
+
+    private final SimpsonsNameGateway names = Mockito.mock(SimpsonsNameGateway.class);
+    private final SimpsonsPrompts prompts = new SimpsonsPrompts(names);
+
+    private static CompleteRequest request(String prompt, String argument, String value) {
+        return new CompleteRequest(new PromptReference(prompt),
+                new CompleteRequest.CompleteArgument(argument, value));
+    }
+
+    @Test
+    @DisplayName("Debe autocompletar el nombre del personaje desde el catálogo")
+    void shouldCompleteCharacterName() {
+        Mockito.when(names.completeNames(SimpsonsEntityType.CHARACTER, "hom",
+                        SimpsonsPrompts.MAX_COMPLETIONS + 1))
+                .thenReturn(Mono.just(List.of("Homer Simpson")));
+
+        StepVerifier.create(prompts.completeCharacterProfile(
+                        request("perfil_personaje", "nombre", "hom")))
+                .assertNext(result -> {
+                    assertEquals(List.of("Homer Simpson"), result.completion().values());
+                    assertFalse(result.completion().hasMore());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe limitar las sugerencias de episodios e indicar que hay más")
+    void shouldLimitEpisodeCompletions() {
+        List<String> episodes = IntStream.rangeClosed(1, SimpsonsPrompts.MAX_COMPLETIONS + 1)
+                .mapToObj(i -> "Episodio " + i)
+                .toList();
+        Mockito.when(names.completeNames(SimpsonsEntityType.EPISODE, "epi",
+                        SimpsonsPrompts.MAX_COMPLETIONS + 1))
+                .thenReturn(Mono.just(episodes));
+
+        StepVerifier.create(prompts.completeEpisodeSummary(
+                        request("resumen_episodio", "episodio", "epi")))
+                .assertNext(result -> {
+                    assertEquals(SimpsonsPrompts.MAX_COMPLETIONS, result.completion().values().size());
+                    assertTrue(result.completion().hasMore());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("No debe sugerir valores para argumentos de texto libre")
+    void shouldNotCompleteFreeTextArguments() {
+        StepVerifier.create(prompts.completeCharacterProfile(
+                        request("perfil_personaje", "detalle", "fam")))
+                .assertNext(result -> assertEquals(List.of(), result.completion().values()))
+                .verifyComplete();
+        Mockito.verifyNoInteractions(names);
+    }
+}
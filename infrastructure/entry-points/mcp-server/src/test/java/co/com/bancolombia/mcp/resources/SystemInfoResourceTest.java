@@ -1,6 +1,9 @@
 package co.com.bancolombia.mcp.resources;
 
+import co.com.bancolombia.mcp.config.ResourceJsonProperties;
+import co.com.bancolombia.mcp.json.ResourceJsonRenderer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import io.modelcontextprotocol.spec.McpSchema.ResourceContents;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
 import org.junit.jupiter.api.DisplayName;
@@ -11,7 +14,9 @@ import reactor.test.StepVerifier;
 class SystemInfoResourceTest {
 
     private final ObjectMapper mapper = new ObjectMapper();
-    private final SystemInfoResource resource = new SystemInfoResource(mapper);
+    private final SystemInfoResource resource = new SystemInfoResource(
+            new ResourceJsonRenderer(mapper, new ResourceJsonProperties(),
+                    ObservationRegistry.NOOP));
 
     @Test
     @DisplayName("Debe retornar información del sistema en formato JSON dentro de ReadResourceResult")
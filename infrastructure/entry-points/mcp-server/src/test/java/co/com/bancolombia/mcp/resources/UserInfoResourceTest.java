@@ -1,10 +1,13 @@
 package co.com.bancolombia.mcp.resources;
 
+import co.com.bancolombia.mcp.config.ResourceJsonProperties;
+import co.com.bancolombia.mcp.json.ResourceJsonRenderer;
 import co.com.bancolombia.model.userinfo.UserInfo;
 import co.com.bancolombia.usecase.GetUserInfoUseCase;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
 import io.modelcontextprotocol.spec.McpSchema.ResourceContents;
 import io.modelcontextprotocol.spec.McpSchema.TextResourceContents;
 import java.util.List;
@@ -19,7 +22,10 @@ class UserInfoResourceTest {
     private final ObjectMapper mapper = new ObjectMapper();
     private final GetUserInfoUseCase useCase = Mockito.mock(GetUserInfoUseCase.class);
     private final UserInfoResource resource =
-            new UserInfoResource(mapper, useCase);
+            new UserInfoResource(
+                    new ResourceJsonRenderer(mapper, new ResourceJsonProperties(),
+                            ObservationRegistry.NOOP),
+                    useCase, ObservationRegistry.NOOP);
 
     private UserInfo buildUserInfo() {
         return UserInfo.builder()
@@ -0,0 +1,148 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.config.ResourceSubscriptionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@DisplayName("ResourceSubscriptionFilter Unit Tests")
+class ResourceSubscriptionFilterTest {
+
+    private static final String SESSION = "session-1";
+    private static final String HOMER = "simpsons://character/1";
+
+    private final ResourceSubscriptionRegistry registry = new ResourceSubscriptionRegistry(
+            new ResourceSubscriptionProperties(), new SimpleMeterRegistry());
+    private final AtomicReference<String> forwarded = new AtomicReference<>();
+
+    private WebTestClient client(String... roles) {
+        var filter = new ResourceSubscriptionFilter("/mcp/stream", registry, new ObjectMapper());
+        return WebTestClient
+                .bindToWebHandler(exchange -> DataBufferUtils.join(exchange.getRequest().getBody())
+                        .doOnNext(buffer -> forwarded.set(
+                                buffer.toString(StandardCharsets.UTF_8)))
+                        .then(Mono.fromRunnable(() -> {
+                            // Como el transporte: el initialize (sin sesión) la emite
+                            if (!exchange.getRequest().getHeaders()
+                                    .containsKey(ResourceSubscriptionFilter.SESSION_HEADER)) {
+                                exchange.getResponse().getHeaders()
+                                        .set(ResourceSubscriptionFilter.SESSION_HEADER, SESSION);
+                            }
+                        }))
+                        .then(exchange.getResponse().setComplete()))
+                .webFilter((exchange, chain) -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(
+                                        new TestingAuthenticationToken("client", null, roles))),
+                        filter)
+                .build();
+    }
+
+    private WebTestClient.ResponseSpec post(WebTestClient client, String body) {
+        return client.post().uri("/mcp/stream")
+                .header(ResourceSubscriptionFilter.SESSION_HEADER, SESSION)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .exchange();
+    }
+
+    private static String request(String method, String uri) {
+        return "{\"jsonrpc\":\"2.0\",\"id\":7,\"method\":\"" + method
+                + "\",\"params\":{\"uri\":\"" + uri + "\"}}";
+    }
+
+    private void initialize(WebTestClient client) {
+        client.post().uri("/mcp/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"initialize\"}")
+                .exchange()
+                .expectHeader().valueEquals(ResourceSubscriptionFilter.SESSION_HEADER, SESSION);
+    }
+
+    @Test
+    @DisplayName("Debe registrar la suscripción y responder sin pasar por el SDK")
+    void shouldSubscribe() {
+        initialize(client("ROLE_MCP.RESOURCE.SIMPSONS"));
+        forwarded.set(null);
+        post(client("ROLE_MCP.RESOURCE.SIMPSONS"), request("resources/subscribe", HOMER))
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(7)
+                .jsonPath("$.result").isMap();
+
+        assertTrue(registry.hasSubscribers(HOMER));
+        assertEquals(null, forwarded.get());
+
+        post(client("ROLE_MCP.RESOURCE.SIMPSONS"), request("resources/unsubscribe", HOMER))
+                .expectStatus().isOk();
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar la suscripción sin el rol de lectura del resource")
+    void shouldRejectWithoutRole() {
+        registry.openSession(SESSION);
+        post(client("ROLE_MCP.TOOL.SIMPSONS"), request("resources/subscribe", HOMER))
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo(-32001);
+        post(client("ROLE_MCP.ADMIN"), request("resources/subscribe", "simpsons://quote/1"))
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo(-32602);
+
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+
+    @Test
+    @DisplayName("Debe reenviar intacto el resto de mensajes y limpiar la sesión al cerrarla")
+    void shouldForwardOtherMessages() {
+        registry.openSession(SESSION);
+        registry.subscribe(SESSION, HOMER);
+        String read = request("resources/read", HOMER);
+
+        post(client("ROLE_MCP.ADMIN"), read).expectStatus().isOk();
+        assertEquals(read, forwarded.get());
+
+        client("ROLE_MCP.ADMIN").delete().uri("/mcp/stream")
+                .header(ResourceSubscriptionFilter.SESSION_HEADER, SESSION)
+                .exchange()
+                .expectStatus().isOk();
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar con 404 la suscripción de una sesión no emitida por el transporte")
+    void shouldRejectUnknownSession() {
+        post(client("ROLE_MCP.ADMIN"), request("resources/subscribe", HOMER))
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.error.code").isEqualTo(-32600);
+
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+
+    @Test
+    @DisplayName("Debe reenviar en streaming los cuerpos mayores que una suscripción")
+    void shouldStreamLargeBodies() {
+        registry.openSession(SESSION);
+        String large = "{\"jsonrpc\":\"2.0\",\"id\":9,\"method\":\"tools/call\",\"params\":"
+                + "{\"note\":\"resources/subscribe " + "x".repeat(
+                ResourceSubscriptionFilter.MAX_CONTROL_BODY) + "\"}}";
+
+        post(client("ROLE_MCP.ADMIN"), large).expectStatus().isOk();
+
+        assertEquals(large, forwarded.get());
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+}
@@ -0,0 +1,61 @@
+package co.com.bancolombia.mcp.subscriptions;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.config.ResourceSubscriptionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ResourceSubscriptionRegistry Unit Tests")
+class ResourceSubscriptionRegistryTest {
+
+    private static final String HOMER = "simpsons://character/1";
+
+    private static ResourceSubscriptionRegistry registry(long maxSessions, Duration idleTimeout) {
+        var properties = new ResourceSubscriptionProperties();
+        properties.setMaxSessions(maxSessions);
+        properties.setSessionIdleTimeout(idleTimeout);
+        return new ResourceSubscriptionRegistry(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Debe ignorar suscripciones de sesiones no abiertas")
+    void shouldIgnoreUnknownSessions() {
+        var registry = registry(10, Duration.ofMinutes(1));
+
+        assertFalse(registry.subscribe("unknown", HOMER));
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+
+    @Test
+    @DisplayName("Debe olvidar las suscripciones de una sesión inactiva")
+    void shouldExpireIdleSessions() throws InterruptedException {
+        var registry = registry(10, Duration.ofMillis(50));
+        registry.openSession("session-1");
+        assertTrue(registry.subscribe("session-1", HOMER));
+
+        Thread.sleep(150);
+        registry.cleanUp();
+
+        assertFalse(registry.hasSubscribers(HOMER));
+        assertFalse(registry.touch("session-1"));
+    }
+
+    @Test
+    @DisplayName("Debe limitar el número de sesiones seguidas")
+    void shouldCapSessions() {
+        var registry = registry(1, Duration.ofMinutes(1));
+        registry.openSession("session-1");
+        registry.subscribe("session-1", HOMER);
+
+        registry.openSession("session-2");
+        registry.cleanUp();
+
+        assertTrue(registry.touch("session-2"));
+        assertFalse(registry.touch("session-1"));
+        assertFalse(registry.hasSubscribers(HOMER));
+    }
+}
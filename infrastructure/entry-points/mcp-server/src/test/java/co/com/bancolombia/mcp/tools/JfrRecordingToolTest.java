@@ -0,0 +1,43 @@
+package co.com.bancolombia.mcp.tools;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import co.com.bancolombia.mcp.config.JfrProperties;
+import co.com.bancolombia.mcp.jfr.JfrRecordings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+@DisplayName("JfrRecordingTool Unit Tests")
+class JfrRecordingToolTest {
+
+    private final JfrProperties properties = new JfrProperties();
+    private final JfrRecordings recordings = new JfrRecordings(properties);
+    private final JfrRecordingTool tool = new JfrRecordingTool(recordings, properties);
+
+    @AfterEach
+    void tearDown() {
+        recordings.close();
+    }
+
+    @Test
+    @DisplayName("Debe iniciar y detener la grabación devolviendo el resumen")
+    void shouldStartAndStopRecording() {
+        StepVerifier.create(tool.startRecording())
+                .assertNext(message -> assertTrue(message.startsWith("Grabación JFR iniciada")))
+                .verifyComplete();
+
+        StepVerifier.create(tool.stopRecording(null))
+                .assertNext(summary -> assertTrue(summary.slowestCalls().isEmpty()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un limit fuera de rango")
+    void shouldRejectInvalidLimit() {
+        StepVerifier.create(tool.stopRecording(0))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+}
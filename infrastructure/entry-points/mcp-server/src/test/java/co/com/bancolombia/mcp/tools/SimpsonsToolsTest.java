@@ -0,0 +1,124 @@
+package co.com.bancolombia.mcp.tools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import co.com.bancolombia.model.simpsons.SimpsonsCharacter;
+import co.com.bancolombia.model.simpsons.SimpsonsEntityType;
+import co.com.bancolombia.model.simpsons.SimpsonsSearchHit;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsGateway;
+import co.com.bancolombia.model.simpsons.gateways.SimpsonsSearchGateway;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayName("SimpsonsTools Unit Tests")
+class SimpsonsToolsTest {
+
+    private final SimpsonsGateway gateway = Mockito.mock(SimpsonsGateway.class);
+    private final SimpsonsSearchGateway searchGateway = Mockito.mock(SimpsonsSearchGateway.class);
+    private final SimpsonsTools tools = new SimpsonsTools(gateway, searchGateway);
+
+    @Test
+    @DisplayName("get_characters debe devolver todos los personajes en una sola respuesta")
+    void shouldReturnCharactersInOneResponse() {
+        var homer = SimpsonsCharacter.builder().id(1).name("Homer Simpson").build();
+        var marge = SimpsonsCharacter.builder().id(2).name("Marge Simpson").build();
+        Mockito.when(gateway.getCharactersByIds(List.of(1, 2)))
+                .thenReturn(Flux.just(homer, marge));
+
+        StepVerifier.create(tools.getCharacters(List.of(1, 2)))
+                .expectNext(List.of(homer, marge))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("get_characters debe devolver lista vacía sin consultar el gateway")
+    void shouldReturnEmptyListWithoutIds() {
+        StepVerifier.create(tools.getCharacters(List.of()))
+                .expectNext(List.of())
+                .verifyComplete();
+
+        Mockito.verifyNoInteractions(gateway);
+    }
+
+    @Test
+    @DisplayName("get_characters debe rechazar lotes demasiado grandes")
+    void shouldRejectOversizedBatch() {
+        var ids = IntStream.rangeClosed(1, SimpsonsTools.MAX_BATCH_SIZE + 1).boxed().toList();
+
+        StepVerifier.create(tools.getCharacters(ids))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        Mockito.verifyNoInteractions(gateway);
+    }
+
+    @Test
+    @DisplayName("list_characters debe paginar con cursor sin pedir más elementos de los necesarios")
+    void shouldPageWithCursor() {
+        Mockito.when(gateway.listCharacters(Mockito.anyLong())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(0);
+            return Flux.range((int) offset + 1, 5 - (int) offset)
+                    .map(id -> SimpsonsCharacter.builder().id(id).build());
+        });
+
+        var first = tools.listCharacters(null, 2).block();
+        assertEquals(List.of(1, 2), first.items().stream().map(SimpsonsCharacter::getId).toList());
+        assertNotNull(first.nextCursor());
+
+        var last = tools.listCharacters(ListPage.encodeCursor(3), 2).block();
+        assertEquals(List.of(4, 5), last.items().stream().map(SimpsonsCharacter::getId).toList());
+        assertNull(last.nextCursor());
+    }
+
+    @Test
+    @DisplayName("list_characters debe rechazar cursores y límites inválidos")
+    void shouldRejectInvalidCursorOrLimit() {
+        StepVerifier.create(tools.listCharacters("no-es-un-cursor", 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        StepVerifier.create(tools.listCharacters(ListPage.encodeCursor(Long.MAX_VALUE), 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        StepVerifier.create(tools.listCharacters(null, SimpsonsTools.MAX_PAGE_SIZE + 1))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        Mockito.verifyNoInteractions(gateway);
+    }
+
+    @Test
+    @DisplayName("search_simpsons debe paginar los resultados del índice filtrando por tipo")
+    void shouldSearchWithCursor() {
+        var homer = new SimpsonsSearchHit(SimpsonsEntityType.CHARACTER, 1, "Homer Simpson", 3.2);
+        var marge = new SimpsonsSearchHit(SimpsonsEntityType.CHARACTER, 2, "Marge Simpson", 2.9);
+        Mockito.when(searchGateway.search("simpson", EnumSet.of(SimpsonsEntityType.CHARACTER), 0, 2))
+                .thenReturn(Mono.just(List.of(homer, marge)));
+
+        var page = tools.searchSimpsons("simpson", List.of(SimpsonsEntityType.CHARACTER), null, 1)
+                .block();
+
+        assertEquals(List.of(homer), page.items());
+        assertEquals(ListPage.encodeCursor(1), page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("search_simpsons debe rechazar consultas vacías")
+    void shouldRejectBlankQuery() {
+        StepVerifier.create(tools.searchSimpsons(" ", null, null, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        Mockito.verifyNoInteractions(searchGateway);
+    }
+}